@@ -20,6 +20,7 @@ from fastapi.middleware.cors import CORSMiddleware
 
 from denticheck_ai.api.routers import chat, report, quality, detect
 from denticheck_ai.pipelines.llm.client import LlmClient
+from denticheck_ai.pipelines.rag.knowledge_version import read_version
 
 @asynccontextmanager
 async def lifespan(app: FastAPI):
@@ -74,8 +75,8 @@ app.include_router(detect.router)  # YOLO 기반 치과 질환 탐지 서비스
 
 @app.get("/health", tags=["System"])
 def health_check():
-    """서버 상태 확인용 엔드포인트"""
-    return {"status": "ok", "service": "denticheck-ai"}
+    """서버 상태 확인용 엔드포인트 (knowledgeVersion: API 서버 챗봇 답변 캐시 키에 쓰이는 지식 베이스 버전)"""
+    return {"status": "ok", "service": "denticheck-ai", "knowledgeVersion": read_version()}
 
 @app.get("/", tags=["System"])
 async def root():
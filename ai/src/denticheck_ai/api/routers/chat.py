@@ -4,11 +4,17 @@ RAG(Retrieval-Augmented Generation) 기반의 치과 지식 챗봇 API를 제공
 사용자의 질문을 받아 전문 지식 데이터베이스에서 관련 내용을 검색하고, LLM을 통해 답변을 생성합니다.
 """
 
-from fastapi import APIRouter, HTTPException
+import json
+import logging
+
+from fastapi import APIRouter, HTTPException, Request
+from fastapi.responses import StreamingResponse
 from pydantic import BaseModel
 from typing import Optional
 from denticheck_ai.pipelines.rag.service import RagService
 
+logger = logging.getLogger(__name__)
+
 # 라우터 설정: /v1/chat 경로로 시작하는 모든 API를 관리합니다.
 router = APIRouter(prefix="/v1/chat", tags=["Chat"])
 
@@ -46,3 +52,36 @@ async def ask_question(req: ChatRequest):
     answer = rag_service.ask(req.content.strip(), language=req.language or "en")
 
     return AskResponse(answer=answer, language=req.language or "en")
+
+
+@router.post("/ask/stream", summary="치과 지식 질문하기 (스트리밍)")
+async def ask_question_stream(req: ChatRequest, request: Request):
+    """
+    /ask의 스트리밍 버전입니다. 답변 조각을 NDJSON(줄 단위 JSON)으로 전송합니다.
+
+    - 진행 중: {"delta": "..."}
+    - 완료:    {"done": true}
+    - 오류:    {"error": "..."}
+
+    클라이언트(API 서버)가 연결을 끊으면 생성을 즉시 중단하여 LLM 자원을 반환합니다.
+    """
+    if not req.content or not req.content.strip():
+        raise HTTPException(status_code=400, detail="content is required.")
+
+    async def event_stream():
+        stream = rag_service.astream(req.content.strip(), language=req.language or "en")
+        try:
+            async for delta in stream:
+                if await request.is_disconnected():
+                    logger.info("chat stream cancelled by client")
+                    break
+                yield json.dumps({"delta": delta}, ensure_ascii=False) + "\n"
+            else:
+                yield json.dumps({"done": True}) + "\n"
+        except Exception as e:
+            logger.exception("chat stream failed")
+            yield json.dumps({"error": str(e)}, ensure_ascii=False) + "\n"
+        finally:
+            await stream.aclose()
+
+    return StreamingResponse(event_stream(), media_type="application/x-ndjson")
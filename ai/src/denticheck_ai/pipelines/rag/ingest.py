@@ -30,6 +30,7 @@ from langchain_milvus import Milvus
 from langchain_huggingface import HuggingFaceEmbeddings
 from langchain_core.documents import Document
 from langchain_text_splitters import RecursiveCharacterTextSplitter
+from denticheck_ai.pipelines.rag.knowledge_version import write_version
 
 # 환경 변수 로드
 load_dotenv()
@@ -117,6 +118,9 @@ def ingest_data():
         vector_db.add_documents(split_docs)
         
         print(f"성공적으로 {len(split_docs)}건의 지식 청크를 Milvus에 적재했습니다.")
+        # API 서버는 /health의 knowledgeVersion을 답변 캐시 키에 쓰므로, 버전을 바꾸면 다음 헬스체크부터 새 지식이 반영됩니다.
+        version = write_version(json_path)
+        print(f"지식 베이스 버전을 {version}(으)로 기록했습니다. API 서버 답변 캐시는 다음 헬스체크 때 갱신됩니다.")
     except Exception as e:
         import traceback
         print(f"[에러] Milvus 적재 실패: {e}")
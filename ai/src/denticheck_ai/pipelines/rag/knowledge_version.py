@@ -0,0 +1,42 @@
+"""
+[파일 역할]
+지식 베이스 버전 표식 파일을 읽고 씁니다.
+ingest.py가 적재를 마치면 원본 JSON의 해시와 적재 시각으로 버전을 기록하고, /health가 이를 knowledgeVersion으로 내보냅니다.
+API 서버는 헬스체크로 버전을 확인해 챗봇 답변 캐시 키에 사용하므로, 재적재 후 모든 API 노드의 캐시가 자동으로 바뀝니다.
+여러 AI 인스턴스가 같은 Milvus를 쓰면 KNOWLEDGE_VERSION_FILE을 공유 볼륨 경로로 지정합니다.
+"""
+
+import hashlib
+import os
+import time
+
+DEFAULT_PATH = "data/knowledge_version"
+
+
+def _path():
+    return os.getenv("KNOWLEDGE_VERSION_FILE", DEFAULT_PATH)
+
+
+def write_version(source_path):
+    """원본 파일 해시 앞 12자 + 적재 시각(epoch 초)을 버전으로 기록하고 반환합니다."""
+    with open(source_path, "rb") as f:
+        digest = hashlib.sha256(f.read()).hexdigest()[:12]
+    version = f"{digest}-{int(time.time())}"
+    path = _path()
+    directory = os.path.dirname(path)
+    if directory:
+        os.makedirs(directory, exist_ok=True)
+    tmp = path + ".tmp"
+    with open(tmp, "w", encoding="utf-8") as f:
+        f.write(version)
+    os.replace(tmp, path)  # 읽는 쪽이 반쯤 쓴 파일을 보지 않도록 원자적으로 교체
+    return version
+
+
+def read_version():
+    """기록된 버전. 아직 적재한 적이 없으면 None"""
+    try:
+        with open(_path(), "r", encoding="utf-8") as f:
+            return f.read().strip() or None
+    except OSError:
+        return None
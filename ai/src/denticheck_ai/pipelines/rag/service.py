@@ -17,6 +17,7 @@ RAG(Retrieval-Augmented Generation) 검색 결과와 Ollama(로컬 LLM)를 하
 3. Ollama 모델에 프롬프트를 전달하여 최종 답변 문장을 생성합니다.
 """
 
+import asyncio
 import os
 from typing import List
 from langchain_ollama import ChatOllama
@@ -124,6 +125,25 @@ Always answer in English only.
             return response.content
         return str(response)
 
+    async def astream(self, content: str, language: str = "en"):
+        """
+        ask()의 스트리밍 버전. 생성되는 답변 조각(토큰 단위)을 순서대로 yield 합니다.
+        호출 측에서 제너레이터를 닫으면(클라이언트 연결 종료 등) Ollama 생성도 함께 중단됩니다.
+        """
+        # 1. 관련 의학 지식 검색 (동기 호출이므로 스레드풀에서 실행)
+        contexts = await asyncio.to_thread(self.retriever.retrieve_context, content, 3)
+        context_text = "\n\n".join(contexts)
+
+        # 2. 언어별 체인으로 스트리밍 생성
+        chain = self._get_chain(language=language)
+        async for chunk in chain.astream({
+            "context": context_text,
+            "question": content
+        }):
+            text = chunk.content if hasattr(chunk, "content") else str(chunk)
+            if text:
+                yield text
+
 
 if __name__ == "__main__":
     # 라이브러리 직접 실행 시 간단한 연동 테스트 진행
@@ -0,0 +1,106 @@
+-- 커뮤니티 검색(searchPosts) 벤치마크: 게시글 100만 건 + 댓글 50만 건 합성 데이터
+--
+-- 사용법 (Flyway 마이그레이션이 끝난 로컬 DB에서, 데이터는 마지막에 ROLLBACK으로 지운다):
+--   psql -h localhost -U admin -d denticheck -f scripts/bench_community_search.sql
+--
+-- 아래 쿼리는 CommunityPostSearchRepository가 만드는 SQL과 같은 형태다.
+-- 비교용으로 인덱스를 쓰지 못하는 기존 방식(LIKE '%검색어%' + 최신순)도 함께 측정한다.
+-- 합성 데이터 생성(인덱스 갱신 포함)에 수 분이 걸린다.
+
+\timing on
+BEGIN;
+
+-- 1) 합성 데이터 ---------------------------------------------------------------
+CREATE TEMP TABLE bench_words (w TEXT) ON COMMIT DROP;
+INSERT INTO bench_words (w) VALUES
+    ('잇몸이'), ('잇몸에서'), ('치아가'), ('충치'), ('스케일링'), ('임플란트'), ('교정'), ('사랑니'),
+    ('치실'), ('칫솔'), ('치약'), ('시린'), ('피가'), ('나요'), ('아파요'), ('병원'), ('추천'), ('후기'),
+    ('가격'), ('비용'), ('보험'), ('레진'), ('크라운'), ('신경치료'), ('발치'), ('미백'), ('입냄새'),
+    ('구강'), ('검진'), ('전동칫솔'), ('워터픽'), ('가글'), ('오늘'), ('어제'), ('처음'), ('다시'),
+    ('scaling'), ('implant'), ('floss'), ('whitening');
+
+INSERT INTO community_posts (id, author_name, content, like_count, comment_count, post_type, created_at, updated_at)
+SELECT gen_random_uuid(),
+       'bench_' || (g % 5000),
+       (SELECT string_agg(w, ' ')
+          FROM (SELECT w FROM bench_words ORDER BY random() LIMIT 5 + (g % 20)) t),
+       0, 0,
+       (ARRAY['product', 'hospital', NULL])[1 + g % 3],
+       now() - (g % 730) * interval '1 day' - (g % 86400) * interval '1 second',
+       now()
+  FROM generate_series(1, 1000000) g;
+
+-- 본문 서브쿼리의 WHERE p.id IS NOT NULL: 행마다 다시 계산되도록(상관 서브쿼리) 만든다
+INSERT INTO community_comments (id, post_id, author_name, content, like_count, created_at, updated_at)
+SELECT gen_random_uuid(), p.id, 'bench_c',
+       (SELECT string_agg(w, ' ') FROM (SELECT w FROM bench_words WHERE p.id IS NOT NULL ORDER BY random() LIMIT 4) t),
+       0, p.created_at + interval '1 hour', now()
+  FROM (SELECT id, created_at FROM community_posts WHERE author_name LIKE 'bench\_%' ORDER BY random() LIMIT 500000) p;
+
+ANALYZE community_posts;
+ANALYZE community_comments;
+
+-- 2) 기존 방식 (비교 기준): 순차 스캔 ----------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id FROM community_posts p
+ WHERE p.content LIKE '%잇몸%'
+ ORDER BY p.created_at DESC, p.id DESC
+ LIMIT 10;
+
+-- 3) 두 글자 한국어 단어 (접두어 tsquery만, 조사 붙은 '잇몸이'/'잇몸에서' 매칭) --------------
+EXPLAIN (ANALYZE, BUFFERS)
+WITH q AS (SELECT to_tsquery('simple', '잇몸:*') AS tsq),
+matched AS (
+    SELECT p.id AS post_id, ts_rank_cd(p.search_vector, q.tsq, 32) + word_similarity('잇몸', p.content) AS relevance
+      FROM community_posts p, q WHERE p.search_vector @@ q.tsq
+    UNION ALL
+    SELECT c.post_id, 0.5 * (ts_rank_cd(c.search_vector, q.tsq, 32) + word_similarity('잇몸', c.content))
+      FROM community_comments c, q WHERE c.search_vector @@ q.tsq
+),
+scored AS (
+    SELECT p.id, MAX(m.relevance) + EXTRACT(EPOCH FROM p.created_at) / 2592000.0 AS score
+      FROM matched m JOIN community_posts p ON p.id = m.post_id
+     WHERE p.created_at IS NOT NULL
+     GROUP BY p.id, p.created_at
+)
+SELECT s.id, s.score FROM scored s ORDER BY s.score DESC, s.id DESC LIMIT 10;
+
+-- 4) 여러 단어 + 부분 문자열 + postType 필터 (tsquery OR 트라이그램 → BitmapOr) -----------
+EXPLAIN (ANALYZE, BUFFERS)
+WITH q AS (SELECT to_tsquery('simple', '임플란트:* & 가격:*') AS tsq),
+matched AS (
+    SELECT p.id AS post_id, ts_rank_cd(p.search_vector, q.tsq, 32) + word_similarity('임플란트 가격', p.content) AS relevance
+      FROM community_posts p, q
+     WHERE (p.search_vector @@ q.tsq OR p.content ILIKE '%임플란트 가격%')
+    UNION ALL
+    SELECT c.post_id, 0.5 * (ts_rank_cd(c.search_vector, q.tsq, 32) + word_similarity('임플란트 가격', c.content))
+      FROM community_comments c, q
+     WHERE (c.search_vector @@ q.tsq OR c.content ILIKE '%임플란트 가격%')
+),
+scored AS (
+    SELECT p.id, MAX(m.relevance) + EXTRACT(EPOCH FROM p.created_at) / 2592000.0 AS score
+      FROM matched m JOIN community_posts p ON p.id = m.post_id
+     WHERE p.created_at IS NOT NULL AND p.post_type = 'hospital'
+     GROUP BY p.id, p.created_at
+)
+SELECT s.id, s.score FROM scored s ORDER BY s.score DESC, s.id DESC LIMIT 10;
+
+-- 5) 단어 중간 부분 문자열 (트라이그램 인덱스만: '경치료' → '신경치료') ----------------------
+EXPLAIN (ANALYZE, BUFFERS)
+WITH matched AS (
+    SELECT p.id AS post_id, word_similarity('경치료', p.content) AS relevance
+      FROM community_posts p WHERE p.content ILIKE '%경치료%'
+    UNION ALL
+    SELECT c.post_id, 0.5 * word_similarity('경치료', c.content)
+      FROM community_comments c WHERE c.content ILIKE '%경치료%'
+),
+scored AS (
+    SELECT p.id, MAX(m.relevance) + EXTRACT(EPOCH FROM p.created_at) / 2592000.0 AS score
+      FROM matched m JOIN community_posts p ON p.id = m.post_id
+     WHERE p.created_at IS NOT NULL
+     GROUP BY p.id, p.created_at
+)
+SELECT s.id, s.score FROM scored s ORDER BY s.score DESC, s.id DESC LIMIT 10;
+
+-- 측정 후 합성 데이터 제거
+ROLLBACK;
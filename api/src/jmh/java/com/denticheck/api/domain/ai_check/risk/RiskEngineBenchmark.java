@@ -0,0 +1,112 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+import com.denticheck.api.domain.ai_check.dto.AiCheckRunResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 규칙 엔진 판정 vs 기존 스트림 groupingBy 방식 비교.
+ * ./gradlew jmh -Pjmh.includes=RiskEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RiskEngineBenchmark {
+
+    private static final String[] RAW_LABELS = {"caries", "cavity", "tartar", "plaque", "lesion", "normal", "unknown"};
+
+    @Param({"3", "20"})
+    private int detectionCount;
+
+    private RiskEngine riskEngine;
+    private List<AiCheckRunResponse.DetectionItem> detections;
+
+    @Setup
+    public void setUp() {
+        riskEngine = new RiskEngine(RiskEngine.load(new ClassPathResource("risk/risk-rules-v1.json"), new ObjectMapper()));
+
+        Random random = new Random(42);
+        detections = new ArrayList<>();
+        for (int i = 0; i < detectionCount; i++) {
+            detections.add(AiCheckRunResponse.DetectionItem.builder()
+                    .label(RAW_LABELS[random.nextInt(RAW_LABELS.length)])
+                    .confidence(random.nextDouble())
+                    .bbox(AiCheckRunResponse.BBox.builder()
+                            .x(random.nextDouble()).y(random.nextDouble()).w(0.1).h(0.1).build())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void engine(Blackhole bh) {
+        RiskAssessment assessment = riskEngine.assess(detections,
+                AiCheckRunResponse.DetectionItem::getLabel,
+                d -> d.getConfidence() == null ? 0.0 : d.getConfidence());
+        bh.consume(assessment.level());
+        for (int i = 0; i < assessment.findingCount(); i++) {
+            bh.consume(assessment.finding(i));
+            bh.consume(assessment.findingMaxConfidence(i));
+        }
+    }
+
+    /** 규칙 엔진 도입 전 AiLlmResultService 방식 (라벨 switch + groupingBy + 라벨별 스트림 max) */
+    @Benchmark
+    public void legacyStreams(Blackhole bh) {
+        Map<String, List<AiCheckRunResponse.DetectionItem>> grouped = detections.stream()
+                .filter(d -> d.getLabel() != null)
+                .map(d -> AiCheckRunResponse.DetectionItem.builder()
+                        .label(legacyNormalize(d.getLabel()))
+                        .confidence(d.getConfidence())
+                        .bbox(d.getBbox())
+                        .build())
+                .collect(Collectors.groupingBy(d -> d.getLabel().toLowerCase(Locale.ROOT)));
+
+        double oralCancerMax = grouped.getOrDefault("oral_cancer", List.of()).stream()
+                .map(AiCheckRunResponse.DetectionItem::getConfidence)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(0.0);
+        String level = oralCancerMax >= 0.5 ? "RED"
+                : (grouped.containsKey("caries") || grouped.containsKey("tartar")) ? "YELLOW" : "GREEN";
+        bh.consume(level);
+
+        for (String label : List.of("oral_cancer", "caries", "tartar", "normal")) {
+            List<AiCheckRunResponse.DetectionItem> items = grouped.getOrDefault(label, List.of());
+            if (items.isEmpty()) continue;
+            bh.consume(items.stream()
+                    .map(AiCheckRunResponse.DetectionItem::getConfidence)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(0.0));
+        }
+    }
+
+    private static String legacyNormalize(String raw) {
+        String label = raw.toLowerCase(Locale.ROOT).trim();
+        return switch (label) {
+            case "caries", "cavity" -> "caries";
+            case "tartar", "calculus", "plaque" -> "tartar";
+            case "oral_cancer", "lesion", "mass", "ulcer" -> "oral_cancer";
+            default -> "normal";
+        };
+    }
+}
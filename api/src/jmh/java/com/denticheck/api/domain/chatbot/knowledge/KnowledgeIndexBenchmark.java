@@ -0,0 +1,69 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 지식 베이스 BM25 질의 지연 측정 (ai/data/snudh_knowledge.json 전체).
+ * ./gradlew jmh -Pjmh.includes=KnowledgeIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KnowledgeIndexBenchmark {
+
+    @Param({
+            "스케일링은 얼마나 자주 해야 하나요",
+            "잇몸에서 피가 나는데 심각한가요",
+            "임플란트 수술 후 관리 방법과 주의사항을 알려주세요"
+    })
+    private String query;
+
+    private List<KnowledgeDocument> documents;
+    private KnowledgeIndex index;
+    private List<String> queryTokens;
+
+    @Setup
+    public void setUp() throws Exception {
+        String path = System.getProperty("knowledge.path", "../ai/data/snudh_knowledge.json");
+        documents = new ObjectMapper().readValue(new File(path), new TypeReference<>() {
+        });
+        index = KnowledgeIndex.build(documents);
+        queryTokens = KnowledgeTokenizer.tokenize(query);
+    }
+
+    @Benchmark
+    public List<KnowledgeHit> bm25() {
+        return index.search(query, 3, 1.0);
+    }
+
+    /** 비교 기준: 색인 없이 모든 원문을 토큰 포함 여부로 훑는 방식 */
+    @Benchmark
+    public void linearScan(Blackhole bh) {
+        for (KnowledgeDocument document : documents) {
+            if (document.content() == null) {
+                continue;
+            }
+            int matched = 0;
+            for (String token : queryTokens) {
+                if (document.content().contains(token)) {
+                    matched++;
+                }
+            }
+            bh.consume(matched);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.denticheck.api;
 
 import com.denticheck.api.config.GoogleMobileProperties;
+import com.denticheck.api.config.RateLimitProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -8,7 +9,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
-@EnableConfigurationProperties(GoogleMobileProperties.class)
+@EnableConfigurationProperties({ GoogleMobileProperties.class, RateLimitProperties.class })
 public class DenticheckApiApplication {
     public static void main(String[] args) {
         SpringApplication.run(DenticheckApiApplication.class, args);
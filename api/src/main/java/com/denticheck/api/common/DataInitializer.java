@@ -21,6 +21,12 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.UUID;
 
+/**
+ * 기본 데이터 시딩. 역할(ROLE_USER 등)이 없으면 회원가입이 실패하므로 러너 단계에서 기동 스레드로 동기 실행한다.
+ * 이때 Tomcat 포트는 이미 열려 있지만 readiness는 러너가 모두 끝난 뒤에 ACCEPTING_TRAFFIC이 되므로,
+ * readiness 프로브를 따르는 로드밸런서는 시딩 전에 트래픽을 보내지 않는다.
+ * 캐시/커넥션 워밍업은 ApplicationWarmup이 백그라운드로 하고, 끝날 때까지 readiness의 warmup 지표가 막는다.
+ */
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
@@ -0,0 +1,42 @@
+package com.denticheck.api.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (created_at, id) 키셋 페이지네이션 커서.
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64URL 문자열로 주고받는다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 응답 항목의 커서 문자열. createdAt이 없으면 null */
+    public static String encode(LocalDateTime createdAt, UUID id) {
+        return createdAt == null || id == null ? null : new KeysetCursor(createdAt, id).encode();
+    }
+
+    /** null/빈 문자열이면 null, 형식이 잘못되면 IllegalArgumentException */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    UUID.fromString(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.denticheck.api.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (score, id) 키셋 커서. 검색처럼 created_at이 아닌 점수 순으로 정렬하는 목록용.
+ * score는 같은 검색어에 대해 항상 같은 값으로 다시 계산되어야 한다 (시각 등 호출마다 달라지는 값 사용 금지).
+ */
+public record ScoreCursor(double score, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        // Double.toString은 같은 double로 다시 파싱되므로 경계 항목이 중복/누락되지 않는다
+        String raw = Double.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 null, 형식이 잘못되면 IllegalArgumentException */
+    public static ScoreCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            double score = Double.parseDouble(raw.substring(0, idx));
+            if (!Double.isFinite(score)) {
+                throw new IllegalArgumentException("score: " + score);
+            }
+            return new ScoreCursor(score, UUID.fromString(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
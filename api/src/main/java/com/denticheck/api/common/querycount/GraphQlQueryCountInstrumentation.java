@@ -0,0 +1,85 @@
+package com.denticheck.api.common.querycount;
+
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GraphQL 오퍼레이션별 SQL 실행 수 측정.
+ * 메트릭 graphql.operation.sql.statements{type}으로 내보내고, 임계값을 넘으면 오퍼레이션 이름과 함께 경고 로그를 남긴다 (N+1 감지용).
+ * 오퍼레이션 이름은 클라이언트가 마음대로 정하므로 태그로 쓰지 않는다 (메트릭 카디널리티 폭증 방지).
+ * 태그는 query/mutation/subscription, 파싱/검증 전에 실패하면 unknown.
+ * @BatchMapping 로더는 같은 요청 스레드에서 디스패치되므로 함께 집계된다.
+ * 실행이 다른 스레드에서 끝나면(비동기 fetcher, 구독) close()는 닫힘 표시만 하고 ThreadLocal은 연 스레드가 정리한다.
+ * 다른 스레드에서 실행된 SQL은 집계에 포함되지 않는다.
+ */
+@Slf4j
+@Component
+public class GraphQlQueryCountInstrumentation extends SimplePerformantInstrumentation {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public GraphQlQueryCountInstrumentation(
+            MeterRegistry meterRegistry,
+            @Value("${graphql.query-count.warn-threshold:20}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public CompletableFuture<InstrumentationState> createStateAsync(InstrumentationCreateStateParameters parameters) {
+        return CompletableFuture.completedFuture(new OperationState());
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        if (state instanceof OperationState operationState) {
+            operationState.type = parameters.getExecutionContext().getOperationDefinition().getOperation()
+                    .name().toLowerCase(Locale.ROOT);
+        }
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(
+            InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        String operation = parameters.getOperation() != null ? parameters.getOperation() : "anonymous";
+        return SimpleInstrumentationContext.whenCompleted((result, error) -> {
+            int statements = scope.count();
+            // 다른 스레드에서 호출돼도 안전 (연 스레드의 ThreadLocal을 지우지 않고 닫힘만 표시)
+            scope.close();
+            DistributionSummary.builder("graphql.operation.sql.statements")
+                    .description("GraphQL 오퍼레이션 1회당 실행된 SQL 문 수")
+                    .tag("type", state instanceof OperationState operationState ? operationState.type : "unknown")
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > warnThreshold) {
+                log.warn("GraphQL {} 실행 중 SQL {}건 (N+1 의심)", operation, statements);
+            } else {
+                log.debug("GraphQL {} 실행 중 SQL {}건", operation, statements);
+            }
+        });
+    }
+
+    /** 요청마다 하나. 오퍼레이션 종류는 파싱/검증 뒤 beginExecuteOperation에서 알 수 있다 */
+    private static final class OperationState implements InstrumentationState {
+
+        private volatile String type = "unknown";
+    }
+}
@@ -0,0 +1,75 @@
+package com.denticheck.api.common.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문 수를 현재 스레드의 측정 구간(Scope) 단위로 센다.
+ * application.yml의 hibernate.session_factory.statement_inspector로 등록한다.
+ * JdbcTemplate 등 Hibernate를 거치지 않는 쿼리는 포함되지 않는다.
+ * 구간은 연 스레드의 ThreadLocal에 걸리므로, 다른 스레드에서 close()하면 닫힘 표시만 하고
+ * 연 스레드가 다음에 SQL을 실행하거나 open()할 때 정리한다 (풀 스레드에 이전 구간이 남아 계속 집계되지 않도록).
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = current();
+        if (scope != null) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    /** 현재 스레드의 열린 구간 (다른 스레드에서 닫힌 구간은 여기서 정리) */
+    private static Scope current() {
+        Scope scope = CURRENT.get();
+        if (scope != null && scope.closed) {
+            CURRENT.remove();
+            return null;
+        }
+        return scope;
+    }
+
+    /** 측정 시작. 이미 측정 중이면 바깥 구간을 그대로 사용한다 */
+    public static Scope open() {
+        Scope current = current();
+        if (current != null) {
+            return new Scope(current, false);
+        }
+        Scope scope = new Scope(null, true);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final boolean owner;
+        private final Thread thread = Thread.currentThread();
+        // 연 스레드에서만 증가하지만 완료 콜백은 다른 스레드에서 읽을 수 있다
+        private volatile int count;
+        private volatile boolean closed;
+
+        private Scope(Scope parent, boolean owner) {
+            this.parent = parent;
+            this.owner = owner;
+        }
+
+        public int count() {
+            return parent != null ? parent.count() : count;
+        }
+
+        @Override
+        public void close() {
+            if (!owner) {
+                return;
+            }
+            closed = true;
+            if (Thread.currentThread() == thread && CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.denticheck.api.common.ratelimit;
+
+import com.denticheck.api.common.util.JWTUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * /api/ai-check/** 요청 제한.
+ * 이 경로는 JWTFilter를 거치지 않으므로 Bearer 토큰을 직접 검증해 사용자명을 키로 쓰고, 토큰이 없으면 클라이언트 IP로 제한한다.
+ * 빈 등록/경로 매핑은 RateLimitWebConfig에서 한다.
+ */
+@RequiredArgsConstructor
+public class AiCheckRateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final JWTUtil jwtUtil;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RateLimitDecision decision = rateLimiter.tryConsume(RateLimiter.AI_CHECK, resolveKey(request));
+        RateLimiter.writeHeaders(decision, response::setHeader);
+        if (!decision.allowed()) {
+            // CustomExceptionHandler가 429 + ErrorResponse로 변환
+            throw new RateLimitException(decision);
+        }
+        return true;
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String token = authorization.substring("Bearer ".length());
+            if (Boolean.TRUE.equals(jwtUtil.isValid(token, true))) {
+                return "user:" + jwtUtil.getUsername(token);
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
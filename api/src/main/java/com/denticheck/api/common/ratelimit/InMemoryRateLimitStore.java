@@ -0,0 +1,86 @@
+package com.denticheck.api.common.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없는 인메모리 토큰 버킷 (GCRA: 버킷 상태를 "이론상 다음 도착 시각" 하나로 표현).
+ * 키마다 AtomicLong 하나를 CAS로 갱신하므로 같은 사용자의 동시 요청도 잠금 없이 정확히 계산된다.
+ * 키는 해시로 여러 스트라이프(ConcurrentHashMap)에 분산해 정리 작업이 전체 맵을 한 번에 훑지 않도록 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 16;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String key, int capacity, long refillPeriodMs) {
+        long burst = TimeUnit.MILLISECONDS.toNanos(refillPeriodMs);
+        long interval = Math.max(1, burst / capacity);
+        AtomicLong tat = stripe(key).computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            // nanoTime은 차이로만 비교한다
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = base + interval;
+            long ahead = next - now;
+            if (ahead > burst) {
+                return new RateLimitDecision(false, capacity, 0,
+                        TimeUnit.NANOSECONDS.toMillis(ahead - burst), TimeUnit.NANOSECONDS.toMillis(base - now));
+            }
+            if (tat.compareAndSet(current, next)) {
+                int remaining = (int) ((burst - ahead) / interval);
+                return new RateLimitDecision(true, capacity, remaining, 0, TimeUnit.NANOSECONDS.toMillis(ahead));
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(= 상태가 없는 것과 같은) 키를 제거한다.
+     * 제거 직전에 CAS를 마친 요청이 있으면 그 1건은 새 버킷에서 다시 계산될 수 있다 (허용 오차).
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            stripe.entrySet().removeIf(e -> e.getValue().get() - now <= 0);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,58 @@
+package com.denticheck.api.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 다중 노드용 공유 토큰 버킷 (rate_limit_buckets 테이블).
+ * 인메모리 구현과 같은 GCRA 방식이며, 판정과 갱신을 UPSERT 한 문장으로 처리해 노드 간 경합에도 원자적이다.
+ * 노드 간 시계 차이만큼 오차가 생길 수 있으므로 NTP 동기화를 전제로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    // 허용 조건을 만족할 때만 tat_ms를 갱신하고 새 값을 돌려준다 (거절이면 행 없음)
+    private static final String CONSUME_SQL = """
+            INSERT INTO rate_limit_buckets (bucket_key, tat_ms) VALUES (?, ?)
+            ON CONFLICT (bucket_key) DO UPDATE
+                SET tat_ms = GREATEST(rate_limit_buckets.tat_ms, ?) + ?
+                WHERE GREATEST(rate_limit_buckets.tat_ms, ?) + ? - ? <= ?
+            RETURNING tat_ms
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public RateLimitDecision tryConsume(String key, int capacity, long refillPeriodMs) {
+        long interval = Math.max(1, refillPeriodMs / capacity);
+        long now = System.currentTimeMillis();
+
+        List<Long> updated = jdbcTemplate.queryForList(CONSUME_SQL, Long.class,
+                key, now + interval,
+                now, interval,
+                now, interval, now, refillPeriodMs);
+        if (!updated.isEmpty()) {
+            long ahead = updated.get(0) - now;
+            return new RateLimitDecision(true, capacity, (int) ((refillPeriodMs - ahead) / interval), 0, ahead);
+        }
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT tat_ms FROM rate_limit_buckets WHERE bucket_key = ?", Long.class, key);
+        long tat = current.isEmpty() ? now : current.get(0);
+        long retryAfter = Math.max(0, Math.max(tat, now) + interval - now - refillPeriodMs);
+        return new RateLimitDecision(false, capacity, 0, retryAfter, Math.max(0, tat - now));
+    }
+
+    /** 가득 찬 버킷(tat_ms가 과거)은 행이 없는 것과 같으므로 정리한다 */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictIdle() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE tat_ms < ?", System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,31 @@
+package com.denticheck.api.common.ratelimit;
+
+/**
+ * 요청 제한 판정 결과.
+ *
+ * @param limit        버킷 크기 (-1이면 제한 없음)
+ * @param remaining    이번 요청 이후 남은 토큰 수
+ * @param retryAfterMs 거절된 경우 다음 요청이 허용되기까지 남은 시간
+ * @param resetMs      버킷이 가득 차기까지 남은 시간
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining, long retryAfterMs, long resetMs) {
+
+    private static final RateLimitDecision UNLIMITED = new RateLimitDecision(true, -1, -1, 0, 0);
+
+    public static RateLimitDecision unlimited() {
+        return UNLIMITED;
+    }
+
+    public boolean isLimited() {
+        return limit >= 0;
+    }
+
+    /** 응답 헤더용 초 단위 (올림) */
+    public long retryAfterSeconds() {
+        return (retryAfterMs + 999) / 1000;
+    }
+
+    public long resetSeconds() {
+        return (resetMs + 999) / 1000;
+    }
+}
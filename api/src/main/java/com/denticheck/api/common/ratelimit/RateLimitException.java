@@ -0,0 +1,15 @@
+package com.denticheck.api.common.ratelimit;
+
+import com.denticheck.api.common.exception.BusinessException;
+import com.denticheck.api.common.exception.GlobalErrorCode;
+import lombok.Getter;
+
+@Getter
+public class RateLimitException extends BusinessException {
+    private final RateLimitDecision decision;
+
+    public RateLimitException(RateLimitDecision decision) {
+        super(GlobalErrorCode.TOO_MANY_REQUESTS);
+        this.decision = decision;
+    }
+}
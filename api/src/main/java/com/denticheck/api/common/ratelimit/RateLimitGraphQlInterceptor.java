@@ -0,0 +1,29 @@
+package com.denticheck.api.common.ratelimit;
+
+import graphql.GraphQLContext;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리졸버에서 기록한 요청 제한 판정(attach)을 GraphQL HTTP 응답 헤더로 내보낸다.
+ */
+@Component
+public class RateLimitGraphQlInterceptor implements WebGraphQlInterceptor {
+
+    private static final String CONTEXT_KEY = RateLimitDecision.class.getName();
+
+    public static void attach(GraphQLContext context, RateLimitDecision decision) {
+        context.put(CONTEXT_KEY, decision);
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        return chain.next(request).doOnNext(response -> {
+            RateLimitDecision decision = response.getExecutionInput().getGraphQLContext().get(CONTEXT_KEY);
+            RateLimiter.writeHeaders(decision, response.getResponseHeaders()::set);
+        });
+    }
+}
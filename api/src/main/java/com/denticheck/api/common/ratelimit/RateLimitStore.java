@@ -0,0 +1,16 @@
+package com.denticheck.api.common.ratelimit;
+
+/**
+ * 토큰 버킷 상태 저장소. 노드 단일 배포는 인메모리, 다중 노드는 공유 저장소 구현을 사용한다 (rate-limit.store).
+ */
+public interface RateLimitStore {
+
+    /**
+     * key의 버킷에서 토큰 1개를 소비한다.
+     *
+     * @param key           작업 + 사용자 식별자
+     * @param capacity      버킷 크기
+     * @param refillPeriodMs 빈 버킷이 가득 차는 데 걸리는 시간
+     */
+    RateLimitDecision tryConsume(String key, int capacity, long refillPeriodMs);
+}
@@ -0,0 +1,68 @@
+package com.denticheck.api.common.ratelimit;
+
+import com.denticheck.api.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 사용자별·작업별 요청 제한.
+ * 작업마다 별도 버킷(rate-limit.policies.&lt;operation&gt;)을 사용하며, 판정 결과는 ratelimit.requests{operation,result} 로 기록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    public static final String CHAT = "chat";
+    public static final String AI_CHECK = "ai-check";
+
+    public static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    public static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    public static final String HEADER_RESET = "X-RateLimit-Reset";
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore store;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitDecision tryConsume(String operation, String key) {
+        RateLimitProperties.Policy policy = properties.getPolicies().get(operation);
+        if (!properties.isEnabled() || policy == null || key == null) {
+            return RateLimitDecision.unlimited();
+        }
+
+        RateLimitDecision decision;
+        try {
+            decision = store.tryConsume(operation + ':' + key, policy.getCapacity(), policy.getRefillPeriod().toMillis());
+        } catch (Exception e) {
+            // 저장소 장애로 서비스 전체가 막히지 않도록 허용한다
+            log.warn("요청 제한 저장소 오류로 요청을 허용합니다. operation: {}, error: {}", operation, e.getMessage());
+            meterRegistry.counter("ratelimit.requests", "operation", operation, "result", "store_error").increment();
+            return RateLimitDecision.unlimited();
+        }
+
+        meterRegistry.counter("ratelimit.requests", "operation", operation,
+                "result", decision.allowed() ? "allowed" : "rejected").increment();
+        if (!decision.allowed()) {
+            log.info("요청 제한 초과. operation: {}, key: {}, retryAfterMs: {}", operation, key, decision.retryAfterMs());
+        }
+        return decision;
+    }
+
+    /** X-RateLimit-* / Retry-After 헤더 값을 setter에 전달한다 */
+    public static void writeHeaders(RateLimitDecision decision, BiConsumer<String, String> setter) {
+        if (decision == null || !decision.isLimited()) {
+            return;
+        }
+        setter.accept(HEADER_LIMIT, String.valueOf(decision.limit()));
+        setter.accept(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        setter.accept(HEADER_RESET, String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            setter.accept(HEADER_RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.denticheck.api.common.util;
+
+/**
+ * 형태소 분석기 없이 쓰는 간단한 한국어 처리 (검색 토큰화, 캐시 키 정규화 공용).
+ */
+public final class KoreanText {
+
+    // 긴 조사부터 검사 (예: "에서는"이 "는"보다 먼저)
+    private static final String[] PARTICLES = {
+            "에서는", "으로는", "에게서", "까지는", "이라도", "이라는", "에서도",
+            "에서", "에게", "한테", "으로", "까지", "부터", "보다", "처럼", "이나", "이랑", "하고", "라는",
+            "은", "는", "이", "가", "을", "를", "에", "의", "도", "로", "와", "과", "만", "랑"
+    };
+
+    private KoreanText() {
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    /** 한글로 끝나는 어절에서 조사 하나를 떼어낸다. 어간이 최소 1글자 남을 때만 제거 */
+    public static String stripParticle(String token) {
+        return stripParticle(token, 1);
+    }
+
+    /**
+     * 어간이 minStem글자 이상 남을 때만 조사를 뗀다.
+     * 검색 토큰은 1글자로 충분하지만, 같은 키면 같은 답을 돌려주는 캐시에서는 "치과"→"치"처럼 다른 단어가
+     * 합쳐지지 않도록 2글자 이상을 요구한다.
+     */
+    public static String stripParticle(String token, int minStem) {
+        if (token.isEmpty() || !isHangulSyllable(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        for (String particle : PARTICLES) {
+            if (token.length() - particle.length() >= minStem && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+}
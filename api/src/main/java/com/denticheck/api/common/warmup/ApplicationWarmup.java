@@ -0,0 +1,184 @@
+package com.denticheck.api.common.warmup;
+
+import com.denticheck.api.common.util.JWTUtil;
+import com.denticheck.api.domain.ai_check.dto.AiCheckRunResponse;
+import com.denticheck.api.domain.ai_check.service.AiLlmResultService;
+import com.denticheck.api.domain.ai_check.service.PdfReportService;
+import com.denticheck.api.infrastructure.external.ai.AiClient;
+import com.denticheck.api.infrastructure.external.ai.AiEndpointPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 첫 요청 지연을 줄이기 위한 기동 워밍업.
+ * <ol>
+ * <li>DB 커넥션 풀 선점</li>
+ * <li>AI 서비스 인스턴스 상태 확인 후, 실제 호출에 쓰는 RestClient/스트리밍 HttpClient로 연결 선확보</li>
+ * <li>JWT 생성/검증, 결과 매핑, Jackson 직렬화, PDF 렌더링(폰트 로딩) 합성 요청 실행</li>
+ * </ol>
+ * 각 단계 소요 시간은 app.warmup 타이머(step 태그)와 WarmupHealthIndicator 상세에 기록된다.
+ * 워밍업은 ApplicationReadyEvent 이후 백그라운드로 돌고, 끝날 때까지 readiness 그룹의 warmup 지표가
+ * OUT_OF_SERVICE라서 로드밸런서가 트래픽을 보내지 않는다 (포트는 이미 열려 있음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationWarmup {
+
+    private final WarmupHealthIndicator warmupHealthIndicator;
+    private final DataSource dataSource;
+    private final AiEndpointPool aiEndpointPool;
+    private final AiClient aiClient;
+    private final JWTUtil jwtUtil;
+    private final AiLlmResultService aiLlmResultService;
+    private final PdfReportService pdfReportService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.iterations:5}")
+    private int iterations;
+
+    @Value("${warmup.db-connections:4}")
+    private int dbConnections;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(this::runWarmup, "app-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void runWarmup() {
+        long start = System.nanoTime();
+        Map<String, Long> stepDurations = new LinkedHashMap<>();
+        List<String> failedSteps = new ArrayList<>();
+
+        // 기본 데이터 시딩은 DataInitializer(CommandLineRunner)가 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 동기로 끝낸다
+        if (enabled) {
+            step("db-connections", this::warmDatabase, stepDurations, failedSteps);
+            step("ai-connections", () -> {
+                aiEndpointPool.checkHealth();
+                aiClient.warmUpConnections();
+            }, stepDurations, failedSteps);
+            step("jwt", this::warmJwt, stepDurations, failedSteps);
+            step("report-pipeline", this::warmReportPipeline, stepDurations, failedSteps);
+        }
+
+        long durationNs = System.nanoTime() - start;
+        meterRegistry.timer("app.warmup", "step", "total").record(durationNs, TimeUnit.NANOSECONDS);
+        warmupHealthIndicator.complete(TimeUnit.NANOSECONDS.toMillis(durationNs), stepDurations, failedSteps);
+
+        if (failedSteps.isEmpty()) {
+            log.info("워밍업 완료 ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(durationNs), stepDurations);
+        } else {
+            log.warn("워밍업 완료 ({} ms), 실패 단계: {} / {}", TimeUnit.NANOSECONDS.toMillis(durationNs),
+                    failedSteps, stepDurations);
+        }
+    }
+
+    private void step(String name, Runnable action, Map<String, Long> durations, List<String> failed) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } catch (Exception e) {
+            // 워밍업 실패로 서비스가 영영 ready 되지 않는 일은 없어야 하므로 기록만 하고 진행
+            log.warn("워밍업 단계 실패: {}", name, e);
+            failed.add(name);
+        } finally {
+            sample.stop(meterRegistry.timer("app.warmup", "step", name));
+            durations.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private void warmDatabase() {
+        List<Connection> opened = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.max(1, dbConnections); i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("DB 커넥션 워밍업 실패", e);
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (Exception ignore) {
+                    // 풀로 반환 실패는 무시
+                }
+            }
+        }
+    }
+
+    private void warmJwt() {
+        for (int i = 0; i < iterations; i++) {
+            String token = jwtUtil.createAccessJWT("warmup", "ROLE_USER");
+            if (!jwtUtil.isValid(token, true)) {
+                throw new IllegalStateException("워밍업 토큰 검증 실패");
+            }
+            jwtUtil.getUsername(token);
+            jwtUtil.getRole(token);
+        }
+    }
+
+    private void warmReportPipeline() {
+        List<AiCheckRunResponse.DetectionItem> detections = syntheticDetections();
+        for (int i = 0; i < iterations; i++) {
+            AiCheckRunResponse.LlmResult llmResult = aiLlmResultService.generate(detections, true, 0.9, List.of());
+            byte[] pdf = pdfReportService.generate("warmup", llmResult, detections);
+            try {
+                objectMapper.writeValueAsBytes(AiCheckRunResponse.builder()
+                        .sessionId("warmup")
+                        .status("DONE")
+                        .qualityPass(true)
+                        .qualityScore(0.9)
+                        .detections(detections)
+                        .llmResult(llmResult)
+                        .build());
+            } catch (Exception e) {
+                throw new IllegalStateException("응답 직렬화 워밍업 실패", e);
+            }
+            if (pdf == null || pdf.length == 0) {
+                throw new IllegalStateException("PDF 렌더링 워밍업 실패");
+            }
+        }
+    }
+
+    private List<AiCheckRunResponse.DetectionItem> syntheticDetections() {
+        return List.of(
+                detection("caries", 0.82, 0.25, 0.30),
+                detection("tartar", 0.64, 0.70, 0.75),
+                detection("oral_cancer", 0.41, 0.50, 0.60));
+    }
+
+    private AiCheckRunResponse.DetectionItem detection(String label, double confidence, double x, double y) {
+        return AiCheckRunResponse.DetectionItem.builder()
+                .label(label)
+                .confidence(confidence)
+                .bbox(AiCheckRunResponse.BBox.builder().x(x).y(y).w(0.1).h(0.1).build())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.denticheck.api.common.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워밍업 진행 상태. readiness 그룹에 포함되어 워밍업 완료 전에는 OUT_OF_SERVICE를 반환한다.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile boolean completed;
+    private volatile long durationMs;
+    private volatile Map<String, Long> stepDurationsMs = Map.of();
+    private volatile List<String> failedSteps = List.of();
+
+    @Override
+    public Health health() {
+        if (!completed) {
+            return Health.outOfService().withDetail("warmup", "in-progress").build();
+        }
+        return Health.up()
+                .withDetail("durationMs", durationMs)
+                .withDetail("steps", stepDurationsMs)
+                .withDetail("failedSteps", failedSteps)
+                .build();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    void complete(long durationMs, Map<String, Long> stepDurationsMs, List<String> failedSteps) {
+        this.durationMs = durationMs;
+        this.stepDurationsMs = Collections.unmodifiableMap(new LinkedHashMap<>(stepDurationsMs));
+        this.failedSteps = List.copyOf(failedSteps);
+        this.completed = true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.denticheck.api.config;
 
+import com.denticheck.api.common.ratelimit.RateLimitException;
 import graphql.GraphqlErrorBuilder;
 import graphql.GraphQLError;
 import graphql.scalars.ExtendedScalars;
@@ -8,6 +9,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 
+import java.util.Map;
+
 @Configuration
 public class GraphqlConfig {
     @Bean
@@ -26,6 +29,14 @@ public class GraphqlConfig {
                 String message = ex.getMessage() != null && !ex.getMessage().isBlank()
                         ? ex.getMessage()
                         : "요청 처리 중 오류가 발생했어요.";
+                if (ex instanceof RateLimitException rateLimit) {
+                    return GraphqlErrorBuilder.newError(env)
+                            .message(message)
+                            .extensions(Map.of(
+                                    "code", "RATE_LIMITED",
+                                    "retryAfterSeconds", rateLimit.getDecision().retryAfterSeconds()))
+                            .build();
+                }
                 return GraphqlErrorBuilder.newError(env)
                         .message(message)
                         .build();
@@ -0,0 +1,32 @@
+package com.denticheck.api.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 요청 제한 설정 (rate-limit.*).
+ * policies의 키는 작업 이름(chat, ai-check 등)이며, 정의되지 않은 작업은 제한하지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    /** memory: 노드별 인메모리, jdbc: DB 공유 저장소 (다중 노드) */
+    private String store = "memory";
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        /** 버킷 크기 (연속 허용 요청 수) */
+        private int capacity = 10;
+        /** 빈 버킷이 가득 차는 데 걸리는 시간 (capacity / refillPeriod 속도로 충전) */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
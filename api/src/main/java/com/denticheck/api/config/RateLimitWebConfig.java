@@ -0,0 +1,34 @@
+package com.denticheck.api.config;
+
+import com.denticheck.api.common.ratelimit.AiCheckRateLimitInterceptor;
+import com.denticheck.api.common.ratelimit.RateLimiter;
+import com.denticheck.api.common.util.JWTUtil;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * /api/ai-check/** 요청 제한 인터셉터 등록.
+ * WebConfig(WebMvcConfigurer)와 분리해 두어야 @WebMvcTest 슬라이스가 RateLimiter/JWTUtil 없이 뜬다
+ * (슬라이스는 WebMvcConfigurer/HandlerInterceptor 컴포넌트는 읽지만 일반 @Configuration은 읽지 않는다).
+ */
+@Configuration
+public class RateLimitWebConfig {
+
+    @Bean
+    public AiCheckRateLimitInterceptor aiCheckRateLimitInterceptor(RateLimiter rateLimiter, JWTUtil jwtUtil) {
+        return new AiCheckRateLimitInterceptor(rateLimiter, jwtUtil);
+    }
+
+    @Bean
+    public WebMvcConfigurer aiCheckRateLimitConfigurer(AiCheckRateLimitInterceptor aiCheckRateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(aiCheckRateLimitInterceptor)
+                        .addPathPatterns("/api/ai-check", "/api/ai-check/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+/**
+ * 검출 결과 1건에 대한 판정 결과.
+ * 라벨별 집계는 인덱스 배열로 보관하고, 위험도/소견은 규칙 테이블의 공유 결과 객체를 가리킨다.
+ */
+public final class RiskAssessment {
+
+    private final RiskRuleTable table;
+    private final int[] counts;
+    private final double[] maxConfidence;
+    private final int[] bestDetection;
+    private final RiskRuleTable.LevelOutcome level;
+    private final RiskRuleTable.FindingOutcome[] findings;
+    private final int[] findingLabels;
+    private final int findingCount;
+    private final boolean noFinding;
+
+    RiskAssessment(RiskRuleTable table, int[] counts, double[] maxConfidence, int[] bestDetection) {
+        this.table = table;
+        this.counts = counts;
+        this.maxConfidence = maxConfidence;
+        this.bestDetection = bestDetection;
+        this.level = table.evaluateLevel(counts, maxConfidence);
+
+        int distinct = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                distinct++;
+            }
+        }
+
+        int max = table.maxFindings();
+        this.findings = new RiskRuleTable.FindingOutcome[max];
+        this.findingLabels = new int[max];
+        int size = 0;
+        this.noFinding = distinct == 0 || (distinct == 1 && counts[table.defaultLabel()] > 0);
+        if (noFinding) {
+            findings[0] = table.defaultFinding();
+            findingLabels[0] = -1;
+            size = 1;
+        } else {
+            for (int label : table.findingOrder()) {
+                if (counts[label] == 0 || (distinct > 1 && table.suppressWhenOthers(label))) {
+                    continue;
+                }
+                findings[size] = table.evaluateFinding(label, maxConfidence[label]);
+                findingLabels[size] = label;
+                if (++size >= max) {
+                    break;
+                }
+            }
+        }
+        this.findingCount = size;
+    }
+
+    public RiskRuleTable.LevelOutcome level() {
+        return level;
+    }
+
+    /** 이상 소견 없이 기본(정상) 소견만 있는 경우 */
+    public boolean isNoFinding() {
+        return noFinding;
+    }
+
+    /** 기본(정상) 라벨 검출이 하나 이상 있음. 검출이 아예 없는 경우와 구분할 때 쓴다 */
+    public boolean hasDefaultLabel() {
+        return counts[table.defaultLabel()] > 0;
+    }
+
+    public int findingCount() {
+        return findingCount;
+    }
+
+    public RiskRuleTable.FindingOutcome finding(int i) {
+        return findings[i];
+    }
+
+    /** i번째 소견 라벨의 검출 개수 (기본 소견이면 0) */
+    public int findingDetectionCount(int i) {
+        int label = findingLabels[i];
+        return label < 0 ? 0 : counts[label];
+    }
+
+    /** i번째 소견 라벨의 최대 신뢰도 (기본 소견이면 0.0) */
+    public double findingMaxConfidence(int i) {
+        int label = findingLabels[i];
+        return label < 0 ? 0.0 : maxConfidence[label];
+    }
+
+    /** i번째 소견 라벨에서 신뢰도가 가장 높은 검출의 원본 목록 인덱스 (없으면 -1) */
+    public int findingBestDetection(int i) {
+        int label = findingLabels[i];
+        return label < 0 ? -1 : bestDetection[label];
+    }
+
+    public boolean has(String labelId) {
+        return counts[table.labelIndex(labelId)] > 0;
+    }
+
+    public String rulesVersion() {
+        return table.version();
+    }
+}
@@ -0,0 +1,107 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 검출 라벨 정규화와 위험도/소견 판정을 담당하는 규칙 엔진.
+ * 규칙은 버전이 붙은 리소스(ai.risk.rules)에서 읽어 기동 시 한 번 컴파일한다.
+ */
+@Slf4j
+@Component
+public class RiskEngine {
+
+    private final RiskRuleTable table;
+
+    @Autowired
+    public RiskEngine(
+            @Value("${ai.risk.rules:classpath:risk/risk-rules-v1.json}") Resource rules,
+            ObjectMapper objectMapper) {
+        this(load(rules, objectMapper));
+        log.info("위험도 규칙 로드 완료: version={}, labels={}", table.version(), table.labelCount());
+    }
+
+    public RiskEngine(RiskRuleTable table) {
+        this.table = table;
+    }
+
+    public static RiskRuleTable load(Resource rules, ObjectMapper objectMapper) {
+        try (InputStream in = rules.getInputStream()) {
+            return RiskRuleTable.compile(objectMapper.readValue(in, RiskRuleDefinition.class));
+        } catch (IOException e) {
+            throw new IllegalStateException("위험도 규칙을 읽을 수 없습니다: " + rules, e);
+        }
+    }
+
+    /** 모델 라벨/별칭을 정규화 라벨로 변환 (모르는 값은 기본 라벨) */
+    public String normalizeLabel(String raw) {
+        return table.labelId(table.labelIndex(raw));
+    }
+
+    /**
+     * 검출 목록을 한 번 순회하며 라벨별 개수/최대 신뢰도를 집계하고 위험도와 소견을 판정한다.
+     * 라벨이 없는 검출은 기본 라벨로 센다.
+     */
+    public <T> RiskAssessment assess(
+            List<T> detections,
+            Function<? super T, String> label,
+            ToDoubleFunction<? super T> confidence) {
+        return assess(detections, label, confidence, false);
+    }
+
+    /**
+     * @param skipUnlabeled true면 라벨이 null인 검출을 집계에서 뺀다 (AI 체크 결과 경로의 기존 동작)
+     */
+    public <T> RiskAssessment assess(
+            List<T> detections,
+            Function<? super T, String> label,
+            ToDoubleFunction<? super T> confidence,
+            boolean skipUnlabeled) {
+        int n = table.labelCount();
+        int[] counts = new int[n];
+        double[] maxConfidence = new double[n];
+        int[] bestDetection = new int[n];
+
+        if (detections != null) {
+            for (int i = 0, size = detections.size(); i < size; i++) {
+                T detection = detections.get(i);
+                if (detection == null) {
+                    continue;
+                }
+                String raw = label.apply(detection);
+                if (raw == null && skipUnlabeled) {
+                    continue;
+                }
+                int index = table.labelIndex(raw);
+                double c = confidence.applyAsDouble(detection);
+                if (counts[index]++ == 0 || c > maxConfidence[index]) {
+                    maxConfidence[index] = c;
+                    bestDetection[index] = i;
+                }
+            }
+        }
+        return new RiskAssessment(table, counts, maxConfidence, bestDetection);
+    }
+
+    public RiskRuleTable.LevelOutcome level(String name) {
+        return table.level(name);
+    }
+
+    public String promptRules() {
+        return table.promptRules();
+    }
+
+    public String rulesVersion() {
+        return table.version();
+    }
+}
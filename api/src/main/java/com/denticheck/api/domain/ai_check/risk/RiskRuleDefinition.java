@@ -0,0 +1,36 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위험도 판정 규칙 원본 (risk/risk-rules-v*.json). 기동 시 RiskRuleTable로 컴파일된다.
+ */
+public record RiskRuleDefinition(
+        String version,
+        List<Label> labels,
+        String defaultLabel,
+        List<String> findingOrder,
+        int maxFindings,
+        List<LevelRule> levelRules,
+        String defaultLevel,
+        List<SeverityRule> severityRules,
+        String defaultSeverity,
+        Map<String, Level> levels
+) {
+
+    /** 정규화 라벨과 AI 모델이 내려줄 수 있는 별칭 */
+    public record Label(String id, List<String> aliases, String title, boolean suppressWhenOthers) {
+    }
+
+    /** label의 최대 신뢰도가 minConfidence 이상이면 level (위에서부터 먼저 일치한 규칙 적용) */
+    public record LevelRule(String label, double minConfidence, String level) {
+    }
+
+    /** label("*"은 전체)의 최대 신뢰도가 minConfidence 이상이면 severity */
+    public record SeverityRule(String label, double minConfidence, String severity) {
+    }
+
+    public record Level(String badgeText, String summary, List<String> careGuide) {
+    }
+}
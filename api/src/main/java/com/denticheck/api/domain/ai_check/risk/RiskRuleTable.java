@@ -0,0 +1,277 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 컴파일된 위험도 규칙 테이블.
+ * 라벨을 0..n-1 인덱스로 바꾸고 규칙/결과를 인덱스 배열로 펼쳐 두어 판정 시 컬렉션을 만들지 않는다.
+ * 결과 객체(LevelOutcome, FindingOutcome)는 미리 만들어 두고 모든 요청에서 재사용한다.
+ */
+public final class RiskRuleTable {
+
+    /** severity 규칙에서 전체 라벨을 뜻하는 값 */
+    private static final int ANY_LABEL = -1;
+
+    private final String version;
+
+    // 라벨
+    private final String[] labelIds;
+    private final Map<String, Integer> aliasIndex;
+    private final int defaultLabel;
+    private final boolean[] suppressWhenOthers;
+
+    // 위험도 규칙 (순서대로 평가)
+    private final int[] levelRuleLabel;
+    private final double[] levelRuleMin;
+    private final LevelOutcome[] levelRuleOutcome;
+    private final LevelOutcome defaultLevel;
+    private final Map<String, LevelOutcome> levelsByName;
+
+    // 중증도 규칙 (순서대로 평가)
+    private final int[] severityRuleLabel;
+    private final double[] severityRuleMin;
+    private final int[] severityRuleOutcome;
+    private final int defaultSeverity;
+
+    /** [labelIndex][severityIndex] */
+    private final FindingOutcome[][] findingOutcomes;
+    private final int[] findingOrder;
+    private final int maxFindings;
+
+    private final String promptRules;
+
+    private RiskRuleTable(RiskRuleDefinition def) {
+        this.version = require(def.version(), "version");
+
+        List<RiskRuleDefinition.Label> labels = def.labels();
+        if (labels == null || labels.isEmpty()) {
+            throw invalid("labels가 비어 있습니다.");
+        }
+        int n = labels.size();
+        this.labelIds = new String[n];
+        this.suppressWhenOthers = new boolean[n];
+        Map<String, Integer> aliases = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            RiskRuleDefinition.Label label = labels.get(i);
+            labelIds[i] = require(label.id(), "labels[].id").intern();
+            suppressWhenOthers[i] = label.suppressWhenOthers();
+            putAlias(aliases, labelIds[i], i);
+            if (label.aliases() != null) {
+                for (String alias : label.aliases()) {
+                    putAlias(aliases, alias, i);
+                }
+            }
+        }
+        this.aliasIndex = Map.copyOf(aliases);
+        this.defaultLabel = indexOf(def.defaultLabel(), "defaultLabel");
+
+        // 위험도
+        if (def.levels() == null || def.levels().isEmpty()) {
+            throw invalid("levels가 비어 있습니다.");
+        }
+        Map<String, LevelOutcome> levels = new HashMap<>();
+        def.levels().forEach((name, level) -> {
+            String key = name.toUpperCase(Locale.ROOT);
+            levels.put(key, new LevelOutcome(key.intern(), level.badgeText(), level.summary(),
+                    level.careGuide() == null ? List.of() : List.copyOf(level.careGuide())));
+        });
+        this.levelsByName = Map.copyOf(levels);
+        this.defaultLevel = level(def.defaultLevel(), "defaultLevel");
+
+        List<RiskRuleDefinition.LevelRule> levelRules = def.levelRules() == null ? List.of() : def.levelRules();
+        this.levelRuleLabel = new int[levelRules.size()];
+        this.levelRuleMin = new double[levelRules.size()];
+        this.levelRuleOutcome = new LevelOutcome[levelRules.size()];
+        for (int i = 0; i < levelRules.size(); i++) {
+            RiskRuleDefinition.LevelRule rule = levelRules.get(i);
+            levelRuleLabel[i] = indexOf(rule.label(), "levelRules[].label");
+            levelRuleMin[i] = rule.minConfidence();
+            levelRuleOutcome[i] = level(rule.level(), "levelRules[].level");
+        }
+
+        // 중증도
+        List<String> severities = new ArrayList<>();
+        List<RiskRuleDefinition.SeverityRule> severityRules =
+                def.severityRules() == null ? List.of() : def.severityRules();
+        this.severityRuleLabel = new int[severityRules.size()];
+        this.severityRuleMin = new double[severityRules.size()];
+        this.severityRuleOutcome = new int[severityRules.size()];
+        for (int i = 0; i < severityRules.size(); i++) {
+            RiskRuleDefinition.SeverityRule rule = severityRules.get(i);
+            severityRuleLabel[i] = "*".equals(rule.label()) ? ANY_LABEL : indexOf(rule.label(), "severityRules[].label");
+            severityRuleMin[i] = rule.minConfidence();
+            severityRuleOutcome[i] = severityIndex(severities, require(rule.severity(), "severityRules[].severity"));
+        }
+        this.defaultSeverity = severityIndex(severities, require(def.defaultSeverity(), "defaultSeverity"));
+
+        this.findingOutcomes = new FindingOutcome[n][severities.size()];
+        for (int l = 0; l < n; l++) {
+            for (int s = 0; s < severities.size(); s++) {
+                findingOutcomes[l][s] = new FindingOutcome(labelIds[l], labels.get(l).title(), severities.get(s));
+            }
+        }
+
+        List<String> order = def.findingOrder() == null ? List.of(labelIds) : def.findingOrder();
+        this.findingOrder = new int[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            findingOrder[i] = indexOf(order.get(i), "findingOrder[]");
+        }
+        this.maxFindings = def.maxFindings() > 0 ? def.maxFindings() : order.size();
+
+        this.promptRules = renderPromptRules();
+    }
+
+    public static RiskRuleTable compile(RiskRuleDefinition definition) {
+        return new RiskRuleTable(definition);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int labelCount() {
+        return labelIds.length;
+    }
+
+    public String labelId(int index) {
+        return labelIds[index];
+    }
+
+    /** 모델 라벨/별칭 → 라벨 인덱스 (모르는 값은 defaultLabel) */
+    public int labelIndex(String raw) {
+        if (raw == null) {
+            return defaultLabel;
+        }
+        Integer index = aliasIndex.get(raw);
+        if (index == null) {
+            index = aliasIndex.get(raw.trim().toLowerCase(Locale.ROOT));
+        }
+        return index == null ? defaultLabel : index;
+    }
+
+    public int defaultLabel() {
+        return defaultLabel;
+    }
+
+    public LevelOutcome level(String name) {
+        return name == null ? null : levelsByName.get(name.toUpperCase(Locale.ROOT).trim());
+    }
+
+    /** LLM 프롬프트에 넣을 규칙 설명 (규칙 테이블에서 생성) */
+    public String promptRules() {
+        return promptRules;
+    }
+
+    /**
+     * 라벨별 개수/최대 신뢰도로 위험도를 판정한다.
+     */
+    LevelOutcome evaluateLevel(int[] counts, double[] maxConfidence) {
+        for (int i = 0; i < levelRuleLabel.length; i++) {
+            int label = levelRuleLabel[i];
+            if (counts[label] > 0 && maxConfidence[label] >= levelRuleMin[i]) {
+                return levelRuleOutcome[i];
+            }
+        }
+        return defaultLevel;
+    }
+
+    FindingOutcome evaluateFinding(int label, double maxConfidence) {
+        int severity = defaultSeverity;
+        for (int i = 0; i < severityRuleLabel.length; i++) {
+            int ruleLabel = severityRuleLabel[i];
+            if ((ruleLabel == ANY_LABEL || ruleLabel == label) && maxConfidence >= severityRuleMin[i]) {
+                severity = severityRuleOutcome[i];
+                break;
+            }
+        }
+        return findingOutcomes[label][severity];
+    }
+
+    FindingOutcome defaultFinding() {
+        return findingOutcomes[defaultLabel][defaultSeverity];
+    }
+
+    int[] findingOrder() {
+        return findingOrder;
+    }
+
+    int maxFindings() {
+        return maxFindings;
+    }
+
+    boolean suppressWhenOthers(int label) {
+        return suppressWhenOthers[label];
+    }
+
+    private String renderPromptRules() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < levelRuleLabel.length; i++) {
+            String label = labelIds[levelRuleLabel[i]];
+            if (levelRuleMin[i] > 0) {
+                sb.append("- If ").append(label).append(" confidence >= ").append(levelRuleMin[i])
+                        .append(" then ").append(levelRuleOutcome[i].level()).append(".\n");
+            } else {
+                sb.append("- If ").append(label).append(" exists then ").append(levelRuleOutcome[i].level())
+                        .append(".\n");
+            }
+        }
+        sb.append("- Otherwise ").append(defaultLevel.level()).append('.');
+        return sb.toString();
+    }
+
+    private int indexOf(String labelId, String field) {
+        Integer index = aliasIndex.get(require(labelId, field));
+        if (index == null || !labelIds[index].equals(labelId)) {
+            throw invalid(field + "에 정의되지 않은 라벨이 있습니다: " + labelId);
+        }
+        return index;
+    }
+
+    private LevelOutcome level(String name, String field) {
+        LevelOutcome outcome = level(require(name, field));
+        if (outcome == null) {
+            throw invalid(field + "에 정의되지 않은 위험도가 있습니다: " + name);
+        }
+        return outcome;
+    }
+
+    private static int severityIndex(List<String> severities, String severity) {
+        int index = severities.indexOf(severity);
+        if (index < 0) {
+            severities.add(severity.intern());
+            index = severities.size() - 1;
+        }
+        return index;
+    }
+
+    private static void putAlias(Map<String, Integer> aliases, String alias, int index) {
+        String key = alias.trim().toLowerCase(Locale.ROOT);
+        Integer prev = aliases.putIfAbsent(key, index);
+        if (prev != null && prev != index) {
+            throw invalid("라벨 별칭이 중복됩니다: " + alias);
+        }
+    }
+
+    private static String require(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw invalid(field + " 값이 없습니다.");
+        }
+        return value;
+    }
+
+    private static IllegalStateException invalid(String message) {
+        return new IllegalStateException("위험도 규칙 오류: " + message);
+    }
+
+    /** 위험도별 결과 (요청 간 공유되는 불변 객체) */
+    public record LevelOutcome(String level, String badgeText, String summary, List<String> careGuide) {
+    }
+
+    /** 라벨·중증도별 소견 결과 (요청 간 공유되는 불변 객체) */
+    public record FindingOutcome(String label, String title, String severity) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.denticheck.api.domain.ai_check.service;
 
 import com.denticheck.api.domain.ai_check.dto.AnalyzeResponse;
+import com.denticheck.api.domain.ai_check.risk.RiskAssessment;
+import com.denticheck.api.domain.ai_check.risk.RiskEngine;
+import com.denticheck.api.domain.ai_check.risk.RiskRuleTable;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -51,13 +54,24 @@ public class AiAnalyzeLlmService {
             }
 
             Rules:
-            - If oral_cancer confidence >= 0.5 then RED.
-            - If caries or tartar exists then YELLOW.
-            - Otherwise GREEN.
+            %s
             - All text must be in English.
             """;
 
+    private static final List<String> CARE_GUIDE = List.of(
+            "Brush with fluoride toothpaste 2-3 times daily.",
+            "Use floss or interdental brush once per day.",
+            "Reduce sugar intake and rinse after meals.",
+            "If symptoms persist, schedule a dental visit promptly."
+    );
+
+    private static final List<String> DISCLAIMER = List.of(
+            "This result is AI-assisted screening information and does not replace medical diagnosis.",
+            "If pain, bleeding, ulceration, or swelling persists, seek professional care."
+    );
+
     private final ObjectMapper objectMapper;
+    private final RiskEngine riskEngine;
 
     @Value("${ollama.enabled:false}")
     private boolean ollamaEnabled;
@@ -110,7 +124,7 @@ public class AiAnalyzeLlmService {
         String detectionsJson = objectMapper.writeValueAsString(detections);
         String summaryJson = objectMapper.writeValueAsString(summary);
         String ragJson = objectMapper.writeValueAsString(ragSources);
-        String prompt = USER_PROMPT_TEMPLATE.formatted(detectionsJson, summaryJson, ragJson);
+        String prompt = USER_PROMPT_TEMPLATE.formatted(detectionsJson, summaryJson, ragJson, riskEngine.promptRules());
 
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("model", ollamaModel);
@@ -172,72 +186,58 @@ public class AiAnalyzeLlmService {
             List<AnalyzeResponse.DetectionItem> detections,
             List<AnalyzeResponse.RagSource> ragSources
     ) {
-        String riskLevel = computeRiskLevel(detections);
+        RiskAssessment assessment = riskEngine.assess(detections,
+                AnalyzeResponse.DetectionItem::getLabel, AiAnalyzeLlmService::confidenceOf);
+        String riskLevel = assessment.level().level();
         String summary = switch (riskLevel) {
             case "RED" -> "High-risk findings were detected. Prompt in-person dental consultation is recommended.";
             case "YELLOW" -> "Findings requiring attention were detected. Early dental check-up is recommended.";
             default -> "No strong high-risk signal was detected. Maintain regular oral care and periodic check-ups.";
         };
 
-        List<AnalyzeResponse.Finding> findings = buildFindings(detections, ragSources);
+        List<AnalyzeResponse.Finding> findings = buildFindings(assessment, ragSources);
 
         return AnalyzeResponse.LlmResult.builder()
                 .riskLevel(riskLevel)
                 .summary(summary)
                 .findings(findings)
-                .careGuide(List.of(
-                        "Brush with fluoride toothpaste 2-3 times daily.",
-                        "Use floss or interdental brush once per day.",
-                        "Reduce sugar intake and rinse after meals.",
-                        "If symptoms persist, schedule a dental visit promptly."
-                ))
-                .disclaimer(List.of(
-                        "This result is AI-assisted screening information and does not replace medical diagnosis.",
-                        "If pain, bleeding, ulceration, or swelling persists, seek professional care."
-                ))
+                .careGuide(CARE_GUIDE)
+                .disclaimer(DISCLAIMER)
                 .build();
     }
 
     private List<AnalyzeResponse.Finding> buildFindings(
-            List<AnalyzeResponse.DetectionItem> detections,
+            RiskAssessment assessment,
             List<AnalyzeResponse.RagSource> ragSources
     ) {
-        if (detections == null || detections.isEmpty()) {
+        List<String> evidence = defaultEvidence(ragSources);
+        if (assessment.isNoFinding() && assessment.hasDefaultLabel()) {
+            // 정상 검출만 있으면 기존처럼 Normal 소견 (검출이 아예 없을 때와 구분)
+            RiskRuleTable.FindingOutcome normal = assessment.finding(0);
+            return List.of(AnalyzeResponse.Finding.builder()
+                    .title(normal.title())
+                    .detail(detailFor(normal.label()))
+                    .evidence(evidence)
+                    .build());
+        }
+        if (assessment.isNoFinding()) {
             return List.of(AnalyzeResponse.Finding.builder()
                     .title("No significant finding")
                     .detail("No clear high-risk pattern was detected in the submitted image.")
-                    .evidence(defaultEvidence(ragSources))
+                    .evidence(evidence)
                     .build());
         }
 
-        Map<String, List<AnalyzeResponse.DetectionItem>> grouped = new LinkedHashMap<>();
-        for (AnalyzeResponse.DetectionItem d : detections) {
-            String label = normalizeLabel(d.getLabel());
-            grouped.computeIfAbsent(label, k -> new ArrayList<>()).add(d);
-        }
-
-        List<String> ordered = List.of("oral_cancer", "caries", "tartar", "normal");
-        List<AnalyzeResponse.Finding> findings = new ArrayList<>();
-        for (String label : ordered) {
-            List<AnalyzeResponse.DetectionItem> items = grouped.getOrDefault(label, List.of());
-            if (items.isEmpty()) continue;
-
-            double maxConfidence = items.stream()
-                    .map(AnalyzeResponse.DetectionItem::getConfidence)
-                    .filter(Objects::nonNull)
-                    .mapToDouble(Double::doubleValue)
-                    .max()
-                    .orElse(0.0);
-
+        List<AnalyzeResponse.Finding> findings = new ArrayList<>(assessment.findingCount());
+        for (int i = 0; i < assessment.findingCount(); i++) {
+            RiskRuleTable.FindingOutcome outcome = assessment.finding(i);
             findings.add(AnalyzeResponse.Finding.builder()
-                    .title(titleFor(label))
-                    .detail(detailFor(label, items.size(), maxConfidence))
-                    .evidence(defaultEvidence(ragSources))
+                    .title(outcome.title())
+                    .detail(detailFor(outcome.label(), assessment.findingDetectionCount(i),
+                            assessment.findingMaxConfidence(i)))
+                    .evidence(evidence)
                     .build());
-
-            if (findings.size() >= 3) break;
         }
-
         return findings;
     }
 
@@ -246,16 +246,17 @@ public class AiAnalyzeLlmService {
             case "oral_cancer" -> "Possible oral lesion signal detected (" + count + " area(s), max confidence " + String.format(Locale.ROOT, "%.2f", maxConfidence) + ").";
             case "caries" -> "Possible caries signal detected (" + count + " area(s), max confidence " + String.format(Locale.ROOT, "%.2f", maxConfidence) + ").";
             case "tartar" -> "Possible tartar/plaque signal detected (" + count + " area(s), max confidence " + String.format(Locale.ROOT, "%.2f", maxConfidence) + ").";
-            default -> "No major abnormal finding was detected.";
+            default -> detailFor(label);
         };
     }
 
-    private String titleFor(String label) {
+    /** 검출 개수/신뢰도 없이 라벨만으로 쓰는 설명 (정상 소견처럼 집계가 없는 경우) */
+    private String detailFor(String label) {
         return switch (label) {
-            case "oral_cancer" -> "Possible Oral Lesion";
-            case "caries" -> "Possible Caries";
-            case "tartar" -> "Possible Tartar";
-            default -> "Normal";
+            case "oral_cancer" -> "Possible oral lesion signal detected.";
+            case "caries" -> "Possible caries signal detected.";
+            case "tartar" -> "Possible tartar/plaque signal detected.";
+            default -> "No major abnormal finding was detected.";
         };
     }
 
@@ -270,25 +271,8 @@ public class AiAnalyzeLlmService {
         return evidence;
     }
 
-    private String computeRiskLevel(List<AnalyzeResponse.DetectionItem> detections) {
-        boolean hasCariesOrTartar = false;
-        for (AnalyzeResponse.DetectionItem d : detections) {
-            String label = normalizeLabel(d.getLabel());
-            double confidence = d.getConfidence() == null ? 0.0 : d.getConfidence();
-            if ("oral_cancer".equals(label) && confidence >= 0.5) return "RED";
-            if ("caries".equals(label) || "tartar".equals(label)) hasCariesOrTartar = true;
-        }
-        return hasCariesOrTartar ? "YELLOW" : "GREEN";
-    }
-
-    private String normalizeLabel(String raw) {
-        String label = raw == null ? "normal" : raw.toLowerCase(Locale.ROOT).trim();
-        return switch (label) {
-            case "caries", "cavity" -> "caries";
-            case "tartar", "calculus", "plaque" -> "tartar";
-            case "oral_cancer", "oral cancer", "lesion", "mass", "ulcer" -> "oral_cancer";
-            default -> "normal";
-        };
+    private static double confidenceOf(AnalyzeResponse.DetectionItem d) {
+        return d.getConfidence() == null ? 0.0 : d.getConfidence();
     }
 
     private String sanitizeRiskLevel(String level, String fallback) {
@@ -2,6 +2,7 @@ package com.denticheck.api.domain.ai_check.service;
 
 import com.denticheck.api.domain.ai_check.dto.AiCheckRunResponse;
 import com.denticheck.api.domain.ai_check.dto.AnalyzeResponse;
+import com.denticheck.api.domain.ai_check.risk.RiskEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,6 +32,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.denticheck.api.common.exception.ai_check.AiCheckException;
 import com.denticheck.api.common.exception.ai_check.AiCheckErrorCode;
+import com.denticheck.api.infrastructure.external.ai.AiEndpointPool;
 
 @Slf4j
 @Service
@@ -39,9 +41,6 @@ public class AiCheckOrchestratorService {
 
     private static final List<String> ALLOWED_EXTENSIONS = List.of(".jpg", ".jpeg", ".png", ".webp");
 
-    @Value("${ai.client.url}")
-    private String aiBaseUrl;
-
     @Value("${ai.client.timeout:5000}")
     private int aiClientTimeoutMs;
 
@@ -52,6 +51,8 @@ public class AiCheckOrchestratorService {
     private final AiAnalyzeLlmService aiAnalyzeLlmService;
     private final PdfReportService pdfReportService;
     private final ReportStorageService reportStorageService;
+    private final AiEndpointPool aiEndpointPool;
+    private final RiskEngine riskEngine;
 
     public AiCheckRunResponse run(MultipartFile file) {
         String sessionId = UUID.randomUUID().toString();
@@ -275,7 +276,6 @@ public class AiCheckOrchestratorService {
     }
 
     private Map<String, Object> postMultipartToAi(String path, MultipartFile file) throws IOException {
-        String url = aiBaseUrl + path;
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
@@ -299,7 +299,8 @@ public class AiCheckOrchestratorService {
         body.add("file", new HttpEntity<>(resource, partHeaders));
 
         HttpEntity<MultiValueMap<String, Object>> entity = new HttpEntity<>(body, headers);
-        ResponseEntity<Map> response = aiRestTemplate().postForEntity(url, entity, Map.class);
+        ResponseEntity<Map> response = aiEndpointPool.execute(
+                base -> aiRestTemplate().postForEntity(base + path, entity, Map.class));
         return response.getBody() == null ? Collections.emptyMap() : response.getBody();
     }
 
@@ -367,7 +368,7 @@ public class AiCheckOrchestratorService {
             if (!(item instanceof Map<?, ?> m))
                 continue;
 
-            String label = normalizeLabel(Objects.toString(m.get("label"), "normal"));
+            String label = riskEngine.normalizeLabel(Objects.toString(m.get("label"), null));
             double confidence = asDouble(m.get("confidence"));
             Map<String, Object> bboxMap = asMap(m.get("bbox"));
 
@@ -385,17 +386,6 @@ public class AiCheckOrchestratorService {
         return out;
     }
 
-    private String normalizeLabel(String raw) {
-        String label = raw == null ? "normal" : raw.toLowerCase(Locale.ROOT).trim();
-        return switch (label) {
-            case "caries", "cavity" -> "caries";
-            case "tartar", "calculus", "plaque" -> "tartar";
-            case "oral_cancer", "lesion", "mass", "ulcer" -> "oral_cancer";
-            case "normal" -> "normal";
-            default -> "normal";
-        };
-    }
-
     private AiCheckRunResponse errorResponse(String sessionId, String storageKey, String imageUrl, String reason) {
         AiCheckRunResponse.LlmResult llmResult = aiLlmResultService.generate(Collections.emptyList(), false, 0.0,
                 Collections.emptyList());
@@ -2,6 +2,8 @@ package com.denticheck.api.domain.ai_check.service;
 
 import com.denticheck.api.domain.ai_check.dto.AnalyzeResponse;
 import com.denticheck.api.domain.ai_check.dto.PdfViewModel;
+import com.denticheck.api.domain.ai_check.risk.RiskEngine;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -11,6 +13,7 @@ import java.util.Locale;
 import java.util.Set;
 
 @Component
+@RequiredArgsConstructor
 public class AnalyzePdfViewMapper {
 
     private static final List<String> FALLBACK_ACTIONS = List.of(
@@ -20,6 +23,8 @@ public class AnalyzePdfViewMapper {
             "1주 안에 치과 검진 예약을 잡으세요."
     );
 
+    private final RiskEngine riskEngine;
+
     public PdfViewModel toPdfViewModel(AnalyzeResponse.LlmResult llmResult, List<AnalyzeResponse.DetectionItem> detections) {
         List<AnalyzeResponse.DetectionItem> safeDetections = detections == null ? List.of() : detections;
         AnalyzeResponse.LlmResult safeLlm = llmResult == null ? AnalyzeResponse.LlmResult.builder().build() : llmResult;
@@ -83,7 +88,7 @@ public class AnalyzePdfViewMapper {
             if (detection == null || detection.getLabel() == null) {
                 continue;
             }
-            labels.add(normalizeLabel(detection.getLabel()));
+            labels.add(riskEngine.normalizeLabel(detection.getLabel()));
         }
 
         for (String label : labels) {
@@ -167,7 +172,7 @@ public class AnalyzePdfViewMapper {
     private PdfViewModel.Visit buildVisit(String riskLevel, List<AnalyzeResponse.DetectionItem> detections) {
         boolean hasOralFinding = detections.stream()
                 .filter(d -> d != null && d.getLabel() != null)
-                .map(d -> normalizeLabel(d.getLabel()))
+                .map(d -> riskEngine.normalizeLabel(d.getLabel()))
                 .anyMatch("oral_cancer"::equals);
 
         if (hasOralFinding) {
@@ -190,16 +195,6 @@ public class AnalyzePdfViewMapper {
                 .build();
     }
 
-    private String normalizeLabel(String raw) {
-        String label = raw == null ? "normal" : raw.toLowerCase(Locale.ROOT).trim();
-        return switch (label) {
-            case "caries", "cavity" -> "caries";
-            case "tartar", "calculus", "plaque" -> "tartar";
-            case "oral_cancer", "oral cancer", "lesion", "mass", "ulcer" -> "oral_cancer";
-            default -> "normal";
-        };
-    }
-
     private String sanitizeKorean(String text) {
         if (text == null) {
             return "";
@@ -15,8 +15,10 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -40,6 +42,8 @@ public class PdfReportService {
     private static final Color COLOR_PANEL_BG = new Color(246, 248, 251);
     private static final Color COLOR_TABLE_HEADER_BG = new Color(239, 244, 252);
 
+    private volatile byte[] cachedKoreanFont;
+
     public byte[] generate(
             String sessionId,
             AiCheckRunResponse.LlmResult llmResult,
@@ -515,11 +519,9 @@ public class PdfReportService {
 
     private PDFont resolveKoreanFont(PDDocument document) {
         try {
-            ClassPathResource resource = new ClassPathResource("fonts/malgun.ttf");
-            if (resource.exists()) {
-                try (InputStream input = resource.getInputStream()) {
-                    return PDType0Font.load(document, input, true);
-                }
+            byte[] fontBytes = koreanFontBytes();
+            if (fontBytes.length > 0) {
+                return PDType0Font.load(document, new ByteArrayInputStream(fontBytes), true);
             }
 
             File windowsFont = new File("C:/Windows/Fonts/malgun.ttf");
@@ -533,6 +535,23 @@ public class PdfReportService {
         return new PDType1Font(Standard14Fonts.FontName.HELVETICA);
     }
 
+    /** 폰트 파일은 최초 1회만 classpath에서 읽고 이후 문서 생성 시에는 메모리 사본을 사용 */
+    private byte[] koreanFontBytes() throws IOException {
+        byte[] cached = cachedKoreanFont;
+        if (cached == null) {
+            ClassPathResource resource = new ClassPathResource("fonts/malgun.ttf");
+            if (resource.exists()) {
+                try (InputStream input = resource.getInputStream()) {
+                    cached = input.readAllBytes();
+                }
+            } else {
+                cached = new byte[0];
+            }
+            cachedKoreanFont = cached;
+        }
+        return cached;
+    }
+
     private String nullToEmpty(String value) {
         return value == null ? "" : value;
     }
@@ -0,0 +1,24 @@
+package com.denticheck.api.domain.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 채팅 이력 페이지. messages는 항상 오래된 순으로 정렬된다.
+ * startCursor를 before로 넘기면 더 오래된 메시지, endCursor를 after로 넘기면 이후 메시지를 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatHistoryPage {
+    private List<ChatResponse> messages;
+    private String startCursor;
+    private String endCursor;
+    private boolean hasOlder;
+    private boolean hasNewer;
+}
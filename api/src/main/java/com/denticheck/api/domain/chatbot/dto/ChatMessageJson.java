@@ -0,0 +1,8 @@
+package com.denticheck.api.domain.chatbot.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+/** 요청된 경우에만 추가로 읽는 메시지 jsonb 컬럼 */
+public record ChatMessageJson(UUID id, Map<String, Object> payload, Map<String, Object> citation) {
+}
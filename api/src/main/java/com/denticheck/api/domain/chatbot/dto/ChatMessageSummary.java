@@ -0,0 +1,19 @@
+package com.denticheck.api.domain.chatbot.dto;
+
+import com.denticheck.api.domain.chatbot.entity.ChatMessageType;
+import com.denticheck.api.domain.chatbot.entity.ChatRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** 채팅 이력 목록용 경량 조회 결과 (jsonb 컬럼 payload/citation 제외) */
+public record ChatMessageSummary(
+        UUID id,
+        UUID sessionId,
+        ChatRole role,
+        ChatMessageType messageType,
+        String content,
+        String language,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
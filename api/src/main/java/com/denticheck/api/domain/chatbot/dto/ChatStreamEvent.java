@@ -0,0 +1,25 @@
+package com.denticheck.api.domain.chatbot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * chatMessageStream 구독 이벤트.
+ * 진행 중에는 delta만, 마지막 이벤트(done=true)에는 저장된 전체 답변(content)과 메시지 ID가 담긴다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatStreamEvent {
+    private UUID sessionId;
+    private UUID userMessageId;
+    private UUID assistantMessageId;
+    private String delta;
+    private String content;
+    private boolean done;
+}
@@ -0,0 +1,8 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/** 치과 지식 베이스 원문 (ai/data/snudh_knowledge.json 항목) */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KnowledgeDocument(String title, String content, String source, String url) {
+}
@@ -0,0 +1,5 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+/** BM25 검색 결과 (문단 단위) */
+public record KnowledgeHit(KnowledgeDocument document, String snippet, double score) {
+}
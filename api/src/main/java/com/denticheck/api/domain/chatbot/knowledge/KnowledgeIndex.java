@@ -0,0 +1,214 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 지식 베이스 문단 단위 BM25 역색인 (불변, 스레드 안전).
+ * 용어별 포스팅은 문단 번호/빈도 int 배열 두 개로만 보관해 객체 수를 최소화한다.
+ */
+public final class KnowledgeIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_PASSAGE_CHARS = 500;
+
+    private final KnowledgeDocument[] documents;
+    private final int[] passageDocument;
+    private final String[] passages;
+    private final int[] passageLengths;
+    private final float averageLength;
+
+    private final Map<String, Integer> termIds;
+    private final int[][] postingPassages;
+    private final int[][] postingFrequencies;
+    private final float[] idf;
+
+    private KnowledgeIndex(KnowledgeDocument[] documents, int[] passageDocument, String[] passages,
+            int[] passageLengths, Map<String, Integer> termIds, int[][] postingPassages, int[][] postingFrequencies) {
+        this.documents = documents;
+        this.passageDocument = passageDocument;
+        this.passages = passages;
+        this.passageLengths = passageLengths;
+        this.termIds = termIds;
+        this.postingPassages = postingPassages;
+        this.postingFrequencies = postingFrequencies;
+
+        long total = 0;
+        for (int length : passageLengths) {
+            total += length;
+        }
+        this.averageLength = passageLengths.length == 0 ? 1f : Math.max(1f, (float) total / passageLengths.length);
+
+        int n = passages.length;
+        this.idf = new float[postingPassages.length];
+        for (int t = 0; t < idf.length; t++) {
+            int df = postingPassages[t].length;
+            idf[t] = (float) Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    public static KnowledgeIndex build(List<KnowledgeDocument> source) {
+        List<KnowledgeDocument> documents = new ArrayList<>();
+        List<Integer> passageDocument = new ArrayList<>();
+        List<String> passages = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (KnowledgeDocument document : source) {
+            // 크롤링 원문에 같은 글이 중복 수집된 경우가 있어 제목+본문 기준으로 한 번만 색인
+            if (document.content() == null || document.content().isBlank()
+                    || !seen.add(document.title() + '\n' + document.content())) {
+                continue;
+            }
+            documents.add(document);
+            for (String passage : split(document.content())) {
+                passageDocument.add(documents.size() - 1);
+                passages.add(passage);
+            }
+        }
+
+        Map<String, Integer> termIds = new HashMap<>();
+        List<IntBuffer> postingPassages = new ArrayList<>();
+        List<IntBuffer> postingFrequencies = new ArrayList<>();
+        int[] passageLengths = new int[passages.size()];
+
+        for (int p = 0; p < passages.size(); p++) {
+            KnowledgeDocument document = documents.get(passageDocument.get(p));
+            // 제목은 모든 문단의 주제이므로 함께 색인한다
+            List<String> tokens = KnowledgeTokenizer.tokenize(document.title() + "\n" + passages.get(p));
+            passageLengths[p] = tokens.size();
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                int termId = termIds.computeIfAbsent(entry.getKey(), k -> {
+                    postingPassages.add(new IntBuffer());
+                    postingFrequencies.add(new IntBuffer());
+                    return postingPassages.size() - 1;
+                });
+                postingPassages.get(termId).add(p);
+                postingFrequencies.get(termId).add(entry.getValue());
+            }
+        }
+
+        return new KnowledgeIndex(
+                documents.toArray(new KnowledgeDocument[0]),
+                passageDocument.stream().mapToInt(Integer::intValue).toArray(),
+                passages.toArray(new String[0]),
+                passageLengths,
+                Map.copyOf(termIds),
+                postingPassages.stream().map(IntBuffer::toArray).toArray(int[][]::new),
+                postingFrequencies.stream().map(IntBuffer::toArray).toArray(int[][]::new));
+    }
+
+    /**
+     * 질의와 가장 관련 높은 문단을 최대 limit개 반환한다. 같은 원문에서는 최고 점수 문단 하나만 고른다.
+     */
+    public List<KnowledgeHit> search(String query, int limit, double minScore) {
+        int[] queryTerms = KnowledgeTokenizer.tokenize(query).stream()
+                .map(termIds::get)
+                .filter(id -> id != null)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .toArray();
+        if (queryTerms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        float[] scores = new float[passages.length];
+        int[] touched = new int[passages.length];
+        int touchedCount = 0;
+        for (int termId : queryTerms) {
+            int[] postings = postingPassages[termId];
+            int[] frequencies = postingFrequencies[termId];
+            float termIdf = idf[termId];
+            for (int i = 0; i < postings.length; i++) {
+                int p = postings[i];
+                float tf = frequencies[i];
+                float norm = K1 * (1 - B + B * passageLengths[p] / averageLength);
+                if (scores[p] == 0f) {
+                    touched[touchedCount++] = p;
+                }
+                scores[p] += termIdf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        // limit이 작으므로(기본 3) 정렬 대신 최댓값 선택을 반복한다
+        List<KnowledgeHit> hits = new ArrayList<>(limit);
+        boolean[] usedDocuments = new boolean[documents.length];
+        while (hits.size() < limit) {
+            int best = -1;
+            for (int i = 0; i < touchedCount; i++) {
+                int p = touched[i];
+                if (!usedDocuments[passageDocument[p]] && (best < 0 || scores[p] > scores[best])) {
+                    best = p;
+                }
+            }
+            if (best < 0 || scores[best] < minScore) {
+                break;
+            }
+            usedDocuments[passageDocument[best]] = true;
+            hits.add(new KnowledgeHit(documents[passageDocument[best]], passages[best], scores[best]));
+        }
+        return hits;
+    }
+
+    public int documentCount() {
+        return documents.length;
+    }
+
+    public int passageCount() {
+        return passages.length;
+    }
+
+    public int termCount() {
+        return postingPassages.length;
+    }
+
+    /** 줄 경계 기준으로 MAX_PASSAGE_CHARS 이하 문단으로 나눈다 (한 줄이 더 길면 그대로 한 문단) */
+    static List<String> split(String content) {
+        List<String> result = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : content.split("\n")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (current.length() > 0 && current.length() + trimmed.length() + 1 > MAX_PASSAGE_CHARS) {
+                result.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            current.append(trimmed);
+        }
+        if (current.length() > 0) {
+            result.add(current.toString());
+        }
+        return result;
+    }
+
+    /** 색인 빌드용 가변 int 배열 */
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import com.denticheck.api.common.util.KoreanText;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BM25 색인/질의 공용 토크나이저.
+ * 한글 어절은 조사를 뗀 어간과 음절 bigram을 함께 내보내 "잇몸출혈"과 "잇몸에서 출혈" 같은 띄어쓰기 차이도 매칭되게 하고,
+ * 영문/숫자는 소문자 단어 단위로 자른다.
+ */
+final class KnowledgeTokenizer {
+
+    private KnowledgeTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int i = 0;
+        int length = normalized.length();
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (KoreanText.isHangulSyllable(c)) {
+                int start = i;
+                while (i < length && KoreanText.isHangulSyllable(normalized.charAt(i))) {
+                    i++;
+                }
+                addHangul(KoreanText.stripParticle(normalized.substring(start, i)), tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i))
+                        && !KoreanText.isHangulSyllable(normalized.charAt(i))) {
+                    i++;
+                }
+                if (i - start >= 2 || Character.isDigit(c)) {
+                    tokens.add(normalized.substring(start, i));
+                }
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangul(String word, List<String> tokens) {
+        tokens.add(word);
+        if (word.length() <= 2) {
+            return;
+        }
+        for (int j = 0; j + 2 <= word.length(); j++) {
+            tokens.add(word.substring(j, j + 2));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AI 서비스 장애 시 챗봇 대체 응답용 로컬 지식 검색.
+ * AI 서비스와 같은 원문(ai/data/snudh_knowledge.json)을 기동 시 BM25로 색인하고,
+ * 질문과 관련된 문단을 출처(citation)와 함께 그대로 돌려준다. 파일이 없으면 대체 응답 없이 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalKnowledgeBase {
+
+    private static final int SNIPPET_MAX_CHARS = 300;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.knowledge.location:file:../ai/data/snudh_knowledge.json}")
+    private Resource location;
+
+    @Value("${chat.knowledge.top-k:3}")
+    private int topK;
+
+    @Value("${chat.knowledge.min-score:1.0}")
+    private double minScore;
+
+    private volatile KnowledgeIndex index = KnowledgeIndex.build(List.of());
+
+    @PostConstruct
+    public void load() {
+        if (!location.exists()) {
+            log.warn("로컬 지식 베이스 파일이 없어 대체 응답을 사용하지 않습니다: {}", location);
+            return;
+        }
+        long start = System.nanoTime();
+        try (InputStream in = location.getInputStream()) {
+            List<KnowledgeDocument> documents = objectMapper.readValue(in, new TypeReference<>() {
+            });
+            index = KnowledgeIndex.build(documents);
+            log.info("로컬 지식 베이스 색인 완료: 문서 {}건, 문단 {}건, 용어 {}개 ({}ms)",
+                    index.documentCount(), index.passageCount(), index.termCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("로컬 지식 베이스 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    public List<KnowledgeHit> search(String question) {
+        return index.search(question, topK, minScore);
+    }
+
+    /** 관련 문단이 있으면 대체 답변과 citation(jsonb) 을 만든다 */
+    public Optional<KnowledgeAnswer> answer(String question) {
+        List<KnowledgeHit> hits = search(question);
+        if (hits.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StringBuilder answer = new StringBuilder(
+                "The AI assistant is temporarily unavailable, so here is related information from the dental knowledge base:");
+        List<Map<String, Object>> references = new ArrayList<>();
+        for (int i = 0; i < hits.size(); i++) {
+            KnowledgeHit hit = hits.get(i);
+            String snippet = hit.snippet().length() <= SNIPPET_MAX_CHARS
+                    ? hit.snippet()
+                    : hit.snippet().substring(0, SNIPPET_MAX_CHARS) + "...";
+            answer.append("\n\n[").append(i + 1).append("] ").append(hit.document().title())
+                    .append('\n').append(snippet);
+
+            Map<String, Object> reference = new LinkedHashMap<>();
+            reference.put("index", i + 1);
+            reference.put("title", hit.document().title());
+            reference.put("source", hit.document().source());
+            reference.put("url", hit.document().url());
+            reference.put("score", Math.round(hit.score() * 1000) / 1000.0);
+            references.add(reference);
+        }
+
+        Map<String, Object> citation = new LinkedHashMap<>();
+        citation.put("retriever", "local-bm25");
+        citation.put("references", references);
+        return Optional.of(new KnowledgeAnswer(answer.toString(), citation));
+    }
+
+    public record KnowledgeAnswer(String content, Map<String, Object> citation) {
+    }
+}
@@ -1,11 +1,53 @@
 package com.denticheck.api.domain.chatbot.repository;
 
+import com.denticheck.api.domain.chatbot.dto.ChatMessageJson;
+import com.denticheck.api.domain.chatbot.dto.ChatMessageSummary;
 import com.denticheck.api.domain.chatbot.entity.AiChatMessageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface AiChatMessageRepository extends JpaRepository<AiChatMessageEntity, UUID> {
     List<AiChatMessageEntity> findAllBySessionIdOrderByCreatedAtAsc(UUID sessionId);
+
+    // 키셋 페이지네이션: idx_ai_chat_messages_session_id_created_at_id 인덱스를 그대로 탄다
+    // ai_chat_messages는 created_at 월 파티션 테이블이다. 행 비교식만으로는 파티션 프루닝이 되지 않으므로
+    // created_at 단독 조건을 함께 둔다 (결과는 동일)
+    String SUMMARY_SELECT = "select new com.denticheck.api.domain.chatbot.dto.ChatMessageSummary("
+            + "m.id, m.session.id, m.role, m.messageType, m.content, m.language, m.createdAt, m.updatedAt) "
+            + "from AiChatMessageEntity m where m.session.id = :sessionId ";
+
+    /** 최신 메시지부터 (내림차순) */
+    @Query(SUMMARY_SELECT + "order by m.createdAt desc, m.id desc")
+    List<ChatMessageSummary> findLatestSummaries(@Param("sessionId") UUID sessionId, Pageable pageable);
+
+    /** 커서보다 오래된 메시지 (내림차순) */
+    @Query(SUMMARY_SELECT + "and m.createdAt <= :createdAt and (m.createdAt, m.id) < (:createdAt, :id) order by m.createdAt desc, m.id desc")
+    List<ChatMessageSummary> findSummariesBefore(
+            @Param("sessionId") UUID sessionId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    /** 커서보다 최신 메시지 (오름차순) */
+    @Query(SUMMARY_SELECT + "and m.createdAt >= :createdAt and (m.createdAt, m.id) > (:createdAt, :id) order by m.createdAt asc, m.id asc")
+    List<ChatMessageSummary> findSummariesAfter(
+            @Param("sessionId") UUID sessionId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    /** from~to: 페이지의 created_at 범위 (해당 월 파티션만 조회) */
+    @Query("select new com.denticheck.api.domain.chatbot.dto.ChatMessageJson(m.id, m.payload, m.citation) "
+            + "from AiChatMessageEntity m where m.id in :ids and m.createdAt between :from and :to")
+    List<ChatMessageJson> findJsonByIdIn(
+            @Param("ids") Collection<UUID> ids,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
@@ -2,6 +2,9 @@ package com.denticheck.api.domain.chatbot.repository;
 
 import com.denticheck.api.domain.chatbot.entity.ChatSessionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
@@ -11,4 +14,18 @@ public interface ChatSessionRepository extends JpaRepository<ChatSessionEntity,
     Optional<ChatSessionEntity> findByUserIdAndChannelAndEndedAtIsNull(UUID userId, String channel);
 
     long countByCreatedAtAfter(java.time.LocalDateTime start);
+
+    /** 활성 세션의 마지막 메시지 정보 갱신 (엔티티 조회 없이). 종료된 세션이면 0 반환 */
+    @Modifying
+    @Query("update ChatSessionEntity s set s.lastMessageAt = :at, s.lastMessagePreview = :preview, s.updatedAt = :at "
+            + "where s.id = :id and s.endedAt is null")
+    int touchActiveSession(@Param("id") UUID id, @Param("preview") String preview,
+            @Param("at") java.time.LocalDateTime at);
+
+    /** 마지막 메시지 정보 갱신 (AI 응답 대기 중 세션이 종료되어도 응답은 기록) */
+    @Modifying
+    @Query("update ChatSessionEntity s set s.lastMessageAt = :at, s.lastMessagePreview = :preview, s.updatedAt = :at "
+            + "where s.id = :id")
+    int touchSession(@Param("id") UUID id, @Param("preview") String preview,
+            @Param("at") java.time.LocalDateTime at);
 }
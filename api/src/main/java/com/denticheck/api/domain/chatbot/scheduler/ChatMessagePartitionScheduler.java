@@ -0,0 +1,210 @@
+package com.denticheck.api.domain.chatbot.scheduler;
+
+import io.minio.MinioClient;
+import io.minio.UploadObjectArgs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ai_chat_messages 월 파티션 관리 (V28 마이그레이션 참고).
+ * - 앞으로 future-months 개월치 파티션을 미리 생성한다.
+ * - retention-months 보다 오래된 파티션은 gzip NDJSON으로 아카이브(로컬/MinIO)한 뒤 분리(DETACH)하고 삭제한다.
+ *   아카이브에 실패한 파티션은 그대로 두고 다음 실행에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class ChatMessagePartitionScheduler {
+
+    private static final String PARENT_TABLE = "ai_chat_messages";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^ai_chat_messages_p(\\d{6})$");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int ARCHIVE_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${chat.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${chat.archive.future-months:3}")
+    private int futureMonths;
+
+    @Value("${chat.archive.storage:local}")
+    private String storageType;
+
+    @Value("${chat.archive.local-dir:./archive/chat-messages}")
+    private String localDir;
+
+    @Value("${chat.archive.minio-prefix:archive/chat-messages}")
+    private String minioPrefix;
+
+    @Value("${minio.endpoint:http://localhost:9000}")
+    private String minioEndpoint;
+
+    @Value("${minio.access-key:minioadmin}")
+    private String minioAccessKey;
+
+    @Value("${minio.secret-key:minioadmin}")
+    private String minioSecretKey;
+
+    @Value("${minio.bucket:denticheck}")
+    private String minioBucket;
+
+    public ChatMessagePartitionScheduler(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureFuturePartitions();
+    }
+
+    /**
+     * 매일 03:30 실행: 파티션 선생성 + 보관 기간 경과 파티션 아카이브
+     */
+    @Scheduled(cron = "${chat.archive.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        ensureFuturePartitions();
+        if (archiveEnabled) {
+            archiveExpiredPartitions();
+        }
+    }
+
+    /** 이번 달부터 future-months 개월 뒤까지 파티션이 없으면 생성 */
+    public void ensureFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= futureMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            String partition = PARENT_TABLE + "_p" + month.format(SUFFIX);
+            try {
+                jdbcTemplate.execute(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partition, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+            } catch (DataAccessException e) {
+                // DEFAULT 파티션에 해당 월 데이터가 이미 들어간 경우 등. 수동으로 옮긴 뒤 다시 생성해야 한다
+                log.error("채팅 메시지 파티션 생성 실패: {}", partition, e);
+            }
+        }
+
+        Boolean defaultHasRows = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + PARENT_TABLE + "_default)", Boolean.class);
+        if (Boolean.TRUE.equals(defaultHasRows)) {
+            log.warn("{}_default 파티션에 데이터가 있습니다. 월 파티션 생성 상태를 확인하세요.", PARENT_TABLE);
+        }
+    }
+
+    /** retention-months 보다 오래된 월 파티션을 아카이브 후 분리/삭제 */
+    public void archiveExpiredPartitions() {
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        for (String partition : findMonthlyPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), SUFFIX).isBefore(cutoff)) {
+                continue;
+            }
+            try {
+                long rows = archive(partition);
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                });
+                log.info("채팅 메시지 파티션 아카이브 완료: {} ({}건)", partition, rows);
+            } catch (Exception e) {
+                log.error("채팅 메시지 파티션 아카이브 실패, 다음 실행에서 재시도합니다: {}", partition, e);
+            }
+        }
+    }
+
+    private List<String> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                  JOIN pg_class p ON p.oid = i.inhparent
+                 WHERE p.relname = ?
+                 ORDER BY c.relname
+                """, String.class, PARENT_TABLE);
+    }
+
+    /** 파티션 전체를 한 줄당 한 행(JSON)으로 gzip 압축해 저장하고 행 수를 반환 */
+    private long archive(String partition) throws Exception {
+        Path tempFile = Files.createTempFile(partition + "-", ".ndjson.gz");
+        try {
+            long rows = dump(partition, tempFile);
+            String fileName = partition + ".ndjson.gz";
+            if ("minio".equalsIgnoreCase(storageType)) {
+                uploadToMinio(fileName, tempFile);
+            } else {
+                Path dir = Paths.get(localDir).toAbsolutePath().normalize();
+                Files.createDirectories(dir);
+                Files.copy(tempFile, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return rows;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private long dump(String partition, Path target) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(target)), StandardCharsets.UTF_8))) {
+            // PostgreSQL은 트랜잭션 안에서만 fetch size 단위로 커서를 읽는다
+            transactionTemplate.executeWithoutResult(status -> {
+                JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+                streaming.setFetchSize(ARCHIVE_FETCH_SIZE);
+                streaming.query("SELECT row_to_json(m)::text FROM " + partition + " m ORDER BY m.created_at, m.id", rs -> {
+                    try {
+                        writer.write(rs.getString(1));
+                        writer.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows.incrementAndGet();
+                });
+            });
+        }
+        return rows.get();
+    }
+
+    private void uploadToMinio(String fileName, Path file) throws Exception {
+        MinioClient client = MinioClient.builder()
+                .endpoint(minioEndpoint)
+                .credentials(minioAccessKey, minioSecretKey)
+                .build();
+        client.uploadObject(UploadObjectArgs.builder()
+                .bucket(minioBucket)
+                .object(minioPrefix + "/" + fileName)
+                .filename(file.toString())
+                .contentType("application/gzip")
+                .build());
+    }
+}
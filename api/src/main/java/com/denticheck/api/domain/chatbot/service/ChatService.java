@@ -8,6 +8,9 @@ import java.util.UUID;
 
 import com.denticheck.api.domain.chatbot.dto.ChatAppRequest;
 import com.denticheck.api.domain.chatbot.dto.ChatAppResponse;
+import com.denticheck.api.domain.chatbot.dto.ChatHistoryPage;
+import com.denticheck.api.domain.chatbot.dto.ChatStreamEvent;
+import reactor.core.publisher.Flux;
 
 public interface ChatService {
 
@@ -15,7 +18,11 @@ public interface ChatService {
 
     List<AiChatMessageEntity> getChatHistory(UUID sessionId);
 
+    ChatHistoryPage getChatHistory(UUID sessionId, Integer first, String before, String after, boolean includeJson);
+
     ChatAppResponse processMessage(ChatAppRequest request, UUID userId, String channel);
 
+    Flux<ChatStreamEvent> streamMessage(ChatAppRequest request, UUID userId, String channel);
+
     void endSession(UUID userId, String channel);
 }
@@ -0,0 +1,70 @@
+package com.denticheck.api.domain.chatbot.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * (사용자, 채널)별 활성 세션 id 캐시.
+ * 메시지마다 반복되던 사용자/세션 조회를 없애기 위한 것으로, startSession/getOrCreateActiveSession에서 채우고 endSession에서 비운다.
+ * 다른 노드에서 세션이 종료된 경우는 ChatMessageWriter가 갱신 결과(0건)로 감지해 evict 후 다시 조회한다.
+ */
+@Component
+public class ActiveChatSessionCache {
+
+    private final LinkedHashMap<Key, UUID> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ActiveChatSessionCache(
+            @Value("${chat.session-cache.max-entries:10000}") int maxEntries,
+            MeterRegistry meterRegistry) {
+        // accessOrder=true: 오래 대화하지 않은 사용자부터 제거 (LRU)
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, UUID> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("chat.session.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("chat.session.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("chat.session.cache.size", this, ActiveChatSessionCache::size).register(meterRegistry);
+    }
+
+    public Optional<UUID> get(UUID userId, String channel) {
+        UUID sessionId;
+        synchronized (entries) {
+            sessionId = entries.get(new Key(userId, channel));
+        }
+        (sessionId != null ? hits : misses).increment();
+        return Optional.ofNullable(sessionId);
+    }
+
+    public void put(UUID userId, String channel, UUID sessionId) {
+        synchronized (entries) {
+            entries.put(new Key(userId, channel), sessionId);
+        }
+    }
+
+    public void evict(UUID userId, String channel) {
+        synchronized (entries) {
+            entries.remove(new Key(userId, channel));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(UUID userId, String channel) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.denticheck.api.domain.chatbot.service.impl;
+
+import com.denticheck.api.common.exception.user.UserErrorCode;
+import com.denticheck.api.common.exception.user.UserException;
+import com.denticheck.api.domain.chatbot.entity.AiChatMessageEntity;
+import com.denticheck.api.domain.chatbot.entity.ChatMessageType;
+import com.denticheck.api.domain.chatbot.entity.ChatRole;
+import com.denticheck.api.domain.chatbot.entity.ChatSessionEntity;
+import com.denticheck.api.domain.chatbot.repository.AiChatMessageRepository;
+import com.denticheck.api.domain.chatbot.repository.ChatSessionRepository;
+import com.denticheck.api.domain.user.entity.UserEntity;
+import com.denticheck.api.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 쓰기 전용 짧은 트랜잭션 모음.
+ * AI 호출(최대 수십 초)을 트랜잭션 밖에서 수행하기 위해 ChatServiceImpl에서 분리했다.
+ * 메시지 저장은 ActiveChatSessionCache의 세션 id와 getReferenceById로 처리해 사용자/세션 조회를 생략한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final AiChatMessageRepository aiChatMessageRepository;
+    private final UserRepository userRepository;
+    private final ActiveChatSessionCache activeChatSessionCache;
+
+    /** 활성 세션 조회 또는 생성 (세션 정보가 필요한 startSession용) */
+    @Transactional
+    public ChatSessionEntity getOrCreateActiveSession(UUID userId, String channel) {
+        ChatSessionEntity session = chatSessionRepository.findByUserIdAndChannelAndEndedAtIsNull(userId, channel)
+                .orElseGet(() -> {
+                    UserEntity user = userRepository.findById(userId)
+                            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
+                    log.info("새 채팅 세션을 시작합니다. 사용자: {}, 채널: {}", userId, channel);
+                    ChatSessionEntity created = ChatSessionEntity.builder()
+                            .user(user)
+                            .channel(channel)
+                            .build();
+                    return chatSessionRepository.save(created);
+                });
+        activeChatSessionCache.put(userId, channel, session.getId());
+        return session;
+    }
+
+    /** 1단계: 세션 확보 + 사용자 메시지 저장 + 세션 메타데이터 갱신 */
+    @Transactional
+    public SavedUserMessage saveUserMessage(
+            UUID userId,
+            String channel,
+            String content,
+            ChatMessageType messageType,
+            Map<String, Object> payload) {
+        String preview = ChatServiceImpl.preview(content);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 캐시된 세션이 다른 곳에서 종료되었으면(갱신 0건) 캐시를 비우고 DB 기준으로 다시 확보
+        UUID sessionId = activeChatSessionCache.get(userId, channel).orElse(null);
+        if (sessionId == null || chatSessionRepository.touchActiveSession(sessionId, preview, now) == 0) {
+            activeChatSessionCache.evict(userId, channel);
+            sessionId = getOrCreateActiveSession(userId, channel).getId();
+            chatSessionRepository.touchActiveSession(sessionId, preview, now);
+        }
+
+        AiChatMessageEntity userMessage = aiChatMessageRepository.save(AiChatMessageEntity.builder()
+                .session(chatSessionRepository.getReferenceById(sessionId))
+                .role(ChatRole.USER)
+                .content(content)
+                .messageType(messageType)
+                .payload(payload)
+                .language("en")
+                .build());
+
+        return new SavedUserMessage(sessionId, userMessage.getId());
+    }
+
+    /** 3단계: 챗봇 응답 저장 + 세션 메타데이터 갱신 */
+    @Transactional
+    public AiChatMessageEntity saveAssistantMessage(
+            UUID sessionId,
+            String content,
+            ChatMessageType messageType,
+            Map<String, Object> payload) {
+        return saveAssistantMessage(sessionId, content, messageType, payload, null);
+    }
+
+    /** citation: 답변 근거 (로컬 지식 베이스 대체 응답의 출처 등) */
+    @Transactional
+    public AiChatMessageEntity saveAssistantMessage(
+            UUID sessionId,
+            String content,
+            ChatMessageType messageType,
+            Map<String, Object> payload,
+            Map<String, Object> citation) {
+        if (chatSessionRepository.touchSession(sessionId, ChatServiceImpl.preview(content), LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("채팅 세션을 찾을 수 없습니다: " + sessionId);
+        }
+
+        return aiChatMessageRepository.save(AiChatMessageEntity.builder()
+                .session(chatSessionRepository.getReferenceById(sessionId))
+                .role(ChatRole.ASSISTANT)
+                .content(content)
+                .messageType(messageType)
+                .payload(payload)
+                .citation(citation)
+                .language("en")
+                .build());
+    }
+
+    public record SavedUserMessage(UUID sessionId, UUID userMessageId) {
+    }
+}
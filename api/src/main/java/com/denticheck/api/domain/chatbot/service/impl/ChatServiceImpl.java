@@ -1,59 +1,64 @@
 package com.denticheck.api.domain.chatbot.service.impl;
 
+import com.denticheck.api.common.pagination.KeysetCursor;
 import com.denticheck.api.domain.chatbot.entity.AiChatMessageEntity;
+import com.denticheck.api.domain.chatbot.knowledge.LocalKnowledgeBase;
 import com.denticheck.api.domain.chatbot.entity.ChatSessionEntity;
 import com.denticheck.api.domain.chatbot.repository.AiChatMessageRepository;
 import com.denticheck.api.domain.chatbot.repository.ChatSessionRepository;
 import com.denticheck.api.domain.chatbot.service.ChatService;
 import com.denticheck.api.domain.chatbot.dto.ChatAppRequest;
 import com.denticheck.api.domain.chatbot.dto.ChatAppResponse;
+import com.denticheck.api.domain.chatbot.dto.ChatHistoryPage;
+import com.denticheck.api.domain.chatbot.dto.ChatMessageJson;
+import com.denticheck.api.domain.chatbot.dto.ChatMessageSummary;
+import com.denticheck.api.domain.chatbot.dto.ChatResponse;
+import com.denticheck.api.domain.chatbot.dto.ChatStreamEvent;
 import com.denticheck.api.domain.chatbot.entity.ChatMessageType;
-import com.denticheck.api.domain.user.entity.UserEntity;
-import com.denticheck.api.domain.user.repository.UserRepository;
 import com.denticheck.api.infrastructure.external.ai.AiClient;
 import com.denticheck.api.infrastructure.external.ai.dto.AiChatAskRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import com.denticheck.api.domain.chatbot.entity.ChatRole;
-import com.denticheck.api.common.exception.user.UserException;
-import com.denticheck.api.common.exception.user.UserErrorCode;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
+    static final String EMPTY_ANSWER_MESSAGE = "I could not generate a response. Could you ask with a bit more detail?";
+    static final int DEFAULT_HISTORY_PAGE_SIZE = 30;
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+    static final String AI_UNAVAILABLE_MESSAGE = "Sorry, the AI service is temporarily unavailable. Please try again shortly.";
+
     private final ChatSessionRepository chatSessionRepository;
     private final AiChatMessageRepository aiChatMessageRepository;
-    private final UserRepository userRepository;
     private final AiClient aiClient;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ActiveChatSessionCache activeChatSessionCache;
+    private final LocalKnowledgeBase localKnowledgeBase;
 
     @Override
-    @Transactional
     public ChatSessionEntity startSession(UUID userId, String channel) {
         log.debug("startSession() 실행");
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-        return getOrCreateActiveSession(user, channel);
-    }
-
-    private ChatSessionEntity getOrCreateActiveSession(UserEntity user, String channel) {
-        return chatSessionRepository.findByUserIdAndChannelAndEndedAtIsNull(user.getId(), channel)
-                .orElseGet(() -> {
-                    log.info("새 채팅 세션을 시작합니다. 사용자: {}, 채널: {}", user.getId(), channel);
-                    ChatSessionEntity session = ChatSessionEntity.builder()
-                            .user(user)
-                            .channel(channel)
-                            .build();
-                    return chatSessionRepository.save(session);
-                });
+        return chatMessageWriter.getOrCreateActiveSession(userId, channel);
     }
 
     @Override
@@ -63,42 +68,99 @@ public class ChatServiceImpl implements ChatService {
         return aiChatMessageRepository.findAllBySessionIdOrderByCreatedAtAsc(sessionId);
     }
 
+    /**
+     * (created_at, id) 키셋 페이지네이션.
+     * 커서가 없으면 최신 메시지 first개, before면 그보다 오래된 메시지, after면 그 이후 메시지를 반환한다.
+     * jsonb 컬럼(payload, citation)은 includeJson일 때만 id 목록으로 한 번 더 읽는다.
+     */
     @Override
-    @Transactional
-    public ChatAppResponse processMessage(ChatAppRequest request, UUID userId, String channel) {
-        log.debug("processMessage() 실행");
-        String content = request.getContent();
-        ChatMessageType messageType = request.getMessageType() != null ? request.getMessageType()
-                : ChatMessageType.TEXT;
-        Map<String, Object> payload = request.getPayload();
+    @Transactional(readOnly = true)
+    public ChatHistoryPage getChatHistory(UUID sessionId, Integer first, String before, String after,
+            boolean includeJson) {
+        log.debug("getChatHistory() 페이지 조회 실행");
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다.");
+        }
+        int size = first == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(first, MAX_HISTORY_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        KeysetCursor beforeCursor = KeysetCursor.decode(before);
+        KeysetCursor afterCursor = KeysetCursor.decode(after);
 
-        if (content == null || content.trim().isEmpty()) {
-            content = "Please provide a valid message.";
+        List<ChatMessageSummary> rows;
+        if (afterCursor != null) {
+            rows = aiChatMessageRepository.findSummariesAfter(sessionId, afterCursor.createdAt(), afterCursor.id(), limit);
+        } else if (beforeCursor != null) {
+            rows = aiChatMessageRepository.findSummariesBefore(sessionId, beforeCursor.createdAt(), beforeCursor.id(), limit);
         } else {
-            content = content.trim();
+            rows = aiChatMessageRepository.findLatestSummaries(sessionId, limit);
         }
 
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
+        boolean hasMore = rows.size() > size;
+        List<ChatMessageSummary> page = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (afterCursor == null) {
+            // 최신/before 조회는 내림차순으로 읽었으므로 화면 순서(오래된 순)로 뒤집는다
+            Collections.reverse(page);
+        }
 
-        ChatSessionEntity session = getOrCreateActiveSession(user, channel);
+        Map<UUID, ChatMessageJson> json = includeJson && !page.isEmpty()
+                ? aiChatMessageRepository.findJsonByIdIn(
+                                page.stream().map(ChatMessageSummary::id).toList(),
+                                page.get(0).createdAt(),
+                                page.get(page.size() - 1).createdAt())
+                        .stream().collect(Collectors.toMap(ChatMessageJson::id, Function.identity()))
+                : Map.of();
 
-        // 1. 사용자 메시지 저장
-        AiChatMessageEntity userMessage = AiChatMessageEntity.builder()
-                .session(session)
-                .role(ChatRole.USER)
-                .content(content)
-                .messageType(messageType)
-                .payload(payload)
-                .language("en")
+        List<ChatResponse> messages = page.stream()
+                .map(row -> {
+                    ChatMessageJson extra = json.get(row.id());
+                    return ChatResponse.builder()
+                            .id(row.id())
+                            .sessionId(row.sessionId())
+                            .role(row.role())
+                            .messageType(row.messageType())
+                            .content(row.content())
+                            .language(row.language())
+                            .payload(extra != null ? extra.payload() : null)
+                            .citation(extra != null ? extra.citation() : null)
+                            .createdDate(row.createdAt())
+                            .updatedDate(row.updatedAt())
+                            .build();
+                })
+                .toList();
+
+        return ChatHistoryPage.builder()
+                .messages(messages)
+                .startCursor(page.isEmpty() ? null : cursorOf(page.get(0)))
+                .endCursor(page.isEmpty() ? null : cursorOf(page.get(page.size() - 1)))
+                .hasOlder(afterCursor != null || hasMore)
+                .hasNewer(afterCursor != null ? hasMore : beforeCursor != null)
                 .build();
-        aiChatMessageRepository.save(userMessage);
+    }
+
+    private static String cursorOf(ChatMessageSummary row) {
+        return new KeysetCursor(row.createdAt(), row.id()).encode();
+    }
+
+    /**
+     * AI 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 나눈다.
+     * 사용자 메시지 저장(짧은 트랜잭션) → AI 호출(트랜잭션 없음) → 응답 저장(짧은 트랜잭션)
+     */
+    @Override
+    public ChatAppResponse processMessage(ChatAppRequest request, UUID userId, String channel) {
+        log.debug("processMessage() 실행");
+        String content = normalizeContent(request.getContent());
+        ChatMessageType messageType = request.getMessageType() != null ? request.getMessageType()
+                : ChatMessageType.TEXT;
+        Map<String, Object> payload = request.getPayload();
 
-        // 세션 메타데이터 업데이트
-        session.touchLastMessage(preview(content));
+        // 1. 사용자 메시지 저장 + 세션 메타데이터 업데이트
+        ChatMessageWriter.SavedUserMessage userMessage = chatMessageWriter.saveUserMessage(
+                userId, channel, content, messageType, payload);
 
-        // 2. AI 서버 호출
+        // 2. AI 서버 호출 (트랜잭션 밖)
         String aiContent;
+        Map<String, Object> citation = null;
         try {
             String rawResponse = aiClient.askChat(AiChatAskRequest.builder()
                     .content(content)
@@ -107,35 +169,26 @@ public class ChatServiceImpl implements ChatService {
 
             // Null 또는 빈 문자열인 경우 기본 메시지 할당
             if (rawResponse == null || rawResponse.trim().isEmpty()) {
-                log.warn("AI 서버로부터 빈 응답을 받았습니다. sessionId: {}", session.getId());
-                aiContent = "I could not generate a response. Could you ask with a bit more detail?";
+                log.warn("AI 서버로부터 빈 응답을 받았습니다. sessionId: {}", userMessage.sessionId());
+                aiContent = EMPTY_ANSWER_MESSAGE;
             } else {
                 aiContent = rawResponse;
             }
         } catch (Exception e) {
             log.error("AI 서버 호출 중 오류가 발생했습니다: {}", e.getMessage());
-            aiContent = "Sorry, the AI service is temporarily unavailable. Please try again shortly.";
+            // AI 서비스 장애/차단 시 로컬 지식 베이스 검색 결과로 대체
+            Optional<LocalKnowledgeBase.KnowledgeAnswer> fallback = localKnowledgeBase.answer(content);
+            aiContent = fallback.map(LocalKnowledgeBase.KnowledgeAnswer::content).orElse(AI_UNAVAILABLE_MESSAGE);
+            citation = fallback.map(LocalKnowledgeBase.KnowledgeAnswer::citation).orElse(null);
         }
 
-        ChatMessageType aiMessageType = ChatMessageType.TEXT;
-        Map<String, Object> aiPayload = null;
-
-        // 3. 챗봇 응답 메시지 저장
-        AiChatMessageEntity aiMessage = AiChatMessageEntity.builder()
-                .session(session)
-                .role(ChatRole.ASSISTANT)
-                .content(aiContent)
-                .messageType(aiMessageType)
-                .payload(aiPayload)
-                .language("en")
-                .build();
-        AiChatMessageEntity savedAiMessage = aiChatMessageRepository.save(aiMessage);
-
-        session.touchLastMessage(preview(aiContent));
+        // 3. 챗봇 응답 메시지 저장 + 세션 메타데이터 업데이트
+        AiChatMessageEntity savedAiMessage = chatMessageWriter.saveAssistantMessage(
+                userMessage.sessionId(), aiContent, ChatMessageType.TEXT, null, citation);
 
         return ChatAppResponse.builder()
-                .sessionId(session.getId())
-                .userMessageId(userMessage.getId())
+                .sessionId(userMessage.sessionId())
+                .userMessageId(userMessage.userMessageId())
                 .assistantMessageId(savedAiMessage.getId())
                 .assistantContent(savedAiMessage.getContent())
                 .messageType(savedAiMessage.getMessageType())
@@ -143,6 +196,88 @@ public class ChatServiceImpl implements ChatService {
                 .build();
     }
 
+    /**
+     * processMessage의 스트리밍 버전.
+     * 사용자 메시지를 먼저 저장한 뒤 AI 답변 조각을 그대로 흘려보내고, 스트림이 끝나면 전체 답변을 저장한다.
+     * 구독이 취소되거나(클라이언트 연결 종료) 답변 도중 AI 스트림이 실패하면 그때까지 받은 답변을 truncated로 저장한다.
+     */
+    @Override
+    public Flux<ChatStreamEvent> streamMessage(ChatAppRequest request, UUID userId, String channel) {
+        log.debug("streamMessage() 실행");
+        String content = normalizeContent(request.getContent());
+        ChatMessageType messageType = request.getMessageType() != null ? request.getMessageType()
+                : ChatMessageType.TEXT;
+
+        return Mono.fromCallable(() -> chatMessageWriter.saveUserMessage(
+                        userId, channel, content, messageType, request.getPayload()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(userMessage -> {
+                    StringBuilder answer = new StringBuilder();
+                    AtomicBoolean finished = new AtomicBoolean();
+                    AtomicBoolean truncated = new AtomicBoolean();
+                    AtomicReference<Map<String, Object>> citation = new AtomicReference<>();
+
+                    Flux<ChatStreamEvent> deltas = aiClient.streamChat(AiChatAskRequest.builder()
+                                    .content(content)
+                                    .language("en")
+                                    .build())
+                            .map(delta -> {
+                                answer.append(delta);
+                                return ChatStreamEvent.builder()
+                                        .sessionId(userMessage.sessionId())
+                                        .userMessageId(userMessage.userMessageId())
+                                        .delta(delta)
+                                        .build();
+                            })
+                            .onErrorResume(e -> {
+                                log.error("AI 스트리밍 중 오류가 발생했습니다: {}", e.getMessage());
+                                if (!answer.isEmpty()) {
+                                    // 답변 도중 끊김: 받은 부분까지만 저장하되 취소 때와 같이 truncated로 표시
+                                    truncated.set(true);
+                                    return Flux.empty();
+                                }
+                                Optional<LocalKnowledgeBase.KnowledgeAnswer> fallback = localKnowledgeBase.answer(content);
+                                String fallbackContent = fallback.map(LocalKnowledgeBase.KnowledgeAnswer::content)
+                                        .orElse(AI_UNAVAILABLE_MESSAGE);
+                                citation.set(fallback.map(LocalKnowledgeBase.KnowledgeAnswer::citation).orElse(null));
+                                answer.append(fallbackContent);
+                                return Mono.just(ChatStreamEvent.builder()
+                                        .sessionId(userMessage.sessionId())
+                                        .userMessageId(userMessage.userMessageId())
+                                        .delta(fallbackContent)
+                                        .build());
+                            });
+
+                    Mono<ChatStreamEvent> completion = Mono.fromCallable(() -> {
+                        finished.set(true);
+                        String aiContent = answer.toString().isBlank() ? EMPTY_ANSWER_MESSAGE : answer.toString();
+                        AiChatMessageEntity saved = chatMessageWriter.saveAssistantMessage(
+                                userMessage.sessionId(), aiContent, ChatMessageType.TEXT,
+                                truncated.get() ? Map.<String, Object>of("truncated", true) : null, citation.get());
+                        return ChatStreamEvent.builder()
+                                .sessionId(userMessage.sessionId())
+                                .userMessageId(userMessage.userMessageId())
+                                .assistantMessageId(saved.getId())
+                                .content(saved.getContent())
+                                .done(true)
+                                .build();
+                    }).subscribeOn(Schedulers.boundedElastic());
+
+                    return deltas.concatWith(completion)
+                            .doOnCancel(() -> {
+                                if (finished.get() || answer.isEmpty()) {
+                                    return;
+                                }
+                                log.info("채팅 스트림이 취소되었습니다. sessionId: {}", userMessage.sessionId());
+                                Mono.fromRunnable(() -> chatMessageWriter.saveAssistantMessage(
+                                                userMessage.sessionId(), answer.toString(), ChatMessageType.TEXT,
+                                                Map.of("truncated", true)))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .subscribe(null, e -> log.error("중단된 답변 저장 실패: {}", e.getMessage()));
+                            });
+                });
+    }
+
     @Override
     @Transactional
     public void endSession(UUID userId, String channel) {
@@ -152,9 +287,17 @@ public class ChatServiceImpl implements ChatService {
                     log.info("채팅 세션을 종료합니다: {}", session.getId());
                     session.endSession();
                 });
+        activeChatSessionCache.evict(userId, channel);
+    }
+
+    private static String normalizeContent(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return "Please provide a valid message.";
+        }
+        return content.trim();
     }
 
-    private String preview(String content) {
+    static String preview(String content) {
         if (content == null)
             return "Picture/Card";
         return content.length() <= 30 ? content : content.substring(0, 30) + "...";
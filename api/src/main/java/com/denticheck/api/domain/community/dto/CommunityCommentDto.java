@@ -29,4 +29,6 @@ public class CommunityCommentDto {
     private Boolean isMine;
     /** 답글 개수 (최상위 댓글만 의미 있음) */
     private Integer replyCount;
+    /** 키셋 페이지네이션 커서 (다음 페이지 요청 시 after로 전달) */
+    private String cursor;
 }
@@ -0,0 +1,22 @@
+package com.denticheck.api.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** GraphQL CommentThread 타입: 최상위 댓글 + 앞쪽 답글 */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommunityCommentThreadDto {
+
+    private CommunityCommentDto comment;
+    /** 작성일 오름차순 앞쪽 답글 (최대 repliesPerThread개) */
+    private List<CommunityCommentDto> replies;
+    /** 더 불러올 답글이 있는지 (replies(parentCommentId, after: 마지막 답글 cursor)로 이어서 조회) */
+    private Boolean hasMoreReplies;
+}
@@ -14,7 +14,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CommunityPostDto {
 
     private UUID id;
@@ -34,6 +34,8 @@ public class CommunityPostDto {
     private Boolean isMine;
     /** 현재 로그인 사용자가 좋아요 눌렀으면 true */
     private Boolean isLiked;
+    /** 키셋 페이지네이션 커서 (다음 페이지 요청 시 after로 전달) */
+    private String cursor;
 
     @Data
     @NoArgsConstructor
@@ -42,14 +42,18 @@ public class CommunityCommentEntity extends BaseTimeEntity {
         this.content = content != null ? content : "";
     }
 
-    /** 좋아요(추천) 수 - 누가 눌렀는지는 저장하지 않음 */
-    @Column(name = "like_count", nullable = false)
+    /** 좋아요(추천) 수. CommunityLikeCounter가 DB에서 원자적으로 증감하므로 엔티티 저장 시에는 쓰지 않는다 */
+    @Column(name = "like_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
-    public void setLikeCount(Integer likeCount) {
-        this.likeCount = likeCount != null ? likeCount : 0;
-    }
+    /**
+     * 답글 수 (최상위 댓글만 의미 있음). 답글 작성/삭제 시 CommunityCommentRepository.adjustReplyCount로
+     * DB에서 원자적으로 증감하므로 엔티티 저장 시에는 쓰지 않는다.
+     */
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer replyCount = 0;
 
     /** 첨부 이미지 (일단 이미지만) */
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
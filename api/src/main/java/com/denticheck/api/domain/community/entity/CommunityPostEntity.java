@@ -32,14 +32,11 @@ public class CommunityPostEntity extends BaseTimeEntity {
         this.content = content != null ? content : "";
     }
 
-    @Column(name = "like_count", nullable = false)
+    /** 좋아요 수. CommunityLikeCounter가 DB에서 원자적으로 증감하므로 엔티티 저장 시에는 쓰지 않는다 */
+    @Column(name = "like_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
-    public void setLikeCount(Integer likeCount) {
-        this.likeCount = likeCount != null ? likeCount : 0;
-    }
-
     @Column(name = "comment_count", nullable = false)
     @Builder.Default
     private Integer commentCount = 0;
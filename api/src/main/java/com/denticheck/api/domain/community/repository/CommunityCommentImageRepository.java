@@ -0,0 +1,12 @@
+package com.denticheck.api.domain.community.repository;
+
+import com.denticheck.api.domain.community.entity.CommunityCommentImageEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface CommunityCommentImageRepository extends JpaRepository<CommunityCommentImageEntity, UUID> {
+
+    /** 파일 참조 수 확인용 (base-url이 바뀐 예전 URL도 세도록 경로 끝부분으로 비교) */
+    long countByImageUrlEndingWith(String suffix);
+}
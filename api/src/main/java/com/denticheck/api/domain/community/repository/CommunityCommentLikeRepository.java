@@ -2,16 +2,28 @@ package com.denticheck.api.domain.community.repository;
 
 import com.denticheck.api.domain.community.entity.CommunityCommentLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CommunityCommentLikeRepository extends JpaRepository<CommunityCommentLikeEntity, UUID> {
 
-    boolean existsByUserIdAndCommentId(UUID userId, UUID commentId);
+    /** 이미 좋아요한 경우(uq_community_comment_likes_user_comment 충돌) 아무것도 하지 않고 0을 반환 */
+    @Modifying
+    @Query(value = "INSERT INTO community_comment_likes (id, user_id, comment_id) VALUES (gen_random_uuid(), :userId, :commentId) "
+            + "ON CONFLICT (user_id, comment_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("commentId") UUID commentId);
 
-    void deleteByUserIdAndCommentId(UUID userId, UUID commentId);
+    /** 삭제된 행 수 (좋아요가 없었으면 0) */
+    @Modifying
+    @Query("DELETE FROM CommunityCommentLikeEntity l WHERE l.userId = :userId AND l.commentId = :commentId")
+    int deleteLike(@Param("userId") UUID userId, @Param("commentId") UUID commentId);
 
-    /** 현재 사용자가 좋아요한 댓글 ID 목록 (comments 조회 시 isLiked 설정용) */
-    List<CommunityCommentLikeEntity> findByUserIdAndCommentIdIn(UUID userId, List<UUID> commentIds);
+    /** 주어진 댓글 중 현재 사용자가 좋아요한 댓글 ID (comments/replies 조회 시 isLiked 설정용, (user_id, comment_id) 인덱스) */
+    @Query("SELECT l.commentId FROM CommunityCommentLikeEntity l WHERE l.userId = :userId AND l.commentId IN :commentIds")
+    Set<UUID> findLikedCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
 }
@@ -0,0 +1,132 @@
+package com.denticheck.api.domain.community.repository;
+
+import com.denticheck.api.common.pagination.KeysetCursor;
+import com.denticheck.api.domain.admin.entity.QPartnerProduct;
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.entity.QCommunityCommentDentalEntity;
+import com.denticheck.api.domain.community.entity.QCommunityCommentEntity;
+import com.denticheck.api.domain.community.entity.QCommunityCommentImageEntity;
+import com.denticheck.api.domain.community.entity.QCommunityCommentProductEntity;
+import com.denticheck.api.domain.community.repository.CommunityPostQueryRepository.DentalTagRow;
+import com.denticheck.api.domain.community.repository.CommunityPostQueryRepository.ImageRow;
+import com.denticheck.api.domain.community.repository.CommunityPostQueryRepository.ProductTagRow;
+import com.denticheck.api.domain.dental.entity.QDentalEntity;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글/답글 목록 조회 전용 (읽기 모델). CommunityPostQueryRepository와 같은 방식:
+ * 필요한 컬럼만 생성자 프로젝션으로 읽고, 이미지/태그는 댓글 ID로 따로 조회해 붙인다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityCommentQueryRepository {
+
+    private static final QCommunityCommentEntity comment = QCommunityCommentEntity.communityCommentEntity;
+    private static final QCommunityCommentImageEntity commentImage = QCommunityCommentImageEntity.communityCommentImageEntity;
+    private static final QCommunityCommentDentalEntity commentDental = QCommunityCommentDentalEntity.communityCommentDentalEntity;
+    private static final QCommunityCommentProductEntity commentProduct = QCommunityCommentProductEntity.communityCommentProductEntity;
+    private static final QDentalEntity dental = QDentalEntity.dentalEntity;
+    private static final QPartnerProduct product = QPartnerProduct.partnerProduct;
+
+    private final JPAQueryFactory queryFactory;
+
+    /** ids 순서대로 댓글 DTO (없는 ID는 건너뜀). isMine/isLiked는 호출하는 쪽에서 채운다 */
+    public List<CommunityCommentDto> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, CommentRow> rows = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(CommentRow.class,
+                        comment.id, comment.authorName, comment.content, comment.likeCount, comment.replyCount,
+                        comment.createdAt))
+                .from(comment)
+                .where(comment.id.in(ids))
+                .fetch()
+                .forEach(row -> rows.put(row.id(), row));
+
+        Map<UUID, List<String>> images = findImages(ids);
+        Map<UUID, List<CommunityPostDto.PostTagDto>> tags = findTags(ids);
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(row -> toDto(row, images.getOrDefault(row.id(), List.of()),
+                        tags.getOrDefault(row.id(), List.of())))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Map<UUID, List<String>> findImages(Collection<UUID> ids) {
+        Map<UUID, List<String>> out = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(ImageRow.class, commentImage.comment.id, commentImage.imageUrl))
+                .from(commentImage)
+                .where(commentImage.comment.id.in(ids))
+                .orderBy(commentImage.sortOrder.asc())
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>()).add(row.imageUrl()));
+        return out;
+    }
+
+    private Map<UUID, List<CommunityPostDto.PostTagDto>> findTags(Collection<UUID> ids) {
+        Map<UUID, List<CommunityPostDto.PostTagDto>> out = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(DentalTagRow.class, commentDental.commentId, dental.id, dental.name))
+                .from(commentDental)
+                .join(dental).on(dental.id.eq(commentDental.dentalId))
+                .where(commentDental.commentId.in(ids))
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>())
+                        .add(new CommunityPostDto.PostTagDto("hospital", nullToEmpty(row.name()), row.dentalId().toString())));
+        queryFactory
+                .select(Projections.constructor(ProductTagRow.class, commentProduct.commentId, product.id, product.name))
+                .from(commentProduct)
+                .join(product).on(product.id.eq(commentProduct.productId))
+                .where(commentProduct.commentId.in(ids))
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>())
+                        .add(new CommunityPostDto.PostTagDto("product", nullToEmpty(row.name()), String.valueOf(row.productId()))));
+        return out;
+    }
+
+    private static CommunityCommentDto toDto(CommentRow row, List<String> images,
+            List<CommunityPostDto.PostTagDto> tags) {
+        return CommunityCommentDto.builder()
+                .id(row.id())
+                .author(nullToEmpty(row.authorName()))
+                .content(nullToEmpty(row.content()))
+                .images(images)
+                .tags(tags)
+                .createdAt(row.createdAt() != null
+                        ? row.createdAt().atZone(ZoneId.systemDefault()).toInstant().toString()
+                        : null)
+                .likes(row.likeCount() != null ? row.likeCount() : 0)
+                .isLiked(false)
+                .isMine(false)
+                .replyCount(row.replyCount() != null ? row.replyCount() : 0)
+                .cursor(KeysetCursor.encode(row.createdAt(), row.id()))
+                .build();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    public record CommentRow(UUID id, String authorName, String content, Integer likeCount, Integer replyCount,
+            LocalDateTime createdAt) {
+    }
+}
@@ -3,9 +3,11 @@ package com.denticheck.api.domain.community.repository;
 import com.denticheck.api.domain.community.entity.CommunityCommentEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,19 +18,34 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     List<CommunityCommentEntity> findByPost_IdOrderByCreatedAtAsc(UUID postId, Pageable pageable);
 
     /** 페이징용: 최상위 댓글 ID 목록만 조회 (답글 제외, 최신순) */
-    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.post.id = :postId AND c.parentComment IS NULL ORDER BY c.createdAt DESC")
+    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.post.id = :postId AND c.parentComment IS NULL ORDER BY c.createdAt DESC, c.id DESC")
     List<UUID> findIdsByPostIdOrderByCreatedAtDesc(@Param("postId") UUID postId, Pageable pageable);
 
-    /** 부모 댓글별 답글 수 */
-    long countByParentComment_Id(UUID parentCommentId);
+    /** 키셋 페이지네이션: (created_at, id) 커서보다 오래된 최상위 댓글 ID (최신순) */
+    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.post.id = :postId AND c.parentComment IS NULL "
+            + "AND (c.createdAt, c.id) < (:createdAt, :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<UUID> findIdsByPostIdBefore(@Param("postId") UUID postId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    /** 답글 작성(+1)/삭제(-1) 시 부모 댓글의 reply_count를 원자적으로 증감 (동시 답글에도 유실 없음) */
+    @Modifying
+    @Query(value = "UPDATE community_comments SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :id",
+            nativeQuery = true)
+    int adjustReplyCount(@Param("id") UUID parentCommentId, @Param("delta") int delta);
 
     /** 부모 댓글별 답글 ID만 작성일 오름차순으로 조회 (중복 없음) */
-    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdAt ASC")
+    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdAt ASC, c.id ASC")
     List<UUID> findIdsByParentComment_IdOrderByCreatedAtAsc(@Param("parentCommentId") UUID parentCommentId);
 
-    /** 댓글 ID 목록으로 dentalLinks(dental 포함)까지 함께 로드 */
-    @Query("SELECT DISTINCT c FROM CommunityCommentEntity c LEFT JOIN FETCH c.dentalLinks d LEFT JOIN FETCH d.dental WHERE c.id IN :ids")
-    List<CommunityCommentEntity> findAllWithDentalsByIdIn(@Param("ids") List<UUID> ids);
+    /** 답글 페이징: 첫 페이지 (작성일 오름차순) */
+    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdAt ASC, c.id ASC")
+    List<UUID> findIdsByParentComment_IdOrderByCreatedAtAsc(@Param("parentCommentId") UUID parentCommentId, Pageable pageable);
+
+    /** 답글 키셋 페이지네이션: (created_at, id) 커서 이후 답글 ID (오름차순) */
+    @Query("SELECT c.id FROM CommunityCommentEntity c WHERE c.parentComment.id = :parentCommentId "
+            + "AND (c.createdAt, c.id) > (:createdAt, :id) ORDER BY c.createdAt ASC, c.id ASC")
+    List<UUID> findIdsByParentComment_IdAfter(@Param("parentCommentId") UUID parentCommentId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
 
     /** 단일 댓글을 dentalLinks(dental 포함)까지 함께 로드 */
     @Query("SELECT c FROM CommunityCommentEntity c LEFT JOIN FETCH c.dentalLinks d LEFT JOIN FETCH d.dental WHERE c.id = :id")
@@ -0,0 +1,143 @@
+package com.denticheck.api.domain.community.repository;
+
+import com.denticheck.api.common.pagination.KeysetCursor;
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 댓글 스레드 조회: 최상위 댓글 한 페이지 + 각 댓글의 앞쪽 답글 K개를 SQL 한 번으로 읽는다.
+ * 답글은 ROW_NUMBER() OVER (PARTITION BY parent_comment_id)로 스레드마다 K개까지 자르고,
+ * 이미지/병원 태그/상품 태그는 행마다 배열 서브쿼리로 함께 가져온다.
+ * (isLiked는 GraphQL 응답 시 CommunityBatchResolver가 스레드 전체 댓글을 모아 한 번에 채운다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityCommentThreadRepository {
+
+    private static final String SQL = """
+            WITH top AS (
+                SELECT c.id, c.created_at
+                  FROM community_comments c
+                 WHERE c.post_id = :postId
+                   AND c.parent_comment_id IS NULL%s
+                 ORDER BY c.created_at DESC, c.id DESC
+                 LIMIT :limit
+            ),
+            ranked_replies AS (
+                SELECT r.id, r.parent_comment_id,
+                       ROW_NUMBER() OVER (PARTITION BY r.parent_comment_id ORDER BY r.created_at, r.id) AS rn
+                  FROM community_comments r
+                 WHERE r.parent_comment_id IN (SELECT id FROM top)
+            ),
+            thread_rows AS (
+                SELECT t.id, t.created_at AS thread_created_at, t.id AS thread_id, 0 AS rn
+                  FROM top t
+                UNION ALL
+                SELECT r.id, t.created_at, t.id, r.rn
+                  FROM ranked_replies r
+                  JOIN top t ON t.id = r.parent_comment_id
+                 WHERE r.rn <= :repliesPerThread
+            )
+            SELECT c.id, c.parent_comment_id, c.author_name, c.content, c.like_count, c.reply_count, c.created_at,
+                   ARRAY(SELECT i.image_url FROM community_comment_images i
+                          WHERE i.comment_id = c.id ORDER BY i.sort_order) AS image_urls,
+                   ARRAY(SELECT d.id::text FROM community_comment_dentals cd JOIN dentals d ON d.id = cd.dental_id
+                          WHERE cd.comment_id = c.id ORDER BY cd.id) AS dental_ids,
+                   ARRAY(SELECT d.name FROM community_comment_dentals cd JOIN dentals d ON d.id = cd.dental_id
+                          WHERE cd.comment_id = c.id ORDER BY cd.id) AS dental_names,
+                   ARRAY(SELECT pp.id::text FROM community_comment_products cp JOIN partner_products pp ON pp.id = cp.product_id
+                          WHERE cp.comment_id = c.id ORDER BY cp.id) AS product_ids,
+                   ARRAY(SELECT pp.name FROM community_comment_products cp JOIN partner_products pp ON pp.id = cp.product_id
+                          WHERE cp.comment_id = c.id ORDER BY cp.id) AS product_names
+              FROM thread_rows t
+              JOIN community_comments c ON c.id = t.id
+             ORDER BY t.thread_created_at DESC, t.thread_id DESC, t.rn
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 스레드 순서로 반환: 최상위 댓글(최신순) 바로 뒤에 그 댓글의 답글(오름차순)이 온다.
+     *
+     * @param after 이전 페이지 마지막 최상위 댓글의 (created_at, id). null이면 첫 페이지
+     */
+    public List<ThreadRow> findThreadRows(UUID postId, KeysetCursor after, int limit, int repliesPerThread) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("postId", postId)
+                .addValue("limit", limit)
+                .addValue("repliesPerThread", repliesPerThread);
+        String cursor = "";
+        if (after != null) {
+            cursor = "\n       AND (c.created_at, c.id) < (:afterCreatedAt, :afterId)";
+            params.addValue("afterCreatedAt", after.createdAt()).addValue("afterId", after.id());
+        }
+        return jdbcTemplate.query(SQL.formatted(cursor), params, (rs, rowNum) -> toRow(rs));
+    }
+
+    private static ThreadRow toRow(ResultSet rs) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        Timestamp createdAtTs = rs.getTimestamp("created_at");
+        LocalDateTime createdAt = createdAtTs != null ? createdAtTs.toLocalDateTime() : null;
+
+        List<CommunityPostDto.PostTagDto> tags = new ArrayList<>();
+        List<String> dentalIds = strings(rs.getArray("dental_ids"));
+        List<String> dentalNames = strings(rs.getArray("dental_names"));
+        for (int i = 0; i < dentalIds.size(); i++) {
+            tags.add(new CommunityPostDto.PostTagDto("hospital", nullToEmpty(dentalNames.get(i)), dentalIds.get(i)));
+        }
+        List<String> productIds = strings(rs.getArray("product_ids"));
+        List<String> productNames = strings(rs.getArray("product_names"));
+        for (int i = 0; i < productIds.size(); i++) {
+            tags.add(new CommunityPostDto.PostTagDto("product", nullToEmpty(productNames.get(i)), productIds.get(i)));
+        }
+
+        CommunityCommentDto comment = CommunityCommentDto.builder()
+                .id(id)
+                .author(nullToEmpty(rs.getString("author_name")))
+                .content(nullToEmpty(rs.getString("content")))
+                .images(strings(rs.getArray("image_urls")))
+                .tags(tags)
+                .createdAt(createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toString() : null)
+                .likes(rs.getInt("like_count"))
+                .isLiked(false)
+                .isMine(false)
+                .replyCount(rs.getInt("reply_count"))
+                .cursor(KeysetCursor.encode(createdAt, id))
+                .build();
+        return new ThreadRow(rs.getObject("parent_comment_id", UUID.class), comment);
+    }
+
+    private static List<String> strings(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.asList((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /** parentId가 null이면 최상위 댓글 */
+    public record ThreadRow(UUID parentId, CommunityCommentDto comment) {
+    }
+}
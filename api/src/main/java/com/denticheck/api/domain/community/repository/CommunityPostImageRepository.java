@@ -9,4 +9,7 @@ import java.util.UUID;
 public interface CommunityPostImageRepository extends JpaRepository<CommunityPostImageEntity, UUID> {
 
     List<CommunityPostImageEntity> findByPost_IdInOrderBySortOrderAsc(List<UUID> postIds);
+
+    /** 파일 참조 수 확인용 (base-url이 바뀐 예전 URL도 세도록 경로 끝부분으로 비교) */
+    long countByImageUrlEndingWith(String suffix);
 }
@@ -3,22 +3,43 @@ package com.denticheck.api.domain.community.repository;
 import com.denticheck.api.domain.community.entity.CommunityPostLikeEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CommunityPostLikeRepository extends JpaRepository<CommunityPostLikeEntity, UUID> {
 
-    boolean existsByUserIdAndPostId(UUID userId, UUID postId);
+    /** 이미 좋아요한 경우(uq_community_post_likes_user_post 충돌) 아무것도 하지 않고 0을 반환 */
+    @Modifying
+    @Query(value = "INSERT INTO community_post_likes (id, user_id, post_id) VALUES (gen_random_uuid(), :userId, :postId) "
+            + "ON CONFLICT (user_id, post_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") UUID userId, @Param("postId") UUID postId);
 
-    void deleteByUserIdAndPostId(UUID userId, UUID postId);
+    /** 삭제된 행 수 (좋아요가 없었으면 0) */
+    @Modifying
+    @Query("DELETE FROM CommunityPostLikeEntity l WHERE l.userId = :userId AND l.postId = :postId")
+    int deleteLike(@Param("userId") UUID userId, @Param("postId") UUID postId);
 
-    /** 사용자가 좋아요한 게시글 like 목록 (posts 조회 시 isLiked 설정용) */
-    List<CommunityPostLikeEntity> findByUserId(UUID userId);
+    /**
+     * 목록 isLiked 설정용: 주어진 게시글 중 사용자가 좋아요한 게시글 ID만 조회.
+     * uq_community_post_likes_user_post (user_id, post_id) 인덱스만으로 처리된다 (index-only scan)
+     */
+    @Query("SELECT l.postId FROM CommunityPostLikeEntity l WHERE l.userId = :userId AND l.postId IN :postIds")
+    Set<UUID> findLikedPostIds(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
 
     /** 사용자가 좋아요한 게시글 ID 목록 (게시글 작성일 최신순, 페이징) */
-    @Query("SELECT l.post.id FROM CommunityPostLikeEntity l WHERE l.userId = :userId ORDER BY l.post.createdAt DESC")
+    @Query("SELECT l.post.id FROM CommunityPostLikeEntity l WHERE l.userId = :userId ORDER BY l.post.createdAt DESC, l.post.id DESC")
     List<UUID> findPostIdsByUserIdOrderByPostCreatedAtDesc(@Param("userId") UUID userId, Pageable pageable);
+
+    /** 키셋 페이지네이션: 게시글 (created_at, id) 커서보다 오래된 좋아요 게시글 ID */
+    @Query("SELECT l.post.id FROM CommunityPostLikeEntity l WHERE l.userId = :userId "
+            + "AND (l.post.createdAt, l.post.id) < (:createdAt, :id) ORDER BY l.post.createdAt DESC, l.post.id DESC")
+    List<UUID> findPostIdsByUserIdBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
 }
@@ -0,0 +1,140 @@
+package com.denticheck.api.domain.community.repository;
+
+import com.denticheck.api.common.pagination.KeysetCursor;
+import com.denticheck.api.domain.admin.entity.QPartnerProduct;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.entity.QCommunityPostDentalEntity;
+import com.denticheck.api.domain.community.entity.QCommunityPostEntity;
+import com.denticheck.api.domain.community.entity.QCommunityPostImageEntity;
+import com.denticheck.api.domain.community.entity.QCommunityPostProductEntity;
+import com.denticheck.api.domain.dental.entity.QDentalEntity;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록/상세 조회 전용 (읽기 모델).
+ * 엔티티를 로드하지 않고 DTO에 필요한 컬럼만 생성자 프로젝션으로 읽는다 (영속성 컨텍스트/변경 감지 없음).
+ * 태그/이미지는 fetch join 대신 게시글 ID로 따로 조회해 붙이므로 행이 태그 수만큼 곱해지지 않는다.
+ * 조회는 본문 1번 + 이미지 1번 + 병원 태그 1번 + 상품 태그 1번으로 ID 개수와 무관하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPostQueryRepository {
+
+    private static final QCommunityPostEntity post = QCommunityPostEntity.communityPostEntity;
+    private static final QCommunityPostImageEntity postImage = QCommunityPostImageEntity.communityPostImageEntity;
+    private static final QCommunityPostDentalEntity postDental = QCommunityPostDentalEntity.communityPostDentalEntity;
+    private static final QCommunityPostProductEntity postProduct = QCommunityPostProductEntity.communityPostProductEntity;
+    private static final QDentalEntity dental = QDentalEntity.dentalEntity;
+    private static final QPartnerProduct product = QPartnerProduct.partnerProduct;
+
+    private final JPAQueryFactory queryFactory;
+
+    /** ids 순서대로 게시글 DTO (없는 ID는 건너뜀). isMine/isLiked는 호출하는 쪽에서 채운다 */
+    public List<CommunityPostDto> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, PostRow> rows = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(PostRow.class,
+                        post.id, post.authorName, post.content, post.likeCount, post.commentCount,
+                        post.createdAt, post.postType))
+                .from(post)
+                .where(post.id.in(ids))
+                .fetch()
+                .forEach(row -> rows.put(row.id(), row));
+
+        Map<UUID, List<String>> images = findImages(ids);
+        Map<UUID, List<CommunityPostDto.PostTagDto>> tags = findTags(ids);
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(row -> toDto(row, images.getOrDefault(row.id(), List.of()),
+                        tags.getOrDefault(row.id(), List.of())))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Map<UUID, List<String>> findImages(Collection<UUID> ids) {
+        Map<UUID, List<String>> out = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(ImageRow.class, postImage.post.id, postImage.imageUrl))
+                .from(postImage)
+                .where(postImage.post.id.in(ids))
+                .orderBy(postImage.sortOrder.asc())
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>()).add(row.imageUrl()));
+        return out;
+    }
+
+    /** 병원 태그 다음 상품 태그 (기존 toDto와 같은 순서) */
+    private Map<UUID, List<CommunityPostDto.PostTagDto>> findTags(Collection<UUID> ids) {
+        Map<UUID, List<CommunityPostDto.PostTagDto>> out = new HashMap<>();
+        queryFactory
+                .select(Projections.constructor(DentalTagRow.class, postDental.postId, dental.id, dental.name))
+                .from(postDental)
+                .join(dental).on(dental.id.eq(postDental.dentalId))
+                .where(postDental.postId.in(ids))
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>())
+                        .add(new CommunityPostDto.PostTagDto("hospital", nullToEmpty(row.name()), row.dentalId().toString())));
+        queryFactory
+                .select(Projections.constructor(ProductTagRow.class, postProduct.postId, product.id, product.name))
+                .from(postProduct)
+                .join(product).on(product.id.eq(postProduct.productId))
+                .where(postProduct.postId.in(ids))
+                .fetch()
+                .forEach(row -> out.computeIfAbsent(row.ownerId(), k -> new ArrayList<>())
+                        .add(new CommunityPostDto.PostTagDto("product", nullToEmpty(row.name()), String.valueOf(row.productId()))));
+        return out;
+    }
+
+    private static CommunityPostDto toDto(PostRow row, List<String> images, List<CommunityPostDto.PostTagDto> tags) {
+        String author = nullToEmpty(row.authorName());
+        return CommunityPostDto.builder()
+                .id(row.id())
+                .author(author)
+                .authorInitial(author.isEmpty() ? "" : author.substring(0, 1))
+                .content(nullToEmpty(row.content()))
+                .images(images)
+                .tags(tags)
+                .likes(row.likeCount() != null ? row.likeCount() : 0)
+                .comments(row.commentCount() != null ? row.commentCount() : 0)
+                .createdAt(row.createdAt() != null
+                        ? row.createdAt().atZone(ZoneId.systemDefault()).toInstant().toString()
+                        : null)
+                .postType(row.postType())
+                .cursor(KeysetCursor.encode(row.createdAt(), row.id()))
+                .build();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    public record PostRow(UUID id, String authorName, String content, Integer likeCount, Integer commentCount,
+            LocalDateTime createdAt, String postType) {
+    }
+
+    public record ImageRow(UUID ownerId, String imageUrl) {
+    }
+
+    public record DentalTagRow(UUID ownerId, UUID dentalId, String name) {
+    }
+
+    public record ProductTagRow(UUID ownerId, Long productId, String name) {
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,18 +15,25 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPostEnti
     @Query("SELECT DISTINCT p FROM CommunityPostEntity p LEFT JOIN FETCH p.dentalLinks d LEFT JOIN FETCH d.dental")
     List<CommunityPostEntity> findAllWithDentals();
 
-    @Query("SELECT p.id FROM CommunityPostEntity p ORDER BY p.createdAt DESC")
+    @Query("SELECT p.id FROM CommunityPostEntity p ORDER BY p.createdAt DESC, p.id DESC")
     List<UUID> findIdsOrderByCreatedAtDesc(Pageable pageable);
 
-    @Query("SELECT p.id FROM CommunityPostEntity p WHERE (:postType IS NULL OR p.postType = :postType) ORDER BY p.createdAt DESC")
+    @Query("SELECT p.id FROM CommunityPostEntity p WHERE (:postType IS NULL OR p.postType = :postType) ORDER BY p.createdAt DESC, p.id DESC")
     List<UUID> findIdsOrderByCreatedAtDescWithPostType(Pageable pageable, @Param("postType") String postType);
 
-    @Query("SELECT p.id FROM CommunityPostEntity p WHERE p.authorName = :authorName ORDER BY p.createdAt DESC")
+    @Query("SELECT p.id FROM CommunityPostEntity p WHERE p.authorName = :authorName ORDER BY p.createdAt DESC, p.id DESC")
     List<UUID> findIdsByAuthorNameOrderByCreatedAtDesc(Pageable pageable, @Param("authorName") String authorName);
 
-    @Query("SELECT DISTINCT p FROM CommunityPostEntity p LEFT JOIN FETCH p.dentalLinks d LEFT JOIN FETCH d.dental WHERE p.id IN :ids")
-    List<CommunityPostEntity> findAllWithDentalsByIdIn(@Param("ids") List<UUID> ids);
+    // 키셋 페이지네이션: (created_at, id) 커서보다 오래된 게시글. 첫 페이지는 위의 조회를 0페이지로 사용
+    @Query("SELECT p.id FROM CommunityPostEntity p WHERE (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findIdsBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
 
-    @Query("SELECT p FROM CommunityPostEntity p LEFT JOIN FETCH p.dentalLinks d LEFT JOIN FETCH d.dental WHERE p.id = :id")
-    java.util.Optional<CommunityPostEntity> findByIdWithDentals(@Param("id") UUID id);
+    /** idx_community_posts_post_type_created_at_id 사용을 위해 postType 조건을 분리 */
+    @Query("SELECT p.id FROM CommunityPostEntity p WHERE p.postType = :postType AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findIdsByPostTypeBefore(@Param("postType") String postType, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
+
+    @Query("SELECT p.id FROM CommunityPostEntity p WHERE p.authorName = :authorName AND (p.createdAt, p.id) < (:createdAt, :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<UUID> findIdsByAuthorNameBefore(@Param("authorName") String authorName, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable pageable);
 }
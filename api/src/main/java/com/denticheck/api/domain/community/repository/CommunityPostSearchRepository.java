@@ -0,0 +1,120 @@
+package com.denticheck.api.domain.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커뮤니티 게시글 검색 (V32 마이그레이션의 search_vector / pg_trgm 인덱스 사용).
+ *
+ * <p>매칭: 게시글 또는 댓글 본문이
+ * <ul>
+ *   <li>검색어의 각 단어로 시작하는 토큰을 모두 포함하거나 (search_vector @@ '단어:*' & ..., "잇몸" → "잇몸이" 등 조사 붙은 형태 포함)</li>
+ *   <li>검색어 전체를 부분 문자열로 포함 (content ILIKE, 3자 이상일 때만 - 그보다 짧으면 트라이그램 인덱스를 쓸 수 없다)</li>
+ * </ul>
+ * 점수: 관련도(ts_rank_cd + word_similarity, 댓글 매칭은 절반) + 작성 시각(30일 = 관련도 1).
+ * 작성 시각은 현재 시각과의 차이가 아니라 절대값을 쓰므로 같은 검색어의 점수는 페이지를 넘겨도 변하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityPostSearchRepository {
+
+    /** 관련도 1과 같은 가치를 갖는 최신성 (초) */
+    private static final double RECENCY_SECONDS_PER_POINT = 30 * 24 * 3600.0;
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param terms     tsquery용 단어 (특수문자 제거, 소문자). 비어 있으면 부분 문자열 매칭만 사용
+     * @param phrase    부분 문자열 매칭용 원문 검색어
+     * @param postType  null이면 전체
+     * @param dentalId  치과 태그 필터 (null이면 무시)
+     * @param productId 상품 태그 필터 (null이면 무시)
+     * @param after     이전 페이지 마지막 항목의 (score, id). null이면 첫 페이지
+     */
+    public List<SearchHit> search(List<String> terms, String phrase, String postType, UUID dentalId, Long productId,
+            Double afterScore, UUID afterId, int limit) {
+        boolean useTsQuery = !terms.isEmpty();
+        boolean useSubstring = phrase.length() >= MIN_SUBSTRING_LENGTH;
+        if (!useTsQuery && !useSubstring) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tsquery", String.join(" & ", terms.stream().map(t -> t + ":*").toList()))
+                .addValue("phrase", phrase)
+                .addValue("pattern", "%" + escapeLike(phrase) + "%")
+                .addValue("recency", RECENCY_SECONDS_PER_POINT)
+                .addValue("limit", limit);
+
+        String match = useTsQuery && useSubstring
+                ? "(%1$s.search_vector @@ q.tsq OR %1$s.content ILIKE :pattern)"
+                : useTsQuery ? "%1$s.search_vector @@ q.tsq" : "%1$s.content ILIKE :pattern";
+        String relevance = useTsQuery
+                ? "ts_rank_cd(%1$s.search_vector, q.tsq, 32) + word_similarity(:phrase, %1$s.content)"
+                : "word_similarity(:phrase, %1$s.content)";
+
+        StringBuilder filters = new StringBuilder();
+        if (postType != null) {
+            filters.append(" AND p.post_type = :postType");
+            params.addValue("postType", postType);
+        }
+        if (dentalId != null) {
+            filters.append(" AND EXISTS (SELECT 1 FROM community_post_dentals d WHERE d.post_id = p.id AND d.dental_id = :dentalId)");
+            params.addValue("dentalId", dentalId);
+        }
+        if (productId != null) {
+            filters.append(" AND EXISTS (SELECT 1 FROM community_post_products pp WHERE pp.post_id = p.id AND pp.product_id = :productId)");
+            params.addValue("productId", productId);
+        }
+        String cursor = "";
+        if (afterScore != null && afterId != null) {
+            cursor = "WHERE (s.score, s.id) < (:afterScore, :afterId)";
+            params.addValue("afterScore", afterScore).addValue("afterId", afterId);
+        }
+
+        String sql = """
+                WITH q AS (SELECT to_tsquery('simple', :tsquery) AS tsq),
+                matched AS (
+                    SELECT p.id AS post_id, %s AS relevance
+                      FROM community_posts p, q
+                     WHERE %s
+                    UNION ALL
+                    SELECT c.post_id, 0.5 * (%s) AS relevance
+                      FROM community_comments c, q
+                     WHERE %s
+                ),
+                scored AS (
+                    SELECT p.id, MAX(m.relevance) + EXTRACT(EPOCH FROM p.created_at) / :recency AS score
+                      FROM matched m
+                      JOIN community_posts p ON p.id = m.post_id
+                     WHERE p.created_at IS NOT NULL%s
+                     GROUP BY p.id, p.created_at
+                )
+                SELECT s.id, s.score
+                  FROM scored s
+                %s
+                 ORDER BY s.score DESC, s.id DESC
+                 LIMIT :limit
+                """.formatted(
+                relevance.formatted("p"), match.formatted("p"),
+                relevance.formatted("c"), match.formatted("c"),
+                filters, cursor);
+
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new SearchHit(rs.getObject("id", UUID.class), rs.getDouble("score")));
+    }
+
+    /** ILIKE 패턴에서 \, %, _ 를 문자 그대로 매칭 */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SearchHit(UUID postId, double score) {
+    }
+}
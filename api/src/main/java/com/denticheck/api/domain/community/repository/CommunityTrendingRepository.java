@@ -0,0 +1,96 @@
+package com.denticheck.api.domain.community.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인기 게시글 순위 테이블 (V34 community_post_trending).
+ *
+ * <p>점수 = log10(max(좋아요 + 2 * 댓글, 1)) + 작성 시각(epoch 초) / decaySeconds.
+ * 반응이 10배 많으면 decaySeconds만큼 먼저 쓴 글과 같은 점수가 된다(시간 감쇠).
+ * 현재 시각을 쓰지 않으므로 점수는 좋아요/댓글 수가 바뀔 때만 달라지고, 그 게시글 한 행만 다시 계산하면 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommunityTrendingRepository {
+
+    private static final String SCORE_EXPRESSION =
+            "LOG(GREATEST(p.like_count + 2 * p.comment_count, 1)::double precision)"
+                    + " + EXTRACT(EPOCH FROM p.created_at)::double precision / :decaySeconds";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO community_post_trending (post_id, post_type, score, updated_at)
+            SELECT p.id, p.post_type, %s, now()
+              FROM community_posts p
+             WHERE p.created_at >= :since%s
+            ON CONFLICT (post_id) DO UPDATE
+               SET post_type = EXCLUDED.post_type, score = EXCLUDED.score, updated_at = EXCLUDED.updated_at
+             WHERE community_post_trending.score <> EXCLUDED.score
+                OR community_post_trending.post_type IS DISTINCT FROM EXCLUDED.post_type
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** 점수 내림차순. postType이 null이면 전체, after가 있으면 (score, id) 다음부터 */
+    public List<RankedPost> findTop(String postType, Double afterScore, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder where = new StringBuilder("WHERE 1 = 1");
+        if (postType != null) {
+            where.append(" AND t.post_type = :postType");
+            params.addValue("postType", postType);
+        }
+        if (afterScore != null && afterId != null) {
+            where.append(" AND (t.score, t.post_id) < (:afterScore, :afterId)");
+            params.addValue("afterScore", afterScore).addValue("afterId", afterId);
+        }
+        String sql = """
+                SELECT t.post_id, t.score
+                  FROM community_post_trending t
+                %s
+                 ORDER BY t.score DESC, t.post_id DESC
+                 LIMIT :limit
+                """.formatted(where);
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new RankedPost(rs.getObject("post_id", UUID.class), rs.getDouble("score")));
+    }
+
+    /** 지정한 게시글들의 점수 재계산 (since 이전에 작성된 글은 무시). 바뀐 행 수 반환 */
+    public int upsert(Collection<UUID> postIds, LocalDateTime since, double decaySeconds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", postIds)
+                .addValue("since", since)
+                .addValue("decaySeconds", decaySeconds);
+        return jdbcTemplate.update(UPSERT_SQL.formatted(SCORE_EXPRESSION, " AND p.id IN (:ids)"), params);
+    }
+
+    /** since 이후 작성된 게시글 전체 재계산. 바뀐 행 수 반환 */
+    public int upsertAll(LocalDateTime since, double decaySeconds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", since)
+                .addValue("decaySeconds", decaySeconds);
+        return jdbcTemplate.update(UPSERT_SQL.formatted(SCORE_EXPRESSION, ""), params);
+    }
+
+    /** since 이전에 작성된 게시글을 순위에서 제외. 삭제된 행 수 반환 */
+    public int evictOlderThan(LocalDateTime since) {
+        return jdbcTemplate.update("""
+                DELETE FROM community_post_trending t
+                 USING community_posts p
+                 WHERE p.id = t.post_id
+                   AND (p.created_at IS NULL OR p.created_at < :since)
+                """, new MapSqlParameterSource("since", since));
+    }
+
+    public record RankedPost(UUID postId, double score) {
+    }
+}
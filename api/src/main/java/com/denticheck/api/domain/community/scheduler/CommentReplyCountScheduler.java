@@ -0,0 +1,98 @@
+package com.denticheck.api.domain.community.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * community_comments.reply_count 정합성 점검 (V31 마이그레이션 참고).
+ * 실제 답글 수와 다른 행을 찾아 보정하고, 보정 건수를 로그와 메트릭으로 남긴다.
+ *
+ * <p>LikeCountReconcileScheduler와 같은 방식: 최상위 댓글을 ID 순으로 BATCH_SIZE개씩 FOR UPDATE로 잠근 뒤 센다.
+ * 잠금 동안은 답글 INSERT(부모 FK 확인)와 adjustReplyCount가 기다리므로, 센 값과 쓰는 값 사이에 커밋된 증감을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentReplyCountScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final String LOCK_SQL = """
+            SELECT id FROM community_comments
+             WHERE parent_comment_id IS NULL
+               AND id > ?
+             ORDER BY id
+             LIMIT ?
+               FOR UPDATE
+            """;
+
+    private static final String RECONCILE_SQL = """
+            UPDATE community_comments c
+               SET reply_count = a.cnt
+              FROM (SELECT p.id, COUNT(r.id) AS cnt
+                      FROM community_comments p
+                      LEFT JOIN community_comments r ON r.parent_comment_id = p.id
+                     WHERE p.id = ANY(?)
+                     GROUP BY p.id) a
+             WHERE c.id = a.id
+               AND c.reply_count <> a.cnt
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftCounter;
+
+    public CommentReplyCountScheduler(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.driftCounter = Counter.builder("community.comment.reply_count.drift")
+                .description("정합성 점검에서 보정된 댓글 reply_count 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매일 04:00 실행: 어긋난 reply_count 보정
+     */
+    @Scheduled(cron = "${community.reply-count.check-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int fixed = 0;
+        UUID after = FIRST_ID;
+        while (after != null) {
+            Batch batch = reconcileBatch(after);
+            fixed += batch.fixed();
+            after = batch.lastId();
+        }
+        if (fixed > 0) {
+            driftCounter.increment(fixed);
+            log.warn("댓글 reply_count 불일치 {}건을 보정했습니다.", fixed);
+        }
+    }
+
+    /** after 다음 ID부터 한 배치를 잠그고 보정. 마지막 배치면 lastId는 null */
+    private Batch reconcileBatch(UUID after) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> locked = jdbcTemplate.queryForList(LOCK_SQL, UUID.class, after, BATCH_SIZE);
+            if (locked.isEmpty()) {
+                return new Batch(0, null);
+            }
+            UUID[] ids = locked.toArray(UUID[]::new);
+            int fixed = jdbcTemplate.update(RECONCILE_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)));
+            UUID lastId = locked.size() < BATCH_SIZE ? null : locked.get(locked.size() - 1);
+            return new Batch(fixed, lastId);
+        });
+    }
+
+    private record Batch(int fixed, UUID lastId) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.denticheck.api.domain.community.scheduler;
+
+import com.denticheck.api.domain.community.service.impl.CommunityImageDeletionQueue;
+import com.denticheck.api.domain.community.service.impl.CommunityImageUploadServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 디렉토리의 고아 이미지 정리.
+ * community_post_images / community_comment_images 어디에서도 참조하지 않는 원본 파일을 삭제 대기열에 넣는다.
+ * (업로드 후 게시글을 등록하지 않은 경우, 댓글/게시글이 DB cascade로 함께 삭제된 경우, 삭제 재시도를 모두 실패한 경우)
+ * 업로드 직후 아직 게시글에 연결되지 않은 파일을 지우지 않도록 min-age-hours보다 오래된 파일만 대상으로 한다.
+ * 원본이 없는 리사이즈 변형과 남은 임시 파일은 바로 지운다.
+ */
+@Slf4j
+@Component
+public class CommunityImageOrphanSweeper {
+
+    private static final String REFERENCED_URLS_SQL = """
+            SELECT image_url FROM community_post_images
+            UNION
+            SELECT image_url FROM community_comment_images
+            """;
+
+    private static final Pattern VARIANT_NAME = Pattern.compile("^(.+)_w\\d+\\.jpg$");
+    private static final List<String> ORIGINAL_EXTENSIONS = List.of(".jpg", ".jpeg", ".png", ".webp");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommunityImageDeletionQueue communityImageDeletionQueue;
+    private final MeterRegistry meterRegistry;
+    private final String localDir;
+    private final Duration minAge;
+
+    public CommunityImageOrphanSweeper(JdbcTemplate jdbcTemplate,
+            CommunityImageDeletionQueue communityImageDeletionQueue,
+            MeterRegistry meterRegistry,
+            @Value("${upload.storage.local-dir:./uploads/community}") String localDir,
+            @Value("${upload.orphan-sweep.min-age-hours:24}") long minAgeHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.communityImageDeletionQueue = communityImageDeletionQueue;
+        this.meterRegistry = meterRegistry;
+        this.localDir = localDir;
+        this.minAge = Duration.ofHours(minAgeHours);
+    }
+
+    /**
+     * 매일 04:30 실행
+     */
+    @Scheduled(cron = "${upload.orphan-sweep.cron:0 30 4 * * *}")
+    public void sweep() {
+        Path dir = Paths.get(localDir).toAbsolutePath().normalize();
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        // 파일 목록보다 먼저 읽는다: 그 사이에 연결된 이미지는 삭제 직전 참조 수 확인에서 다시 걸러진다
+        Set<String> referenced = new HashSet<>();
+        jdbcTemplate.query(REFERENCED_URLS_SQL, (RowCallbackHandler) rs -> {
+            String relativePath = CommunityImageUploadServiceImpl.relativePathOf(rs.getString(1));
+            if (relativePath != null) {
+                referenced.add(relativePath);
+            }
+        });
+
+        Instant cutoff = Instant.now().minus(minAge);
+        List<String> orphans = new ArrayList<>();
+        int variants = 0;
+        int temps = 0;
+        // 이전 형식({UUID}.ext)은 최상위, 내용 주소 형식은 ab/cd/ 아래
+        try (Stream<Path> files = Files.walk(dir, 3)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (!isOlderThan(file, cutoff)) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                if (name.startsWith(".") && name.endsWith(".tmp")) {
+                    // 업로드/변형 생성 중 비정상 종료로 남은 임시 파일
+                    if (Files.deleteIfExists(file)) {
+                        temps++;
+                    }
+                    continue;
+                }
+                Matcher variant = VARIANT_NAME.matcher(name);
+                if (variant.matches()) {
+                    if (!hasOriginal(file, variant.group(1)) && Files.deleteIfExists(file)) {
+                        variants++;
+                    }
+                    continue;
+                }
+                String relativePath = dir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                if (relativePath.equals(CommunityImageUploadServiceImpl.relativePathOf("/" + relativePath))
+                        && !referenced.contains(relativePath)) {
+                    orphans.add("/" + relativePath);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("고아 이미지 정리 중 디렉토리 탐색 실패: {}", dir, e);
+        }
+
+        communityImageDeletionQueue.enqueue(orphans);
+        meterRegistry.counter("community.image.orphans", "kind", "original").increment(orphans.size());
+        meterRegistry.counter("community.image.orphans", "kind", "variant").increment(variants);
+        meterRegistry.counter("community.image.orphans", "kind", "temp").increment(temps);
+        if (!orphans.isEmpty() || variants > 0 || temps > 0) {
+            log.info("고아 이미지 정리: 원본 {}건 삭제 예약, 변형 {}건/임시 파일 {}건 삭제", orphans.size(), variants, temps);
+        }
+    }
+
+    private static boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** 이전 형식 파일은 확장자가 대문자일 수 있다 */
+    private static boolean hasOriginal(Path variant, String stem) {
+        for (String ext : ORIGINAL_EXTENSIONS) {
+            if (Files.exists(variant.resolveSibling(stem + ext))
+                    || Files.exists(variant.resolveSibling(stem + ext.toUpperCase()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
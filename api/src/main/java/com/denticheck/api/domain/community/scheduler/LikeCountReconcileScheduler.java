@@ -0,0 +1,114 @@
+package com.denticheck.api.domain.community.scheduler;
+
+import com.denticheck.api.domain.community.service.impl.CommunityLikeCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 게시글/댓글 like_count 정합성 점검.
+ * 좋아요 테이블 기준의 실제 개수와 다른 행을 보정한다. 버퍼 모드에서 반영 전에 종료되어 사라진 증감분도 여기서 맞춰진다.
+ *
+ * <p>ID 순으로 BATCH_SIZE개씩 잘라 배치마다 트랜잭션을 열고, 대상 행을 FOR UPDATE로 잠근 뒤 개수를 센다.
+ * 잠금 동안은 좋아요 INSERT(FK 확인)와 즉시 반영 모드의 like_count 증감이 기다리므로, 센 값과 쓰는 값 사이에
+ * 들어온 좋아요를 덮어쓰지 않는다. 버퍼에 반영 전 증감분이 남은 ID는 덮어쓰면 flush 때 이중 반영되므로 건너뛰고
+ * 다음 점검에서 맞춘다.
+ */
+@Slf4j
+@Component
+public class LikeCountReconcileScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommunityLikeCounter communityLikeCounter;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeCountReconcileScheduler(JdbcTemplate jdbcTemplate, CommunityLikeCounter communityLikeCounter,
+            MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.communityLikeCounter = communityLikeCounter;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 매일 04:15 실행: 어긋난 like_count 보정
+     */
+    @Scheduled(cron = "${community.like-count.check-cron:0 15 4 * * *}")
+    public void reconcile() {
+        communityLikeCounter.flush();
+        reconcile(Table.POST, communityLikeCounter::pendingPostIds);
+        reconcile(Table.COMMENT, communityLikeCounter::pendingCommentIds);
+    }
+
+    private void reconcile(Table table, Supplier<Set<UUID>> pendingIds) {
+        int fixed = 0;
+        UUID after = FIRST_ID;
+        while (after != null) {
+            Batch batch = reconcileBatch(table, after, pendingIds);
+            fixed += batch.fixed();
+            after = batch.lastId();
+        }
+        if (fixed > 0) {
+            meterRegistry.counter("community.like_count.drift", "target", table.target).increment(fixed);
+            log.warn("{} like_count 불일치 {}건을 보정했습니다.", table.target, fixed);
+        }
+    }
+
+    /** after 다음 ID부터 한 배치를 잠그고 보정. 마지막 배치면 lastId는 null */
+    private Batch reconcileBatch(Table table, UUID after, Supplier<Set<UUID>> pendingIds) {
+        return transactionTemplate.execute(status -> {
+            List<UUID> locked = jdbcTemplate.queryForList(table.lockSql, UUID.class, after, BATCH_SIZE);
+            if (locked.isEmpty()) {
+                return new Batch(0, null);
+            }
+            // 잠근 뒤에 확인해야 잠금 전에 커밋된 좋아요의 버퍼 증감분까지 보인다
+            Set<UUID> pending = pendingIds.get();
+            UUID[] targets = locked.stream().filter(id -> !pending.contains(id)).toArray(UUID[]::new);
+            int fixed = targets.length == 0 ? 0 : jdbcTemplate.update(table.reconcileSql,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", targets)));
+            UUID lastId = locked.size() < BATCH_SIZE ? null : locked.get(locked.size() - 1);
+            return new Batch(fixed, lastId);
+        });
+    }
+
+    private record Batch(int fixed, UUID lastId) {
+    }
+
+    private enum Table {
+        POST("post", "community_posts", "community_post_likes", "post_id"),
+        COMMENT("comment", "community_comments", "community_comment_likes", "comment_id");
+
+        private final String target;
+        private final String lockSql;
+        private final String reconcileSql;
+
+        Table(String target, String table, String likeTable, String foreignKey) {
+            this.target = target;
+            this.lockSql = "SELECT id FROM " + table + " WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE";
+            this.reconcileSql = """
+                    UPDATE %1$s t
+                       SET like_count = a.cnt
+                      FROM (SELECT x.id, COUNT(l.id) AS cnt
+                              FROM %1$s x
+                              LEFT JOIN %2$s l ON l.%3$s = x.id
+                             WHERE x.id = ANY(?)
+                             GROUP BY x.id) a
+                     WHERE t.id = a.id
+                       AND t.like_count <> a.cnt
+                    """.formatted(table, likeTable, foreignKey);
+        }
+    }
+}
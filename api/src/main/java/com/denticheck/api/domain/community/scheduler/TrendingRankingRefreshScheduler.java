@@ -0,0 +1,43 @@
+package com.denticheck.api.domain.community.scheduler;
+
+import com.denticheck.api.domain.community.service.impl.CommunityTrendingRanking;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 게시글 순위 전체 재계산.
+ * 기동 직후 한 번(기존 게시글 채우기), 이후 refresh-interval-ms마다 실행한다.
+ * 이벤트 반영 누락(반영 전 종료, 좋아요 버퍼 지연 등)을 보정하고 기간이 지난 게시글을 순위에서 뺀다.
+ */
+@Slf4j
+@Component
+public class TrendingRankingRefreshScheduler {
+
+    private final CommunityTrendingRanking communityTrendingRanking;
+    private final MeterRegistry meterRegistry;
+    private final Timer duration;
+
+    public TrendingRankingRefreshScheduler(CommunityTrendingRanking communityTrendingRanking,
+            MeterRegistry meterRegistry) {
+        this.communityTrendingRanking = communityTrendingRanking;
+        this.meterRegistry = meterRegistry;
+        this.duration = Timer.builder("community.trending.refresh").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${community.trending.refresh-interval-ms:300000}")
+    public void refresh() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int[] result = communityTrendingRanking.refreshAll();
+        sample.stop(duration);
+        int updated = result[0];
+        int evicted = result[1];
+        meterRegistry.counter("community.trending.refresh.rows", "kind", "updated").increment(updated);
+        meterRegistry.counter("community.trending.refresh.rows", "kind", "evicted").increment(evicted);
+        if (updated > 0 || evicted > 0) {
+            log.debug("인기 게시글 순위 재계산: 갱신 {}건, 제외 {}건", updated, evicted);
+        }
+    }
+}
@@ -2,5 +2,8 @@ package com.denticheck.api.domain.community.service;
 
 import com.denticheck.api.domain.community.entity.CommunityCommentEntity;
 
-/** 댓글 좋아요 토글 결과 (게시글 toggleLike와 동일 패턴) */
-public record CommentLikeToggleResult(CommunityCommentEntity comment, boolean isLiked) {}
+/**
+ * 댓글 좋아요 토글 결과 (게시글 toggleLike와 동일 패턴).
+ * likeCount: 토글 후 좋아요 수 (버퍼 모드에서는 아직 DB에 반영되지 않은 증감분 포함)
+ */
+public record CommentLikeToggleResult(CommunityCommentEntity comment, boolean isLiked, int likeCount) {}
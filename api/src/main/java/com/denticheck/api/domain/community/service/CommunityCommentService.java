@@ -1,9 +1,19 @@
 package com.denticheck.api.domain.community.service;
 
+import com.denticheck.api.domain.community.dto.CommunityCommentThreadDto;
+
+import java.util.List;
 import java.util.UUID;
 
 /** 댓글 좋아요 토글 - 게시글 좋아요(CommunityPostService.toggleLike)와 동일 로직으로 서비스에서 @Transactional 처리 */
 public interface CommunityCommentService {
 
     CommentLikeToggleResult toggleCommentLike(UUID userId, UUID commentId);
+
+    /**
+     * 최상위 댓글(최신순) 한 페이지와 각 댓글의 앞쪽 답글(오름차순)을 스레드로 묶어 반환.
+     * after: 이전 페이지 마지막 스레드의 comment.cursor. currentAuthorName은 isMine 판단용 (비로그인 null)
+     */
+    List<CommunityCommentThreadDto> findThreads(UUID postId, int limit, String after, int repliesPerThread,
+            String currentAuthorName);
 }
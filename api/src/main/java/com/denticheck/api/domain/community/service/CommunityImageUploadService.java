@@ -9,17 +9,29 @@ public interface CommunityImageUploadService {
 
     /**
      * 이미지 파일을 저장하고 접근 가능한 URL을 반환.
+     * 내용(SHA-256) 기준 경로에 저장하므로 같은 이미지를 여러 번 올리면 같은 URL(파일 1개)이 반환된다.
      *
      * @param file 업로드된 이미지 (jpg, jpeg, png, webp 등)
-     * @return 저장된 파일의 공개 URL (예: https://api.example.com/uploads/community/xxx.jpg)
+     * @return 저장된 파일의 공개 URL (예: https://api.example.com/uploads/community/ab/cd/abcd....jpg)
      * @throws IllegalArgumentException 빈 파일 또는 허용되지 않은 확장자
      */
     String uploadImage(MultipartFile file);
 
     /**
-     * URL에 해당하는 로컬 파일을 삭제. 본 서비스에서 발급한 URL이 아니면 무시.
+     * 요청한 표시 너비에 맞는 리사이즈 변형 URL. 변형이 아직 없거나(생성 중/WebP 등) 본 서비스 URL이 아니면 원본 URL.
      *
-     * @param url uploadImage에서 반환한 URL (null/blank면 무시)
+     * @param url   uploadImage에서 반환한 URL
+     * @param width 표시 너비(px). null이면 원본
      */
-    void deleteByUrl(String url);
+    String variantUrl(String url, Integer width);
+
+    /**
+     * URL에 해당하는 로컬 파일(리사이즈 변형 포함)을 삭제. 본 서비스에서 발급한 URL이 아니면 무시.
+     * 다른 게시글/댓글이 아직 같은 파일을 참조하고 있으면 삭제하지 않는다.
+     * 트랜잭션 안에서는 직접 호출하지 말고 CommunityImageDeletionQueue.deleteAfterCommit 사용.
+     *
+     * @param url uploadImage에서 반환한 URL 또는 저장 경로 (null/blank면 무시)
+     * @return 파일 I/O나 참조 수 조회에 실패해 다시 시도해야 하면 false
+     */
+    boolean deleteByUrl(String url);
 }
@@ -6,17 +6,50 @@ import com.denticheck.api.domain.community.dto.PostLikeResultDto;
 import java.util.List;
 
 public interface CommunityPostService {
+
+    /** 구버전 offset 페이징 허용 범위. 더 뒤는 after 커서로만 조회한다 (ID를 offset + limit개 읽으므로) */
+    int MAX_LEGACY_OFFSET = 1000;
+
+    /** offset이 허용 범위를 넘으면 빈 페이지 대신 after 커서를 쓰라는 오류 */
+    static void requireLegacyOffset(int offset) {
+        if (offset > MAX_LEGACY_OFFSET) {
+            throw new IllegalArgumentException(
+                    "offset은 " + MAX_LEGACY_OFFSET + "까지만 지원합니다. 다음 페이지는 after 커서로 조회해 주세요.");
+        }
+    }
+
     List<CommunityPostDto> findAll();
 
-    /** 최신순 페이징 (limit 기본 10, offset 0). postType null이면 전체, "product"|"hospital"이면 해당만 */
+    /** 최신순 페이징 (limit 기본 10, offset 0). postType null이면 전체, "product"|"hospital"이면 해당만. offset이 MAX_LEGACY_OFFSET을 넘으면 IllegalArgumentException */
     List<CommunityPostDto> findAll(int limit, int offset, String postType);
 
+    /** 최신순 키셋 페이징. after: 이전 페이지 마지막 게시글의 cursor (null이면 첫 페이지) */
+    List<CommunityPostDto> findAll(int limit, String after, String postType);
+
     /** 로그인 사용자가 좋아요한 게시글만 최신순 페이징 (로그인 필요) */
     List<CommunityPostDto> findLikedByUser(java.util.UUID userId, int limit, int offset);
 
+    /** 좋아요한 게시글 키셋 페이징 (게시글 작성일 기준) */
+    List<CommunityPostDto> findLikedByUser(java.util.UUID userId, int limit, String after);
+
     /** 로그인 사용자가 작성한 게시글만 최신순 페이징 (로그인 필요) */
     List<CommunityPostDto> findByAuthorName(String authorName, int limit, int offset);
 
+    /** 작성한 게시글 키셋 페이징 */
+    List<CommunityPostDto> findByAuthorName(String authorName, int limit, String after);
+
+    /**
+     * 게시글/댓글 본문 검색 (관련도 + 최신순). after: 이전 페이지 마지막 게시글의 cursor.
+     * postType/dentalId/productId가 있으면 해당 종류·태그만. 검색어가 비어 있으면 빈 목록
+     */
+    List<CommunityPostDto> search(String query, int limit, String after, String postType, java.util.UUID dentalId, Long productId);
+
+    /**
+     * 인기 게시글 (좋아요/댓글 수와 작성 시각을 합친 점수순, 최근 window-days 이내 글만).
+     * after: 이전 페이지 마지막 게시글의 cursor. postType이 있으면 해당 종류만
+     */
+    List<CommunityPostDto> findTrending(int limit, String after, String postType);
+
     /** 단일 게시글 조회 (공유 링크 등). 없으면 empty */
     java.util.Optional<CommunityPostDto> findById(java.util.UUID postId);
 
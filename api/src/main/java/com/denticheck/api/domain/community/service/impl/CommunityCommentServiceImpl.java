@@ -1,15 +1,22 @@
 package com.denticheck.api.domain.community.service.impl;
 
+import com.denticheck.api.common.pagination.KeysetCursor;
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityCommentThreadDto;
 import com.denticheck.api.domain.community.entity.CommunityCommentEntity;
-import com.denticheck.api.domain.community.entity.CommunityCommentLikeEntity;
 import com.denticheck.api.domain.community.repository.CommunityCommentLikeRepository;
 import com.denticheck.api.domain.community.repository.CommunityCommentRepository;
+import com.denticheck.api.domain.community.repository.CommunityCommentThreadRepository;
 import com.denticheck.api.domain.community.service.CommunityCommentService;
 import com.denticheck.api.domain.community.service.CommentLikeToggleResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -18,24 +25,59 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
 
     private final CommunityCommentRepository communityCommentRepository;
     private final CommunityCommentLikeRepository communityCommentLikeRepository;
+    private final CommunityLikeCounter communityLikeCounter;
+    private final CommunityCommentThreadRepository communityCommentThreadRepository;
 
     @Override
     @Transactional
     public CommentLikeToggleResult toggleCommentLike(UUID userId, UUID commentId) {
+        if (!communityCommentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+        }
+        // 좋아요 행은 조건부 삭제/삽입, 카운트는 실제로 바뀐 행 수만큼만 증감
+        boolean liked;
+        int delta;
+        if (communityCommentLikeRepository.deleteLike(userId, commentId) > 0) {
+            liked = false;
+            delta = -1;
+        } else {
+            liked = true;
+            delta = communityCommentLikeRepository.insertIfAbsent(userId, commentId);
+        }
+        int likeCount = communityLikeCounter.applyCommentDelta(commentId, delta);
+        // 카운트 갱신 후에 읽어 응답에 쓸 엔티티를 가져온다
         CommunityCommentEntity comment = communityCommentRepository.findById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-        boolean wasLiked = communityCommentLikeRepository.existsByUserIdAndCommentId(userId, commentId);
-        if (wasLiked) {
-            communityCommentLikeRepository.deleteByUserIdAndCommentId(userId, commentId);
-            comment.setLikeCount(Math.max(0, (comment.getLikeCount() == null ? 0 : comment.getLikeCount()) - 1));
-        } else {
-            communityCommentLikeRepository.save(CommunityCommentLikeEntity.builder()
-                    .userId(userId)
-                    .commentId(commentId)
-                    .build());
-            comment.setLikeCount((comment.getLikeCount() == null ? 0 : comment.getLikeCount()) + 1);
+        return new CommentLikeToggleResult(comment, liked, likeCount);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityCommentThreadDto> findThreads(UUID postId, int limit, String after, int repliesPerThread,
+            String currentAuthorName) {
+        List<CommunityCommentThreadRepository.ThreadRow> rows = communityCommentThreadRepository.findThreadRows(
+                postId, KeysetCursor.decode(after), limit, repliesPerThread);
+
+        // 행은 최상위 댓글 뒤에 그 답글들이 이어지는 순서
+        Map<UUID, CommunityCommentThreadDto> threads = new LinkedHashMap<>();
+        for (CommunityCommentThreadRepository.ThreadRow row : rows) {
+            CommunityCommentDto comment = row.comment();
+            comment.setIsMine(currentAuthorName != null && currentAuthorName.equals(comment.getAuthor()));
+            if (row.parentId() == null) {
+                threads.put(comment.getId(), CommunityCommentThreadDto.builder()
+                        .comment(comment)
+                        .replies(new ArrayList<>())
+                        .build());
+            } else {
+                CommunityCommentThreadDto thread = threads.get(row.parentId());
+                if (thread != null) {
+                    thread.getReplies().add(comment);
+                }
+            }
         }
-        comment = communityCommentRepository.save(comment);
-        return new CommentLikeToggleResult(comment, !wasLiked);
+        List<CommunityCommentThreadDto> result = new ArrayList<>(threads.values());
+        result.forEach(thread -> thread.setHasMoreReplies(
+                thread.getComment().getReplyCount() > thread.getReplies().size()));
+        return result;
     }
 }
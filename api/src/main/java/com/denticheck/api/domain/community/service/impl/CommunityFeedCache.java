@@ -0,0 +1,248 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.common.util.AfterCommit;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 커뮤니티 피드(posts) 앞부분 캐시.
+ * postType별로 최신 게시글 max-posts개를 사용자와 무관한 DTO(isMine/isLiked 비움)로 보관하고,
+ * 그 범위 안의 첫 페이지/offset/커서 요청은 DB 없이 복사본으로 응답한다. isMine/isLiked는 리졸버에서 덧씌운다.
+ *
+ * <p>게시글 작성·수정·삭제, 좋아요, 댓글 수 변경은 커밋 후에 반영한다(삭제/카운트는 패치, 작성/수정은 무효화).
+ * 조회 중 변경 이벤트가 끼어들면 generation이 달라지므로 그 결과는 저장하지 않는다. ttl은 누락된 이벤트에 대한 안전장치다.
+ *
+ * <p>메트릭: community.feed.cache{result=hit|miss}, community.feed.cache.age(응답한 스냅샷의 경과 시간),
+ * community.feed.cache.invalidations{cause=create|update|delete|like|comment|expired}
+ */
+@Component
+public class CommunityFeedCache {
+
+    /** postType이 없는(전체) 피드의 키 */
+    private static final String ALL = "";
+
+    private final boolean enabled;
+    private final int maxPosts;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer age;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public CommunityFeedCache(
+            @Value("${community.feed-cache.enabled:true}") boolean enabled,
+            @Value("${community.feed-cache.max-posts:100}") int maxPosts,
+            @Value("${community.feed-cache.ttl:60s}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this(enabled, maxPosts, ttl, meterRegistry, System::currentTimeMillis);
+    }
+
+    CommunityFeedCache(boolean enabled, int maxPosts, Duration ttl, MeterRegistry meterRegistry, LongSupplier clock) {
+        if (maxPosts < 1) {
+            throw new IllegalArgumentException("community.feed-cache.max-posts는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.maxPosts = maxPosts;
+        this.ttlMs = ttl.toMillis();
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("community.feed.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("community.feed.cache").tag("result", "miss").register(meterRegistry);
+        this.age = Timer.builder("community.feed.cache.age").register(meterRegistry);
+    }
+
+    /** 캐시에 채울 게시글 수 (최신순 앞부분) */
+    public int maxPosts() {
+        return maxPosts;
+    }
+
+    /**
+     * offset 기반 페이지 (첫 페이지는 offset 0).
+     * 캐시 범위를 벗어나면 empty를 반환하고, 범위 안인데 스냅샷이 없으면 headLoader로 앞부분 maxPosts()개를 읽어 채운다.
+     */
+    public Optional<List<CommunityPostDto>> getPage(String postType, int offset, int limit,
+            Supplier<List<CommunityPostDto>> headLoader) {
+        if (!enabled || offset + limit > maxPosts) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = current(key(postType));
+        if (snapshot != null) {
+            if (!snapshot.complete() && offset + limit > snapshot.posts().size()) {
+                // 삭제 패치로 짧아진 스냅샷은 뒤쪽 페이지를 채울 수 없다
+                misses.increment();
+                return Optional.empty();
+            }
+            return Optional.of(hit(snapshot, offset, limit));
+        }
+        misses.increment();
+        return Optional.of(slice(load(key(postType), headLoader), offset, limit));
+    }
+
+    /** 커서 다음 페이지. 커서 게시글과 다음 limit개가 모두 스냅샷 안에 있을 때만 응답한다 */
+    public Optional<List<CommunityPostDto>> getPageAfter(String postType, UUID afterId, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Snapshot snapshot = current(key(postType));
+        int index = snapshot == null ? -1 : indexOf(snapshot.posts(), afterId);
+        if (index < 0 || (!snapshot.complete() && index + 1 + limit > snapshot.posts().size())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        return Optional.of(hit(snapshot, index + 1, limit));
+    }
+
+    /** 새 글은 해당 postType 피드와 전체 피드의 맨 앞에 들어간다 */
+    public void postCreated(String postType) {
+        AfterCommit.run(() -> mutate("create", snapshots -> {
+            snapshots.remove(ALL);
+            snapshots.remove(key(postType));
+        }));
+    }
+
+    /** postType이 바뀌었을 수 있으므로 전체 무효화 */
+    public void postUpdated() {
+        AfterCommit.run(() -> mutate("update", Map::clear));
+    }
+
+    public void postDeleted(UUID postId) {
+        AfterCommit.run(() -> mutate("delete", snapshots -> snapshots.replaceAll(
+                (key, snapshot) -> snapshot.withPosts(posts -> {
+                    List<CommunityPostDto> remaining = new ArrayList<>(posts);
+                    remaining.removeIf(post -> post.getId().equals(postId));
+                    return remaining;
+                }))));
+    }
+
+    public void likeCountChanged(UUID postId, int likeCount) {
+        AfterCommit.run(() -> mutate("like", snapshots -> patch(snapshots, postId, dto -> dto.setLikes(likeCount))));
+    }
+
+    public void commentCountChanged(UUID postId, int commentCount) {
+        AfterCommit.run(() -> mutate("comment", snapshots -> patch(snapshots, postId, dto -> dto.setComments(commentCount))));
+    }
+
+    private Snapshot current(String key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && clock.getAsLong() - snapshot.loadedAtMs() >= ttlMs) {
+            synchronized (writeLock) {
+                if (snapshots.remove(key, snapshot)) {
+                    invalidations("expired").increment();
+                }
+            }
+            return null;
+        }
+        return snapshot;
+    }
+
+    private List<CommunityPostDto> hit(Snapshot snapshot, int offset, int limit) {
+        hits.increment();
+        age.record(Duration.ofMillis(clock.getAsLong() - snapshot.loadedAtMs()));
+        return slice(snapshot.posts(), offset, limit);
+    }
+
+    private List<CommunityPostDto> load(String key, Supplier<List<CommunityPostDto>> headLoader) {
+        long loadGeneration;
+        synchronized (writeLock) {
+            loadGeneration = generation;
+        }
+        List<CommunityPostDto> posts = List.copyOf(headLoader.get());
+        Snapshot snapshot = new Snapshot(posts, posts.size() < maxPosts, clock.getAsLong());
+        synchronized (writeLock) {
+            // 읽는 동안 변경이 커밋되었으면 이미 낡은 결과일 수 있으므로 저장하지 않는다
+            if (generation == loadGeneration) {
+                snapshots.put(key, snapshot);
+            }
+        }
+        return posts;
+    }
+
+    private void mutate(String cause, Consumer<Map<String, Snapshot>> change) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            generation++;
+            change.accept(snapshots);
+        }
+        invalidations(cause).increment();
+    }
+
+    private static void patch(Map<String, Snapshot> snapshots, UUID postId,
+            Consumer<CommunityPostDto> update) {
+        snapshots.replaceAll((key, snapshot) -> snapshot.withPosts(posts -> {
+            if (indexOf(posts, postId) < 0) {
+                return posts;
+            }
+            // 동시에 복사 중인 조회와 겹치지 않도록 DTO를 직접 고치지 않고 복사본으로 바꿔 끼운다
+            List<CommunityPostDto> patched = new ArrayList<>(posts.size());
+            for (CommunityPostDto post : posts) {
+                if (post.getId().equals(postId)) {
+                    post = post.toBuilder().build();
+                    update.accept(post);
+                }
+                patched.add(post);
+            }
+            return patched;
+        }));
+    }
+
+    private Counter invalidations(String cause) {
+        return Counter.builder("community.feed.cache.invalidations").tag("cause", cause).register(meterRegistry);
+    }
+
+    /** 리졸버가 isMine 등을 채우므로 항상 복사본을 돌려준다 */
+    private static List<CommunityPostDto> slice(List<CommunityPostDto> posts, int offset, int limit) {
+        if (offset >= posts.size()) {
+            return new ArrayList<>();
+        }
+        return posts.subList(offset, Math.min(posts.size(), offset + limit)).stream()
+                .map(post -> post.toBuilder().build())
+                .collect(Collectors.toList());
+    }
+
+    private static int indexOf(List<CommunityPostDto> posts, UUID postId) {
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).getId().equals(postId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String key(String postType) {
+        return postType == null ? ALL : postType;
+    }
+
+    /** complete: 해당 피드의 게시글이 maxPosts보다 적어 스냅샷이 전체를 담고 있음 */
+    private record Snapshot(List<CommunityPostDto> posts, boolean complete, long loadedAtMs) {
+
+        Snapshot withPosts(UnaryOperator<List<CommunityPostDto>> change) {
+            return new Snapshot(List.copyOf(change.apply(posts)), complete, loadedAtMs);
+        }
+    }
+}
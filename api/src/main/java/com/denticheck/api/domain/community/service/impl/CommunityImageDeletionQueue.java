@@ -0,0 +1,130 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.common.util.AfterCommit;
+import com.denticheck.api.domain.community.service.CommunityImageUploadService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 커뮤니티 이미지 파일 삭제 대기열.
+ * 게시글/댓글 트랜잭션 안에서 파일을 지우면 잠금 유지 시간이 늘고, 롤백되어도 파일은 이미 지워진 상태가 된다.
+ * 그래서 커밋된 뒤에만 대기열에 넣고, 백그라운드에서 flush-interval-ms마다 batch-size개씩 삭제한다.
+ * 실패하면 지수 백오프(1s, 2s, 4s, ...)로 max-attempts번까지 다시 시도하고, 그래도 실패한 파일은 고아 파일 정리에서 지워진다.
+ *
+ * <p>메트릭: community.image.deletion.pending, community.image.deletion{result=done|retried|dropped}
+ */
+@Slf4j
+@Component
+public class CommunityImageDeletionQueue {
+
+    private static final long BASE_BACKOFF_MS = 1_000;
+
+    private final CommunityImageUploadService communityImageUploadService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final LongSupplier clock;
+    private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter done;
+    private final Counter retried;
+    private final Counter dropped;
+
+    @Autowired
+    public CommunityImageDeletionQueue(CommunityImageUploadService communityImageUploadService,
+            @Value("${upload.deletion.batch-size:100}") int batchSize,
+            @Value("${upload.deletion.max-attempts:5}") int maxAttempts,
+            MeterRegistry meterRegistry) {
+        this(communityImageUploadService, batchSize, maxAttempts, meterRegistry, System::currentTimeMillis);
+    }
+
+    CommunityImageDeletionQueue(CommunityImageUploadService communityImageUploadService, int batchSize,
+            int maxAttempts, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.communityImageUploadService = communityImageUploadService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.clock = clock;
+        this.done = resultCounter(meterRegistry, "done");
+        this.retried = resultCounter(meterRegistry, "retried");
+        this.dropped = resultCounter(meterRegistry, "dropped");
+        Gauge.builder("community.image.deletion.pending", pending, AtomicInteger::get).register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("community.image.deletion").tag("result", result).register(meterRegistry);
+    }
+
+    /** 현재 트랜잭션이 커밋되면 삭제 예약 (롤백되면 아무것도 하지 않음). 트랜잭션 밖이면 바로 예약 */
+    public void deleteAfterCommit(Collection<String> urls) {
+        List<String> targets = urls.stream().filter(url -> url != null && !url.isBlank()).toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> enqueue(targets));
+    }
+
+    /** 삭제 예약 (고아 파일 정리처럼 트랜잭션과 무관한 경우) */
+    public void enqueue(Collection<String> urls) {
+        for (String url : urls) {
+            offer(new Task(url, 0, 0));
+        }
+    }
+
+    private void offer(Task task) {
+        queue.add(task);
+        pending.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${upload.deletion.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        long now = clock.getAsLong();
+        List<Task> later = new ArrayList<>();
+        int processed = 0;
+        Task task;
+        while (processed < batchSize && (task = queue.poll()) != null) {
+            pending.decrementAndGet();
+            if (task.notBefore() > now) {
+                later.add(task);
+                continue;
+            }
+            processed++;
+            if (communityImageUploadService.deleteByUrl(task.url())) {
+                done.increment();
+            } else if (task.attempts() + 1 >= maxAttempts) {
+                dropped.increment();
+                log.error("이미지 파일 삭제를 {}회 실패해 포기합니다 (고아 파일 정리에서 다시 처리): {}", maxAttempts, task.url());
+            } else {
+                retried.increment();
+                later.add(new Task(task.url(), task.attempts() + 1, now + (BASE_BACKOFF_MS << task.attempts())));
+            }
+        }
+        later.forEach(this::offer);
+    }
+
+    int pendingCount() {
+        return pending.get();
+    }
+
+    /** 종료 시 대기 중인 삭제를 한 번 더 처리 (남은 것은 고아 파일 정리에서 처리) */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record Task(String url, int attempts, long notBefore) {
+    }
+}
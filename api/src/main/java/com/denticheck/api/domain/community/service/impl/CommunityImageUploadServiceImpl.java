@@ -1,24 +1,61 @@
 package com.denticheck.api.domain.community.service.impl;
 
+import com.denticheck.api.domain.community.repository.CommunityCommentImageRepository;
+import com.denticheck.api.domain.community.repository.CommunityPostImageRepository;
 import com.denticheck.api.domain.community.service.CommunityImageUploadService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 커뮤니티 이미지 로컬 저장.
+ *
+ * <p>업로드는 메모리에 올리지 않고 임시 파일로 흘려 쓰면서 SHA-256을 함께 계산한 뒤,
+ * {local-dir}/{해시 앞 2자}/{다음 2자}/{해시}.{확장자}로 원자적으로 이동한다. 같은 내용은 같은 파일 하나로 합쳐지므로
+ * 삭제 시에는 게시글/댓글 이미지 테이블에 같은 파일을 가리키는 행이 남아 있는지(참조 수) 먼저 확인한다.
+ *
+ * <p>이전 방식({UUID}.{확장자}, 업로드마다 다른 파일)으로 저장된 파일도 그대로 조회/삭제된다.
+ *
+ * <p>메트릭: community.image.upload{result=stored|deduplicated}
+ */
 @Slf4j
 @Service
 public class CommunityImageUploadServiceImpl implements CommunityImageUploadService {
 
     private static final List<String> ALLOWED_EXTENSIONS = List.of(".jpg", ".jpeg", ".png", ".webp");
     private static final long MAX_SIZE_BYTES = 5 * 1024 * 1024; // 5MB
+    /**
+     * 최근에 업로드(또는 중복 업로드)된 파일은 참조가 없어도 지우지 않는다.
+     * 같은 이미지를 방금 올린 다른 사용자가 아직 게시글을 등록하기 전일 수 있기 때문
+     */
+    private static final Duration DELETE_GRACE = Duration.ofHours(1);
+
+    private final CommunityImageVariantGenerator variantGenerator;
+    private final CommunityPostImageRepository communityPostImageRepository;
+    private final CommunityCommentImageRepository communityCommentImageRepository;
+    private final Counter stored;
+    private final Counter deduplicated;
 
     @Value("${upload.storage.local-dir:./uploads/community}")
     private String localDir;
@@ -26,6 +63,17 @@ public class CommunityImageUploadServiceImpl implements CommunityImageUploadServ
     @Value("${upload.storage.base-url:http://localhost:8080/uploads/community}")
     private String baseUrl;
 
+    public CommunityImageUploadServiceImpl(CommunityImageVariantGenerator variantGenerator,
+            CommunityPostImageRepository communityPostImageRepository,
+            CommunityCommentImageRepository communityCommentImageRepository,
+            MeterRegistry meterRegistry) {
+        this.variantGenerator = variantGenerator;
+        this.communityPostImageRepository = communityPostImageRepository;
+        this.communityCommentImageRepository = communityCommentImageRepository;
+        this.stored = Counter.builder("community.image.upload").tag("result", "stored").register(meterRegistry);
+        this.deduplicated = Counter.builder("community.image.upload").tag("result", "deduplicated").register(meterRegistry);
+    }
+
     @Override
     public String uploadImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -35,27 +83,68 @@ public class CommunityImageUploadServiceImpl implements CommunityImageUploadServ
         if (originalFilename == null || originalFilename.isBlank()) {
             throw new IllegalArgumentException("파일 이름이 없습니다.");
         }
-        String ext = getExtension(originalFilename);
-        if (!ALLOWED_EXTENSIONS.contains(ext.toLowerCase())) {
+        String ext = getExtension(originalFilename).toLowerCase();
+        if (!ALLOWED_EXTENSIONS.contains(ext)) {
             throw new IllegalArgumentException("허용된 이미지 형식이 아닙니다. (jpg, jpeg, png, webp)");
         }
         if (file.getSize() > MAX_SIZE_BYTES) {
             throw new IllegalArgumentException("파일 크기는 5MB 이하여야 합니다.");
         }
+        if (ext.equals(".jpeg")) {
+            ext = ".jpg"; // 같은 내용이 확장자 표기만 달라 두 파일이 되지 않도록
+        }
 
+        Path tmp = null;
         try {
             Path dir = Paths.get(localDir).toAbsolutePath().normalize();
             Files.createDirectories(dir);
-            String fileName = UUID.randomUUID().toString() + ext;
-            Path path = dir.resolve(fileName);
-            Files.write(path, file.getBytes());
+            // 원자적 이동을 위해 같은 파일시스템(저장 디렉토리 안)에 임시 파일 생성
+            tmp = Files.createTempFile(dir, ".upload-", ".tmp");
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), sha256)) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            String relativePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ext;
+            Path path = dir.resolve(relativePath);
+            Files.createDirectories(path.getParent());
 
-            String url = baseUrl.endsWith("/") ? baseUrl + fileName : baseUrl + "/" + fileName;
-            log.debug("Community image saved: {}", url);
+            boolean created = false;
+            if (!Files.exists(path)) {
+                try {
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                } catch (FileAlreadyExistsException e) {
+                    // 같은 이미지가 동시에 업로드됨: 먼저 이동된 파일을 사용
+                }
+            }
+            if (created) {
+                stored.increment();
+            } else {
+                try {
+                    // 수정 시각 갱신: 삭제 유예(DELETE_GRACE) 기준
+                    Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+                    deduplicated.increment();
+                } catch (NoSuchFileException e) {
+                    // 그 사이 삭제 중(툼스톤으로 이동)인 파일과 겹침: 방금 올린 내용을 제자리에 둔다
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                    stored.increment();
+                }
+            }
+            // 기존 파일이라도 변형 생성이 건너뛰어졌을 수 있으므로 가장 작은 변형이 없으면 다시 요청
+            if (created || !Files.exists(CommunityImageVariantGenerator.variantPath(path, smallestVariantWidth()))) {
+                variantGenerator.submit(path);
+            }
+
+            String url = baseUrl.endsWith("/") ? baseUrl + relativePath : baseUrl + "/" + relativePath;
+            log.debug("Community image saved: {} (new={})", url, created);
             return url;
         } catch (Exception e) {
             log.error("Failed to save community image", e);
             throw new RuntimeException("이미지 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(tmp);
         }
     }
 
@@ -64,30 +153,130 @@ public class CommunityImageUploadServiceImpl implements CommunityImageUploadServ
         return i > 0 ? filename.substring(i) : ".jpg";
     }
 
-    /** 파일명만 허용 (UUID.ext 형태, 경로 조작 방지) */
-    private static final Pattern SAFE_FILENAME = Pattern.compile("^[a-zA-Z0-9_.-]+\\.(jpg|jpeg|png|webp)$", Pattern.CASE_INSENSITIVE);
+    private static int smallestVariantWidth() {
+        return CommunityImageVariantGenerator.WIDTHS.stream().min(Integer::compare).orElseThrow();
+    }
 
-    @Override
-    public void deleteByUrl(String url) {
-        if (url == null || url.isBlank()) return;
-        String fileName = null;
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
         try {
-            int lastSlash = url.lastIndexOf('/');
-            if (lastSlash >= 0 && lastSlash < url.length() - 1) {
-                fileName = url.substring(lastSlash + 1).split("\\?")[0];
+            Files.deleteIfExists(path);
+        } catch (Exception e) {
+            log.warn("Failed to delete temp upload file: {}", path, e);
+        }
+    }
+
+    /**
+     * URL 끝의 저장 경로만 허용 (경로 조작 방지).
+     * 내용 주소 형식 /ab/cd/{해시}.ext 또는 이전 형식 /{UUID}.ext
+     */
+    private static final Pattern SAFE_PATH = Pattern.compile(
+            "(?:/([0-9a-f]{2})/([0-9a-f]{2}))?/([a-zA-Z0-9_.-]+\\.(jpg|jpeg|png|webp))$", Pattern.CASE_INSENSITIVE);
+
+    /** URL의 저장 경로(local-dir 기준 상대 경로, 예: ab/cd/{해시}.jpg). 허용되지 않는 형식이면 null */
+    public static String relativePathOf(String url) {
+        if (url == null || url.isBlank()) return null;
+        Matcher m = SAFE_PATH.matcher(url.split("\\?")[0]);
+        if (!m.find()) return null;
+        return m.group(1) != null ? m.group(1) + "/" + m.group(2) + "/" + m.group(3) : m.group(3);
+    }
+
+    /** 상대 경로를 local-dir 아래 로컬 경로로 변환. 디렉토리를 벗어나면 null */
+    private Path resolveLocalPath(String relativePath) {
+        if (relativePath == null) return null;
+        Path dir = Paths.get(localDir).toAbsolutePath().normalize();
+        Path path = dir.resolve(relativePath).normalize();
+        return path.startsWith(dir) ? path : null;
+    }
+
+    @Override
+    public String variantUrl(String url, Integer width) {
+        if (width == null || width <= 0) return url;
+        // 요청 너비 이상인 변형 중 가장 작은 것 (가장 큰 변형보다 크게 요청하면 원본)
+        Integer target = null;
+        for (int w : CommunityImageVariantGenerator.WIDTHS) {
+            if (w >= width && (target == null || w < target)) {
+                target = w;
             }
-        } catch (Exception ignored) {}
-        if (fileName == null || fileName.isBlank() || !SAFE_FILENAME.matcher(fileName).matches()) return;
+        }
+        if (target == null) return url;
+        Path path = resolveLocalPath(relativePathOf(url));
+        if (path == null) return url;
+        Path variant = CommunityImageVariantGenerator.variantPath(path, target);
+        if (!Files.exists(variant)) return url;
+        // 쿼리 문자열은 원본 파일 기준이므로 떼고 파일명만 교체
+        String base = url.split("\\?")[0];
+        return base.substring(0, base.lastIndexOf('/') + 1) + variant.getFileName();
+    }
+
+    /**
+     * 참조 수/유예 확인과 삭제 사이에 같은 이미지가 다시 업로드(수정 시각 갱신)될 수 있으므로,
+     * 원본을 먼저 툼스톤 이름(.{파일명}.deleting.tmp)으로 옮긴 뒤 다시 확인하고 지운다.
+     * 다시 확인했을 때 쓰이고 있으면 제자리로 되돌린다. 이동 후 도착한 업로드는 원래 경로에 새로 저장된다.
+     * 비정상 종료로 남은 툼스톤은 고아 이미지 정리(.tmp 임시 파일)에서 지워진다.
+     */
+    @Override
+    public boolean deleteByUrl(String url) {
+        String relativePath = relativePathOf(url);
+        Path path = resolveLocalPath(relativePath);
+        if (path == null) return true;
         try {
-            Path dir = Paths.get(localDir).toAbsolutePath().normalize();
-            Path path = dir.resolve(fileName).normalize();
-            if (!path.startsWith(dir)) return;
+            if (isInUse(relativePath, path)) {
+                return true;
+            }
             if (Files.exists(path)) {
-                Files.delete(path);
+                Path tombstone = path.resolveSibling("." + path.getFileName() + ".deleting.tmp");
+                try {
+                    Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+                } catch (NoSuchFileException e) {
+                    return true; // 다른 삭제가 먼저 처리함
+                }
+                if (isInUse(relativePath, tombstone)) {
+                    restore(tombstone, path);
+                    return true;
+                }
+                Files.delete(tombstone);
                 log.debug("Community image deleted: {}", path);
             }
+            // 변형은 원본이 지워진 뒤에 정리 (되돌린 경우 변형은 그대로 둔다)
+            for (int width : CommunityImageVariantGenerator.WIDTHS) {
+                Files.deleteIfExists(CommunityImageVariantGenerator.variantPath(path, width));
+            }
+            return true;
         } catch (Exception e) {
             log.warn("Failed to delete community image by url: {}", url, e);
+            return false;
+        }
+    }
+
+    /** 다른 게시글/댓글이 참조 중이거나 최근에 업로드된 파일이면 true (file은 원본 또는 툼스톤) */
+    private boolean isInUse(String relativePath, Path file) throws IOException {
+        // 내용 주소 파일은 여러 곳에서 공유됨
+        String suffix = "/" + relativePath;
+        long references = communityPostImageRepository.countByImageUrlEndingWith(suffix)
+                + communityCommentImageRepository.countByImageUrlEndingWith(suffix);
+        if (references > 0) {
+            log.debug("Community image still referenced ({}): {}", references, file);
+            return true;
+        }
+        if (relativePath.contains("/") && Files.exists(file)
+                && Files.getLastModifiedTime(file).toInstant().isAfter(Instant.now().minus(DELETE_GRACE))) {
+            log.debug("Community image uploaded recently, keeping: {}", file);
+            return true;
+        }
+        return false;
+    }
+
+    /** 툼스톤을 원래 경로로 되돌림. 그 사이 같은 내용이 새로 저장됐으면 툼스톤만 지운다 */
+    private static void restore(Path tombstone, Path path) throws IOException {
+        if (Files.exists(path)) {
+            Files.delete(tombstone);
+            return;
+        }
+        try {
+            Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.delete(tombstone);
         }
     }
 }
@@ -0,0 +1,201 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커뮤니티 이미지 리사이즈 변형(썸네일) 비동기 생성.
+ * 원본을 한 번만 디코딩해 EXIF Orientation을 픽셀에 반영하고, 너비 1280/720/256 JPEG을 원본 옆에
+ * {이름}_w{너비}.jpg로 저장한다. 다시 인코딩하므로 EXIF(위치 정보 등)는 변형 이미지에 남지 않는다.
+ * 원본보다 큰 변형은 만들지 않고 원본 크기로 저장한다 (요청 크기별 URL을 항상 같은 규칙으로 만들기 위해).
+ *
+ * <p>JDK ImageIO에는 WebP 인코더/디코더가 없어 JPEG만 생성하며, WebP 원본은 변형 없이 원본을 그대로 쓴다.
+ *
+ * <p>메트릭: community.image.variants.queue(대기 작업 수), community.image.variants.duration(원본 1개 처리 시간),
+ * community.image.variants{result=success|skipped|failed|rejected}
+ */
+@Slf4j
+@Component
+public class CommunityImageVariantGenerator {
+
+    /** 큰 것부터 생성 (다음 변형은 직전 변형에서 축소해 화질과 속도를 함께 확보) */
+    public static final List<Integer> WIDTHS = List.of(1280, 720, 256);
+
+    private static final String VARIANT_EXTENSION = ".jpg";
+    private static final int EXIF_HEAD_BYTES = 128 * 1024;
+    /** 디코딩 전 크기 제한 (압축 폭탄 방지): 약 40MP */
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final ThreadPoolExecutor executor;
+    private final Timer duration;
+    private final Counter success;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public CommunityImageVariantGenerator(
+            @Value("${upload.variants.threads:2}") int threads,
+            @Value("${upload.variants.queue-capacity:500}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "image-variants-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.duration = Timer.builder("community.image.variants.duration").register(meterRegistry);
+        this.success = resultCounter(meterRegistry, "success");
+        this.skipped = resultCounter(meterRegistry, "skipped");
+        this.failed = resultCounter(meterRegistry, "failed");
+        this.rejected = resultCounter(meterRegistry, "rejected");
+        Gauge.builder("community.image.variants.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("community.image.variants").tag("result", result).register(meterRegistry);
+    }
+
+    /** 변형 파일 경로: 원본과 같은 디렉토리의 {원본 이름(확장자 제외)}_w{width}.jpg */
+    public static Path variantPath(Path original, int width) {
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        return original.resolveSibling(stem + "_w" + width + VARIANT_EXTENSION);
+    }
+
+    /** 변형 생성을 예약. 대기열이 가득 차면 건너뛴다 (조회 시 원본으로 대체되므로 업로드는 실패시키지 않음) */
+    public void submit(Path original) {
+        try {
+            executor.execute(() -> duration.record(() -> generate(original)));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("이미지 변형 대기열이 가득 차 건너뜁니다: {}", original.getFileName());
+        }
+    }
+
+    void generate(Path original) {
+        try {
+            BufferedImage decoded = decode(original);
+            if (decoded == null) {
+                skipped.increment();
+                return;
+            }
+            BufferedImage source = ExifOrientation.apply(decoded, readOrientation(original));
+            for (int width : WIDTHS) {
+                source = resize(source, width);
+                write(source, variantPath(original, width));
+            }
+            success.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("이미지 변형 생성 실패: {}", original.getFileName(), e);
+        }
+    }
+
+    /** 지원하지 않는 형식(WebP 등)이거나 너무 큰 이미지면 null */
+    private static BufferedImage decode(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    log.warn("이미지가 너무 커서 변형을 만들지 않습니다: {}", original.getFileName());
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static int readOrientation(Path original) throws IOException {
+        try (InputStream in = Files.newInputStream(original)) {
+            return ExifOrientation.read(in.readNBytes(EXIF_HEAD_BYTES));
+        }
+    }
+
+    /** 너비가 width 이하가 되도록 비율 유지 축소 (이미 작으면 그대로) */
+    private static BufferedImage resize(BufferedImage src, int width) {
+        // 한 번에 크게 줄이면 bilinear 보간이 계단 현상을 만들므로 절반씩 줄인 뒤 맞춘다
+        while (src.getWidth() / 2 >= width) {
+            src = scale(src, src.getWidth() / 2);
+        }
+        return src.getWidth() <= width ? src : scale(src, width);
+    }
+
+    private static BufferedImage scale(BufferedImage src, int width) {
+        int height = Math.max(1, (int) Math.round((double) src.getHeight() * width / src.getWidth()));
+        BufferedImage out = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    /** 임시 파일에 쓴 뒤 이동: 조회 쪽에서 덜 쓰인 파일을 보지 않도록 */
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
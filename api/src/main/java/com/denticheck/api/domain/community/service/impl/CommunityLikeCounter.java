@@ -0,0 +1,182 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.common.util.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글/댓글 like_count 증감.
+ * 기본은 좋아요 행 변경과 같은 트랜잭션에서 UPDATE like_count = like_count + delta로 바로 반영한다.
+ *
+ * <p>community.like-buffer.enabled=true면 증감분을 커밋 후 대상별 LongAdder에 모아 두고 flush-interval-ms마다
+ * 배치 UPDATE로 반영한다. 인기 게시글에 좋아요가 몰려도 게시글 행 잠금을 요청마다 잡지 않는다.
+ * 반영 전에 종료되면 증감분이 사라질 수 있으므로 LikeCountReconcileScheduler가 좋아요 테이블 기준으로 보정한다.
+ */
+@Slf4j
+@Component
+public class CommunityLikeCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean bufferEnabled;
+    private final Map<Target, Map<UUID, LongAdder>> pending = Map.of(
+            Target.POST, new ConcurrentHashMap<>(),
+            Target.COMMENT, new ConcurrentHashMap<>());
+    // 버퍼에서 꺼냈지만 아직 UPDATE가 끝나지 않은 대상 (동시에 여러 flush가 돌 수 있어 횟수로 센다).
+    // 정합성 점검이 이 사이에 절대값을 쓰면 뒤이은 +delta가 이중 반영되므로 pendingIds에 포함한다
+    private final Map<Target, Map<UUID, Integer>> flushing = Map.of(
+            Target.POST, new ConcurrentHashMap<>(),
+            Target.COMMENT, new ConcurrentHashMap<>());
+
+    public CommunityLikeCounter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${community.like-buffer.enabled:false}") boolean bufferEnabled,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bufferEnabled = bufferEnabled;
+        Gauge.builder("community.like.buffer.pending", this, CommunityLikeCounter::pendingTargets)
+                .description("DB에 반영되지 않은 좋아요 증감분이 있는 게시글/댓글 수")
+                .register(meterRegistry);
+    }
+
+    /** 게시글 좋아요 수를 delta만큼 바꾸고, 응답에 쓸 현재 좋아요 수를 반환 */
+    public int applyPostDelta(UUID postId, int delta) {
+        return apply(Target.POST, postId, delta);
+    }
+
+    public int applyCommentDelta(UUID commentId, int delta) {
+        return apply(Target.COMMENT, commentId, delta);
+    }
+
+    private int apply(Target target, UUID id, int delta) {
+        if (!bufferEnabled) {
+            if (delta == 0) {
+                return currentCount(target, id);
+            }
+            return requireCount(target, jdbcTemplate.queryForList(target.adjustReturningSql, Integer.class, delta, id));
+        }
+        if (delta != 0) {
+            // 좋아요 행이 롤백되면 증감분도 버려야 하므로 커밋 후에 버퍼에 넣는다
+            AfterCommit.run(() -> pending.get(target).computeIfAbsent(id, k -> new LongAdder()).add(delta));
+        }
+        return Math.max(0, currentCount(target, id) + (int) pendingDelta(target, id) + delta);
+    }
+
+    /** 버퍼에 모인 증감분을 배치 UPDATE로 반영 */
+    @Scheduled(fixedDelayString = "${community.like-buffer.flush-interval-ms:300}")
+    public void flush() {
+        if (!bufferEnabled) {
+            return;
+        }
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+
+    private void flush(Target target) {
+        Map<UUID, LongAdder> adders = pending.get(target);
+        Map<UUID, Integer> inFlight = flushing.get(target);
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder> entry : adders.entrySet()) {
+            // 버퍼에서 꺼내기 전에 표시해야 점검이 "버퍼에도 없고 DB에도 아직 없는" 순간을 보지 않는다
+            inFlight.merge(entry.getKey(), 1, Integer::sum);
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batch.add(new Object[] { delta, entry.getKey() });
+            } else {
+                unmark(inFlight, entry.getKey());
+            }
+            // 한 주기 동안 증감이 없던 항목은 정리한다. 정리 직전에 더해진 값은 드물게 유실될 수 있지만
+            // 정합성 점검(LikeCountReconcileScheduler)에서 보정된다
+            if (delta == 0) {
+                adders.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(target.adjustSql, batch);
+        } catch (DataAccessException e) {
+            // 반영 실패분은 버퍼로 되돌려 다음 flush에서 다시 시도
+            batch.forEach(row -> adders.computeIfAbsent((UUID) row[1], k -> new LongAdder()).add((Long) row[0]));
+            log.error("좋아요 수 반영 실패, 다음 주기에 재시도합니다. 대상: {} {}건", target, batch.size(), e);
+        } finally {
+            batch.forEach(row -> unmark(inFlight, (UUID) row[1]));
+        }
+    }
+
+    private static void unmark(Map<UUID, Integer> inFlight, UUID id) {
+        inFlight.computeIfPresent(id, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /** 아직 DB에 반영되지 않은 증감분이 있거나 반영 중인 게시글 ID (정합성 점검에서 건너뛴다) */
+    public Set<UUID> pendingPostIds() {
+        return pendingIds(Target.POST);
+    }
+
+    public Set<UUID> pendingCommentIds() {
+        return pendingIds(Target.COMMENT);
+    }
+
+    private Set<UUID> pendingIds(Target target) {
+        Set<UUID> ids = new HashSet<>(flushing.get(target).keySet());
+        pending.get(target).forEach((id, adder) -> {
+            if (adder.sum() != 0) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private int currentCount(Target target, UUID id) {
+        return requireCount(target, jdbcTemplate.queryForList(target.selectSql, Integer.class, id));
+    }
+
+    private static int requireCount(Target target, List<Integer> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException(target.notFoundMessage);
+        }
+        return rows.get(0);
+    }
+
+    private long pendingDelta(Target target, UUID id) {
+        LongAdder adder = pending.get(target).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private int pendingTargets() {
+        return pending.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private enum Target {
+        POST("community_posts", "게시글을 찾을 수 없습니다."),
+        COMMENT("community_comments", "댓글을 찾을 수 없습니다.");
+
+        private final String adjustSql;
+        private final String adjustReturningSql;
+        private final String selectSql;
+        private final String notFoundMessage;
+
+        Target(String table, String notFoundMessage) {
+            this.adjustSql = "UPDATE " + table + " SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+            this.adjustReturningSql = adjustSql + " RETURNING like_count";
+            this.selectSql = "SELECT like_count FROM " + table + " WHERE id = ?";
+            this.notFoundMessage = notFoundMessage;
+        }
+    }
+}
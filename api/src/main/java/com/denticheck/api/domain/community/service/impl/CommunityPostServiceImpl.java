@@ -1,5 +1,7 @@
 package com.denticheck.api.domain.community.service.impl;
 
+import com.denticheck.api.common.pagination.KeysetCursor;
+import com.denticheck.api.common.pagination.ScoreCursor;
 import com.denticheck.api.domain.community.dto.CommunityPostDto;
 import com.denticheck.api.domain.community.dto.PostLikeResultDto;
 import com.denticheck.api.domain.admin.entity.PartnerProduct;
@@ -7,14 +9,15 @@ import com.denticheck.api.domain.admin.repository.PartnerProductRepository;
 import com.denticheck.api.domain.community.entity.CommunityPostDentalEntity;
 import com.denticheck.api.domain.community.entity.CommunityPostEntity;
 import com.denticheck.api.domain.community.entity.CommunityPostImageEntity;
-import com.denticheck.api.domain.community.entity.CommunityPostLikeEntity;
 import com.denticheck.api.domain.community.entity.CommunityPostProductEntity;
 import com.denticheck.api.domain.community.repository.CommunityPostDentalRepository;
 import com.denticheck.api.domain.community.repository.CommunityPostImageRepository;
 import com.denticheck.api.domain.community.repository.CommunityPostLikeRepository;
 import com.denticheck.api.domain.community.repository.CommunityPostProductRepository;
+import com.denticheck.api.domain.community.repository.CommunityPostQueryRepository;
 import com.denticheck.api.domain.community.repository.CommunityPostRepository;
-import com.denticheck.api.domain.community.service.CommunityImageUploadService;
+import com.denticheck.api.domain.community.repository.CommunityPostSearchRepository;
+import com.denticheck.api.domain.community.repository.CommunityTrendingRepository;
 import com.denticheck.api.domain.community.service.CommunityPostService;
 import com.denticheck.api.domain.dental.entity.DentalEntity;
 import com.denticheck.api.domain.dental.repository.DentalRepository;
@@ -27,9 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -41,14 +45,23 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CommunityPostServiceImpl implements CommunityPostService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+    private static final int MAX_SEARCH_TERMS = 8;
+
     private final CommunityPostRepository communityPostRepository;
+    private final CommunityPostQueryRepository communityPostQueryRepository;
     private final CommunityPostLikeRepository communityPostLikeRepository;
     private final CommunityPostImageRepository communityPostImageRepository;
     private final CommunityPostDentalRepository communityPostDentalRepository;
     private final CommunityPostProductRepository communityPostProductRepository;
-    private final CommunityImageUploadService communityImageUploadService;
+    private final CommunityImageDeletionQueue communityImageDeletionQueue;
     private final DentalRepository dentalRepository;
     private final PartnerProductRepository partnerProductRepository;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityLikeCounter communityLikeCounter;
+    private final CommunityPostSearchRepository communityPostSearchRepository;
+    private final CommunityTrendingRepository communityTrendingRepository;
+    private final CommunityTrendingRanking communityTrendingRanking;
 
     @Override
     @Transactional(readOnly = true)
@@ -66,45 +79,73 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     @Override
     @Transactional(readOnly = true)
     public List<CommunityPostDto> findAll(int limit, int offset, String postType) {
-        int safeLimit = limit <= 0 ? 10 : Math.min(limit, 50);
+        int safeLimit = safeLimit(limit);
         int safeOffset = Math.max(0, offset);
-        String normalizedType = (postType == null || postType.isEmpty() || "all".equalsIgnoreCase(postType)) ? null
-                : postType;
+        CommunityPostService.requireLegacyOffset(safeOffset);
+        String normalizedType = normalizePostType(postType);
+        Optional<List<CommunityPostDto>> cached = communityFeedCache.getPage(normalizedType, safeOffset, safeLimit,
+                () -> loadFeedHead(normalizedType));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return loadPostsInOrder(skip(findFeedIds(normalizedType, offsetPageable(safeOffset, safeLimit)), safeOffset));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityPostDto> findAll(int limit, String after, String postType) {
+        int safeLimit = safeLimit(limit);
+        Pageable pageable = PageRequest.of(0, safeLimit);
+        String normalizedType = normalizePostType(postType);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor == null) {
+            return communityFeedCache.getPage(normalizedType, 0, safeLimit, () -> loadFeedHead(normalizedType))
+                    .orElseGet(() -> loadPostsInOrder(findFeedIds(normalizedType, pageable)));
+        }
+        Optional<List<CommunityPostDto>> cached = communityFeedCache.getPageAfter(normalizedType, cursor.id(),
+                safeLimit);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         List<UUID> ids = (normalizedType == null)
-                ? communityPostRepository.findIdsOrderByCreatedAtDesc(PageRequest.of(safeOffset / safeLimit, safeLimit))
-                : communityPostRepository.findIdsOrderByCreatedAtDescWithPostType(
-                        PageRequest.of(safeOffset / safeLimit, safeLimit), normalizedType);
-        if (ids.isEmpty())
-            return new ArrayList<>();
-        List<CommunityPostEntity> entities = communityPostRepository.findAllWithDentalsByIdIn(ids);
-        Map<UUID, List<String>> imagesByPostId = loadImagesByPostIds(ids);
-        Map<UUID, Integer> order = new HashMap<>();
-        for (int i = 0; i < ids.size(); i++)
-            order.put(ids.get(i), i);
-        return entities.stream()
-                .sorted(Comparator.comparingInt(e -> order.getOrDefault(e.getId(), 0)))
-                .map(e -> toDto(e, null, null, imagesByPostId.getOrDefault(e.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
+                ? communityPostRepository.findIdsBefore(cursor.createdAt(), cursor.id(), pageable)
+                : communityPostRepository.findIdsByPostTypeBefore(normalizedType, cursor.createdAt(), cursor.id(),
+                        pageable);
+        return loadPostsInOrder(ids);
+    }
+
+    private List<UUID> findFeedIds(String normalizedType, Pageable pageable) {
+        return (normalizedType == null)
+                ? communityPostRepository.findIdsOrderByCreatedAtDesc(pageable)
+                : communityPostRepository.findIdsOrderByCreatedAtDescWithPostType(pageable, normalizedType);
+    }
+
+    /** 피드 캐시를 채울 최신 게시글 앞부분 */
+    private List<CommunityPostDto> loadFeedHead(String normalizedType) {
+        return loadPostsInOrder(findFeedIds(normalizedType, PageRequest.of(0, communityFeedCache.maxPosts())));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommunityPostDto> findLikedByUser(UUID userId, int limit, int offset) {
-        int safeLimit = limit <= 0 ? 10 : Math.min(limit, 50);
+        int safeLimit = safeLimit(limit);
         int safeOffset = Math.max(0, offset);
-        Pageable pageable = PageRequest.of(safeOffset / safeLimit, safeLimit);
-        List<UUID> ids = communityPostLikeRepository.findPostIdsByUserIdOrderByPostCreatedAtDesc(userId, pageable);
-        if (ids.isEmpty())
-            return new ArrayList<>();
-        List<CommunityPostEntity> entities = communityPostRepository.findAllWithDentalsByIdIn(ids);
-        Map<UUID, List<String>> imagesByPostId = loadImagesByPostIds(ids);
-        Map<UUID, Integer> order = new HashMap<>();
-        for (int i = 0; i < ids.size(); i++)
-            order.put(ids.get(i), i);
-        return entities.stream()
-                .sorted(Comparator.comparingInt(e -> order.getOrDefault(e.getId(), 0)))
-                .map(e -> toDto(e, null, null, imagesByPostId.getOrDefault(e.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
+        CommunityPostService.requireLegacyOffset(safeOffset);
+        List<UUID> ids = communityPostLikeRepository.findPostIdsByUserIdOrderByPostCreatedAtDesc(userId,
+                offsetPageable(safeOffset, safeLimit));
+        return loadPostsInOrder(skip(ids, safeOffset));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityPostDto> findLikedByUser(UUID userId, int limit, String after) {
+        Pageable pageable = PageRequest.of(0, safeLimit(limit));
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<UUID> ids = cursor == null
+                ? communityPostLikeRepository.findPostIdsByUserIdOrderByPostCreatedAtDesc(userId, pageable)
+                : communityPostLikeRepository.findPostIdsByUserIdBefore(userId, cursor.createdAt(), cursor.id(),
+                        pageable);
+        return loadPostsInOrder(ids);
     }
 
     @Override
@@ -113,34 +154,99 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         if (authorName == null || authorName.isBlank()) {
             return new ArrayList<>();
         }
-        int safeLimit = limit <= 0 ? 10 : Math.min(limit, 50);
+        int safeLimit = safeLimit(limit);
         int safeOffset = Math.max(0, offset);
-        Pageable pageable = PageRequest.of(safeOffset / safeLimit, safeLimit);
-        List<UUID> ids = communityPostRepository.findIdsByAuthorNameOrderByCreatedAtDesc(pageable, authorName.trim());
-        if (ids.isEmpty()) {
+        CommunityPostService.requireLegacyOffset(safeOffset);
+        List<UUID> ids = communityPostRepository.findIdsByAuthorNameOrderByCreatedAtDesc(
+                offsetPageable(safeOffset, safeLimit), authorName.trim());
+        return loadPostsInOrder(skip(ids, safeOffset));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityPostDto> findByAuthorName(String authorName, int limit, String after) {
+        if (authorName == null || authorName.isBlank()) {
             return new ArrayList<>();
         }
-        List<CommunityPostEntity> entities = communityPostRepository.findAllWithDentalsByIdIn(ids);
-        Map<UUID, List<String>> imagesByPostId = loadImagesByPostIds(ids);
-        Map<UUID, Integer> order = new HashMap<>();
-        for (int i = 0; i < ids.size(); i++) {
-            order.put(ids.get(i), i);
+        Pageable pageable = PageRequest.of(0, safeLimit(limit));
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<UUID> ids = cursor == null
+                ? communityPostRepository.findIdsByAuthorNameOrderByCreatedAtDesc(pageable, authorName.trim())
+                : communityPostRepository.findIdsByAuthorNameBefore(authorName.trim(), cursor.createdAt(), cursor.id(),
+                        pageable);
+        return loadPostsInOrder(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityPostDto> search(String query, int limit, String after, String postType, UUID dentalId,
+            Long productId) {
+        String phrase = query == null ? "" : query.strip();
+        if (phrase.length() > MAX_SEARCH_QUERY_LENGTH) {
+            phrase = phrase.substring(0, MAX_SEARCH_QUERY_LENGTH);
         }
-        return entities.stream()
-                .sorted(Comparator.comparingInt(e -> order.getOrDefault(e.getId(), 0)))
-                .map(e -> toDto(e, null, null, imagesByPostId.getOrDefault(e.getId(), Collections.emptyList())))
-                .collect(Collectors.toList());
+        List<String> terms = Arrays.stream(phrase.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .limit(MAX_SEARCH_TERMS)
+                .toList();
+        ScoreCursor cursor = ScoreCursor.decode(after);
+        List<CommunityPostSearchRepository.SearchHit> hits = communityPostSearchRepository.search(terms, phrase,
+                normalizePostType(postType), dentalId, productId,
+                cursor == null ? null : cursor.score(), cursor == null ? null : cursor.id(), safeLimit(limit));
+        List<CommunityPostDto> posts = loadPostsInOrder(
+                hits.stream().map(CommunityPostSearchRepository.SearchHit::postId).toList());
+        // 검색 결과의 다음 페이지는 (score, id) 커서로 이어간다
+        Map<UUID, String> cursors = new HashMap<>();
+        hits.forEach(hit -> cursors.put(hit.postId(), new ScoreCursor(hit.score(), hit.postId()).encode()));
+        posts.forEach(post -> post.setCursor(cursors.get(post.getId())));
+        return posts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommunityPostDto> findTrending(int limit, String after, String postType) {
+        ScoreCursor cursor = ScoreCursor.decode(after);
+        List<CommunityTrendingRepository.RankedPost> ranked = communityTrendingRepository.findTop(
+                normalizePostType(postType), cursor == null ? null : cursor.score(),
+                cursor == null ? null : cursor.id(), safeLimit(limit));
+        List<CommunityPostDto> posts = loadPostsInOrder(
+                ranked.stream().map(CommunityTrendingRepository.RankedPost::postId).toList());
+        Map<UUID, String> cursors = new HashMap<>();
+        ranked.forEach(r -> cursors.put(r.postId(), new ScoreCursor(r.score(), r.postId()).encode()));
+        posts.forEach(post -> post.setCursor(cursors.get(post.getId())));
+        return posts;
+    }
+
+    private static int safeLimit(int limit) {
+        return limit <= 0 ? 10 : Math.min(limit, 50);
+    }
+
+    private static String normalizePostType(String postType) {
+        return (postType == null || postType.isEmpty() || "all".equalsIgnoreCase(postType)) ? null : postType;
+    }
+
+    /**
+     * offset 페이징(구버전 클라이언트용). PageRequest.of(offset / limit, limit)는 offset이 limit의 배수가 아니면
+     * 어긋나므로 앞쪽 offset + limit개의 ID를 읽고 offset만큼 건너뛴다.
+     */
+    private static Pageable offsetPageable(int offset, int limit) {
+        return PageRequest.of(0, offset + limit);
+    }
+
+    private static List<UUID> skip(List<UUID> ids, int offset) {
+        return offset >= ids.size() ? List.of() : ids.subList(offset, ids.size());
+    }
+
+    /** ID 순서(정렬 결과)를 유지한 채 태그/이미지까지 로드 (엔티티 없이 프로젝션) */
+    private List<CommunityPostDto> loadPostsInOrder(List<UUID> ids) {
+        return communityPostQueryRepository.findAllInOrder(ids);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<CommunityPostDto> findById(UUID postId) {
-        return communityPostRepository.findByIdWithDentals(postId)
-                .map(e -> {
-                    List<String> images = loadImagesByPostIds(List.of(postId)).getOrDefault(postId,
-                            Collections.emptyList());
-                    return toDto(e, null, null, images);
-                });
+        return loadPostsInOrder(List.of(postId)).stream().findFirst();
     }
 
     @Override
@@ -149,42 +255,24 @@ public class CommunityPostServiceImpl implements CommunityPostService {
             List<Long> productIds, List<String> imageUrls) {
         String normalizedType = (postType == null || postType.isEmpty() || "all".equalsIgnoreCase(postType)) ? null
                 : postType;
-        CommunityPostEntity entity = CommunityPostEntity.builder()
-                .authorName(authorName)
-                .content(content)
-                .postType(normalizedType)
-                .likeCount(0)
-                .commentCount(0)
-                .build();
-        CommunityPostEntity saved = communityPostRepository.save(entity);
 
+        // 태그 검증을 먼저 끝낸 뒤 게시글/태그/이미지를 한 번에 persist한다.
+        // INSERT는 커밋 시 한 번의 flush로 나가고, 태그/이미지 행은 hibernate.jdbc.batch_size 단위로 묶인다.
+        List<UUID> distinctDentalIds = dentalIds != null ? dentalIds.stream().distinct().toList() : List.of();
         List<DentalEntity> tagDentals = null;
-        if (dentalIds != null && !dentalIds.isEmpty()) {
-            List<UUID> distinctIds = dentalIds.stream().distinct().toList();
-            List<DentalEntity> existingDentals = dentalRepository.findAllById(distinctIds);
+        if (!distinctDentalIds.isEmpty()) {
+            List<DentalEntity> existingDentals = dentalRepository.findAllById(distinctDentalIds);
             Set<UUID> existingIds = existingDentals.stream().map(DentalEntity::getId).collect(Collectors.toSet());
-            if (existingIds.size() != distinctIds.size()) {
+            if (existingIds.size() != distinctDentalIds.size()) {
                 throw new IllegalArgumentException(
                         "선택한 치과 중 등록되지 않은 항목이 있어요. 치과 목록을 다시 불러온 뒤 다시 선택해 주세요.");
             }
             tagDentals = existingDentals;
-            List<CommunityPostDentalEntity> links = distinctIds.stream()
-                    .map(dentalId -> {
-                        CommunityPostDentalEntity link = CommunityPostDentalEntity.builder()
-                                .postId(saved.getId())
-                                .dentalId(dentalId)
-                                .build();
-                        link.setPost(saved);
-                        return link;
-                    })
-                    .collect(Collectors.toList());
-            saved.getDentalLinks().addAll(links);
-            communityPostRepository.save(saved);
         }
 
+        List<Long> distinctProductIds = productIds != null ? productIds.stream().distinct().toList() : List.of();
         List<PartnerProduct> tagProducts = null;
-        if (productIds != null && !productIds.isEmpty()) {
-            List<Long> distinctProductIds = productIds.stream().distinct().toList();
+        if (!distinctProductIds.isEmpty()) {
             List<PartnerProduct> existingProducts = partnerProductRepository.findAllById(distinctProductIds);
             Set<Long> existingProductIds = existingProducts.stream().map(PartnerProduct::getId).collect(Collectors.toSet());
             if (existingProductIds.size() != distinctProductIds.size()) {
@@ -192,18 +280,33 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                         "선택한 상품 중 등록되지 않은 항목이 있어요. 상품 목록을 다시 불러온 뒤 다시 선택해 주세요.");
             }
             tagProducts = existingProducts;
-            List<CommunityPostProductEntity> productLinks = distinctProductIds.stream()
-                    .map(productId -> {
-                        CommunityPostProductEntity link = CommunityPostProductEntity.builder()
-                                .postId(saved.getId())
-                                .productId(productId)
-                                .build();
-                        link.setPost(saved);
-                        return link;
-                    })
-                    .collect(Collectors.toList());
-            saved.getProductLinks().addAll(productLinks);
-            communityPostRepository.save(saved);
+        }
+
+        CommunityPostEntity entity = CommunityPostEntity.builder()
+                .authorName(authorName)
+                .content(content)
+                .postType(normalizedType)
+                .likeCount(0)
+                .commentCount(0)
+                .build();
+        // UUID는 persist 시점에 할당되므로(INSERT 없음) 링크의 post_id로 바로 쓸 수 있다
+        CommunityPostEntity saved = communityPostRepository.save(entity);
+
+        for (UUID dentalId : distinctDentalIds) {
+            CommunityPostDentalEntity link = CommunityPostDentalEntity.builder()
+                    .postId(saved.getId())
+                    .dentalId(dentalId)
+                    .build();
+            link.setPost(saved);
+            saved.getDentalLinks().add(link);
+        }
+        for (Long productId : distinctProductIds) {
+            CommunityPostProductEntity link = CommunityPostProductEntity.builder()
+                    .postId(saved.getId())
+                    .productId(productId)
+                    .build();
+            link.setPost(saved);
+            saved.getProductLinks().add(link);
         }
 
         List<String> savedImageUrls = new ArrayList<>();
@@ -221,9 +324,10 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                 saved.getImageLinks().add(img);
                 savedImageUrls.add(img.getImageUrl());
             }
-            communityPostRepository.save(saved);
         }
 
+        communityFeedCache.postCreated(normalizedType);
+        communityTrendingRanking.postChanged(saved.getId());
         return toDto(saved, tagDentals, tagProducts, savedImageUrls);
     }
 
@@ -308,11 +412,11 @@ public class CommunityPostServiceImpl implements CommunityPostService {
             }
         }
         CommunityPostEntity saved = communityPostRepository.save(post);
-        for (String oldUrl : oldImageUrls) {
-            if (!newImageUrls.contains(oldUrl)) {
-                communityImageUploadService.deleteByUrl(oldUrl);
-            }
-        }
+        communityFeedCache.postUpdated();
+        communityTrendingRanking.postChanged(saved.getId());
+        communityImageDeletionQueue.deleteAfterCommit(oldImageUrls.stream()
+                .filter(oldUrl -> !newImageUrls.contains(oldUrl))
+                .toList());
         return toDto(saved, null, null, newImageUrls);
     }
 
@@ -329,29 +433,32 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                 .map(CommunityPostImageEntity::getImageUrl)
                 .toList();
         communityPostRepository.delete(post);
-        imageUrls.forEach(communityImageUploadService::deleteByUrl);
+        communityFeedCache.postDeleted(postId);
+        communityImageDeletionQueue.deleteAfterCommit(imageUrls);
     }
 
     @Override
     @Transactional
     public PostLikeResultDto toggleLike(UUID userId, UUID postId) {
-        CommunityPostEntity post = communityPostRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-        boolean wasLiked = communityPostLikeRepository.existsByUserIdAndPostId(userId, postId);
-        if (wasLiked) {
-            communityPostLikeRepository.deleteByUserIdAndPostId(userId, postId);
-            post.setLikeCount(Math.max(0, (post.getLikeCount() == null ? 0 : post.getLikeCount()) - 1));
+        if (!communityPostRepository.existsById(postId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        // 좋아요 행은 조건부 삭제/삽입, 카운트는 실제로 바뀐 행 수만큼만 증감 (동시 요청에도 어긋나지 않음)
+        boolean liked;
+        int delta;
+        if (communityPostLikeRepository.deleteLike(userId, postId) > 0) {
+            liked = false;
+            delta = -1;
         } else {
-            communityPostLikeRepository.save(CommunityPostLikeEntity.builder()
-                    .userId(userId)
-                    .postId(postId)
-                    .build());
-            post.setLikeCount((post.getLikeCount() == null ? 0 : post.getLikeCount()) + 1);
+            liked = true;
+            delta = communityPostLikeRepository.insertIfAbsent(userId, postId);
         }
-        communityPostRepository.save(post);
+        int likeCount = communityLikeCounter.applyPostDelta(postId, delta);
+        communityFeedCache.likeCountChanged(postId, likeCount);
+        communityTrendingRanking.postChanged(postId);
         return PostLikeResultDto.builder()
-                .isLiked(!wasLiked)
-                .likeCount(post.getLikeCount() == null ? 0 : post.getLikeCount())
+                .isLiked(liked)
+                .likeCount(likeCount)
                 .build();
     }
 
@@ -407,6 +514,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                         ? e.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toString()
                         : null)
                 .postType(e.getPostType())
+                .cursor(KeysetCursor.encode(e.getCreatedAt(), e.getId()))
                 .build();
     }
 }
@@ -0,0 +1,83 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.common.util.AfterCommit;
+import com.denticheck.api.domain.community.repository.CommunityTrendingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인기 게시글 순위(community_post_trending) 갱신.
+ * 좋아요/댓글/작성/수정 이벤트가 커밋되면 게시글 ID만 모아 두고 flush-interval-ms마다 해당 게시글 점수를 한 번에 다시 계산한다.
+ * 같은 게시글에 좋아요가 몰려도 주기당 한 행만 갱신한다.
+ * 전체 재계산과 기간(window-days)이 지난 게시글 제외는 TrendingRankingRefreshScheduler가 한다.
+ */
+@Slf4j
+@Component
+public class CommunityTrendingRanking {
+
+    private final CommunityTrendingRepository communityTrendingRepository;
+    private final int windowDays;
+    private final double decaySeconds;
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    public CommunityTrendingRanking(
+            CommunityTrendingRepository communityTrendingRepository,
+            @Value("${community.trending.window-days:7}") int windowDays,
+            @Value("${community.trending.decay-seconds:45000}") double decaySeconds,
+            MeterRegistry meterRegistry) {
+        this.communityTrendingRepository = communityTrendingRepository;
+        this.windowDays = windowDays;
+        this.decaySeconds = decaySeconds;
+        Gauge.builder("community.trending.dirty", dirty, Set::size)
+                .description("순위 점수 반영을 기다리는 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /** 게시글의 좋아요/댓글 수나 종류가 바뀜 (커밋 후 반영) */
+    public void postChanged(UUID postId) {
+        if (postId == null) {
+            return;
+        }
+        AfterCommit.run(() -> dirty.add(postId));
+    }
+
+    @Scheduled(fixedDelayString = "${community.trending.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(dirty);
+        ids.forEach(dirty::remove);
+        try {
+            communityTrendingRepository.upsert(ids, since(), decaySeconds);
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 시도
+            dirty.addAll(ids);
+            log.warn("인기 게시글 점수 반영 실패 ({}건)", ids.size(), e);
+        }
+    }
+
+    /** 기간 내 게시글 전체 재계산 + 기간이 지난 게시글 제외. [재계산된 행 수, 제외된 행 수] */
+    public int[] refreshAll() {
+        LocalDateTime since = since();
+        int updated = communityTrendingRepository.upsertAll(since, decaySeconds);
+        int evicted = communityTrendingRepository.evictOlderThan(since);
+        return new int[] { updated, evicted };
+    }
+
+    private LocalDateTime since() {
+        return LocalDateTime.now().minusDays(windowDays);
+    }
+}
@@ -0,0 +1,102 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * JPEG EXIF Orientation 태그(0x0112) 읽기/적용.
+ * ImageIO는 회전 정보를 무시하고, 변형 이미지는 EXIF 없이 저장하므로 픽셀 자체를 돌려 둔다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /** JPEG 앞부분(APP1 세그먼트 포함)에서 Orientation 값(1~8)을 읽는다. 없거나 해석할 수 없으면 1 */
+    static int read(byte[] head) {
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(head).order(ByteOrder.BIG_ENDIAN);
+            if (buf.remaining() < 4 || (buf.getShort() & 0xFFFF) != 0xFFD8) {
+                return NORMAL;
+            }
+            while (buf.remaining() >= 4) {
+                int marker = buf.getShort() & 0xFFFF;
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return NORMAL; // 이미지 데이터 시작 전에 APP1이 없음
+                }
+                int length = buf.getShort() & 0xFFFF;
+                int segmentStart = buf.position();
+                if (length < 2 || segmentStart + length - 2 > buf.limit()) {
+                    return NORMAL;
+                }
+                if (marker == 0xFFE1 && length >= 8 && isExifHeader(head, segmentStart)) {
+                    return readTiffOrientation(ByteBuffer.wrap(head, segmentStart + 6, length - 8).slice());
+                }
+                buf.position(segmentStart + length - 2);
+            }
+        } catch (RuntimeException e) {
+            // 손상된 EXIF는 무시하고 원래 방향으로 처리
+        }
+        return NORMAL;
+    }
+
+    private static boolean isExifHeader(byte[] data, int offset) {
+        return data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i' && data[offset + 3] == 'f'
+                && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(ByteBuffer tiff) {
+        int byteOrder = tiff.getShort(0) & 0xFFFF;
+        if (byteOrder == 0x4949) { // "II"
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (byteOrder != 0x4D4D) { // "MM"
+            return NORMAL;
+        }
+        int ifdOffset = tiff.getInt(4);
+        int entries = tiff.getShort(ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xFFFF) == TAG_ORIENTATION) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /** Orientation에 맞게 회전/반전한 RGB 이미지 (1이면 RGB 변환만) */
+    static BufferedImage apply(BufferedImage src, int orientation) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        AffineTransform t = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+        boolean swap = orientation >= 5 && orientation <= 8;
+        BufferedImage out = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            // 투명 배경(PNG)은 흰색으로
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, out.getWidth(), out.getHeight());
+            g.drawImage(src, t, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+}
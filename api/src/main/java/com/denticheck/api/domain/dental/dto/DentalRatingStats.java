@@ -0,0 +1,16 @@
+package com.denticheck.api.domain.dental.dto;
+
+import java.util.UUID;
+
+/** 치과별 리뷰 평점 집계 (GROUP BY 프로젝션) */
+public record DentalRatingStats(UUID dentalId, Double average, Long count) {
+
+    /** 소수 첫째 자리까지 반올림한 평균 (기존 Dental.ratingAvg 표기와 동일) */
+    public double roundedAverage() {
+        return average == null ? 0.0 : Math.round(average * 10.0) / 10.0;
+    }
+
+    public int countAsInt() {
+        return count == null ? 0 : count.intValue();
+    }
+}
@@ -2,10 +2,18 @@ package com.denticheck.api.domain.dental.repository;
 
 import com.denticheck.api.domain.dental.entity.DentalLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface DentalLikeRepository extends JpaRepository<DentalLikeEntity, DentalLikeEntity.DentalLikeId> {
     List<DentalLikeEntity> findByUserId(UUID userId);
+
+    /** 주어진 치과 중 사용자가 좋아요한 치과 ID (GraphQL Dental.isLiked 일괄 조회용) */
+    @Query("SELECT l.dentalId FROM DentalLikeEntity l WHERE l.userId = :userId AND l.dentalId IN :dentalIds")
+    Set<UUID> findLikedDentalIds(@Param("userId") UUID userId, @Param("dentalIds") Collection<UUID> dentalIds);
 }
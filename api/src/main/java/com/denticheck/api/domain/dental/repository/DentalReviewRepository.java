@@ -1,10 +1,24 @@
 package com.denticheck.api.domain.dental.repository;
 
 import com.denticheck.api.domain.dental.entity.DentalReviewEntity;
+import com.denticheck.api.domain.dental.dto.DentalRatingStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface DentalReviewRepository extends JpaRepository<DentalReviewEntity, UUID> {
     List<DentalReviewEntity> findByDentalId(UUID dentalId);
+
+    /** GraphQL Dental.reviews 일괄 조회용 */
+    @Query("SELECT r FROM DentalReviewEntity r WHERE r.dental.id IN :dentalIds")
+    List<DentalReviewEntity> findByDentalIdIn(@Param("dentalIds") Collection<UUID> dentalIds);
+
+    /** GraphQL Dental.ratingAvg/ratingCount 일괄 조회용 (리뷰가 없는 치과는 결과에 없음) */
+    @Query("SELECT new com.denticheck.api.domain.dental.dto.DentalRatingStats(r.dental.id, AVG(r.rating), COUNT(r)) "
+            + "FROM DentalReviewEntity r WHERE r.dental.id IN :dentalIds GROUP BY r.dental.id")
+    List<DentalRatingStats> findRatingStatsByDentalIdIn(@Param("dentalIds") Collection<UUID> dentalIds);
 }
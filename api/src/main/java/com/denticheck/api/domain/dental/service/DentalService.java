@@ -22,6 +22,17 @@ public interface DentalService {
 
         List<com.denticheck.api.domain.dental.entity.DentalReviewEntity> getReviews(java.util.UUID dentalId);
 
+        /** 치과 ID별 리뷰 목록 (리뷰 없는 치과는 키 없음) */
+        java.util.Map<java.util.UUID, List<com.denticheck.api.domain.dental.entity.DentalReviewEntity>> getReviewsByDentalIds(
+                        java.util.Collection<java.util.UUID> dentalIds);
+
+        /** 치과 ID별 평점 통계 (리뷰 없는 치과는 키 없음) */
+        java.util.Map<java.util.UUID, com.denticheck.api.domain.dental.dto.DentalRatingStats> getRatingStats(
+                        java.util.Collection<java.util.UUID> dentalIds);
+
+        /** 주어진 치과 중 사용자가 좋아요한 치과 ID. 사용자가 없으면 빈 Set */
+        java.util.Set<java.util.UUID> findLikedDentalIds(String username, java.util.Collection<java.util.UUID> dentalIds);
+
         com.denticheck.api.domain.dental.entity.DentalReviewEntity createReview(java.util.UUID dentalId,
                         String username,
                         int rating, String content, java.util.List<String> tags, boolean isAnonymous);
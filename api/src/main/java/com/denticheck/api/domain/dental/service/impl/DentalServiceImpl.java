@@ -216,6 +216,40 @@ public class DentalServiceImpl implements DentalService {
         return dentalLikeRepository.existsById(likeId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public java.util.Map<java.util.UUID, List<com.denticheck.api.domain.dental.entity.DentalReviewEntity>> getReviewsByDentalIds(
+            java.util.Collection<java.util.UUID> dentalIds) {
+        if (dentalIds.isEmpty()) {
+            return java.util.Map.of();
+        }
+        return dentalReviewRepository.findByDentalIdIn(dentalIds).stream()
+                .collect(Collectors.groupingBy(r -> r.getDental().getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public java.util.Map<java.util.UUID, com.denticheck.api.domain.dental.dto.DentalRatingStats> getRatingStats(
+            java.util.Collection<java.util.UUID> dentalIds) {
+        if (dentalIds.isEmpty()) {
+            return java.util.Map.of();
+        }
+        return dentalReviewRepository.findRatingStatsByDentalIdIn(dentalIds).stream()
+                .collect(Collectors.toMap(com.denticheck.api.domain.dental.dto.DentalRatingStats::dentalId,
+                        java.util.function.Function.identity()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public java.util.Set<java.util.UUID> findLikedDentalIds(String username, java.util.Collection<java.util.UUID> dentalIds) {
+        if (dentalIds.isEmpty()) {
+            return java.util.Set.of();
+        }
+        return userRepository.findByUsername(username)
+                .map(user -> dentalLikeRepository.findLikedDentalIds(user.getId(), dentalIds))
+                .orElse(java.util.Set.of());
+    }
+
     @Override
     @Transactional
     public void deleteReview(java.util.UUID reviewId, String username) {
@@ -16,6 +16,7 @@ import com.denticheck.api.domain.admin.dto.AdminWeeklyUsageDTO;
 import com.denticheck.api.domain.admin.dto.AdminProductDTO;
 import com.denticheck.api.domain.admin.dto.AdminInsuranceDTO;
 import com.denticheck.api.domain.admin.service.AdminService;
+import com.denticheck.api.infrastructure.external.ai.AiChatAnswerCache;
 
 import com.denticheck.api.domain.admin.dto.DentalInputDTO;
 import com.denticheck.api.domain.admin.dto.ProductInputDTO;
@@ -36,6 +37,7 @@ import java.util.List;
 public class AdminResolver {
 
     private final AdminService adminService;
+    private final AiChatAnswerCache aiChatAnswerCache;
 
     // 0. 내 정보
     @QueryMapping
@@ -140,6 +142,12 @@ public class AdminResolver {
         return adminService.updateInsurance(id, input);
     }
 
+    // 챗봇 답변 캐시 즉시 무효화 (요청 받은 노드만. 재적재는 지식 베이스 버전으로 모든 노드에 자동 반영)
+    @MutationMapping
+    public int invalidateChatAnswerCache() {
+        return aiChatAnswerCache.invalidateAll();
+    }
+
     @MutationMapping
     public boolean deleteDental(@Argument String id) {
         return adminService.deleteDental(id);
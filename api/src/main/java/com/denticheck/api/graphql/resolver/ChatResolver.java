@@ -1,26 +1,33 @@
 package com.denticheck.api.graphql.resolver;
 
+import com.denticheck.api.common.ratelimit.RateLimitDecision;
+import com.denticheck.api.common.ratelimit.RateLimitException;
+import com.denticheck.api.common.ratelimit.RateLimitGraphQlInterceptor;
+import com.denticheck.api.common.ratelimit.RateLimiter;
 import com.denticheck.api.common.util.UserRoleOnly;
 import com.denticheck.api.domain.chatbot.dto.ChatAppRequest;
 import com.denticheck.api.domain.chatbot.dto.ChatAppResponse;
 import com.denticheck.api.domain.chatbot.dto.ChatSessionResponse;
-import com.denticheck.api.domain.chatbot.dto.ChatResponse;
+import com.denticheck.api.domain.chatbot.dto.ChatHistoryPage;
+import com.denticheck.api.domain.chatbot.dto.ChatStreamEvent;
 import com.denticheck.api.domain.chatbot.entity.ChatSessionEntity;
 import com.denticheck.api.domain.chatbot.service.impl.ChatServiceImpl;
 import com.denticheck.api.domain.user.entity.UserEntity;
 import com.denticheck.api.domain.user.repository.UserRepository;
 
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Controller
 @UserRoleOnly
@@ -29,6 +36,7 @@ public class ChatResolver {
 
         private final ChatServiceImpl chatServiceImpl;
         private final UserRepository userRepository;
+        private final RateLimiter rateLimiter;
 
         @MutationMapping
         @PreAuthorize("hasRole('USER')")
@@ -46,38 +54,53 @@ public class ChatResolver {
                                 .build();
         }
 
+        /** payload/citation(jsonb)은 클라이언트가 선택한 경우에만 조회한다 */
         @QueryMapping
         @PreAuthorize("hasRole('USER')")
-        public List<ChatResponse> getChatHistory(@Argument("sessionId") UUID sessionId) {
-                return chatServiceImpl.getChatHistory(sessionId).stream()
-                                .map(entity -> ChatResponse.builder()
-                                                .id(entity.getId())
-                                                .sessionId(entity.getSession().getId())
-                                                .role(entity.getRole())
-                                                .content(entity.getContent())
-                                                .messageType(entity.getMessageType())
-                                                .payload(entity.getPayload())
-                                                .language(entity.getLanguage())
-                                                .citation(entity.getCitation())
-                                                .createdDate(entity.getCreatedAt())
-                                                .updatedDate(entity.getUpdatedAt())
-                                                .build())
-                                .collect(Collectors.toList());
+        public ChatHistoryPage getChatHistory(
+                        @Argument("sessionId") UUID sessionId,
+                        @Argument("first") Integer first,
+                        @Argument("before") String before,
+                        @Argument("after") String after,
+                        DataFetchingFieldSelectionSet selectionSet) {
+                boolean includeJson = selectionSet.containsAnyOf("messages/payload", "messages/citation");
+                return chatServiceImpl.getChatHistory(sessionId, first, before, after, includeJson);
         }
 
         @MutationMapping
         @PreAuthorize("hasRole('USER')")
         public ChatAppResponse sendChatMessage(
                         @Argument("request") ChatAppRequest request,
-                        @Argument("channel") String channel) {
+                        @Argument("channel") String channel,
+                        GraphQLContext context) {
 
                 String username = SecurityContextHolder.getContext().getAuthentication().getName();
+                checkChatRateLimit(username, context);
                 UserEntity user = userRepository.findByUsername(username)
                                 .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다: " + username));
 
                 return chatServiceImpl.processMessage(request, user.getId(), channel);
         }
 
+        /**
+         * sendChatMessage의 스트리밍 버전 (SSE: POST /graphql, Accept: text/event-stream).
+         * 구독을 끊으면 AI 서버의 답변 생성도 함께 중단된다.
+         */
+        @SubscriptionMapping
+        @PreAuthorize("hasRole('USER')")
+        public Flux<ChatStreamEvent> chatMessageStream(
+                        @Argument("request") ChatAppRequest request,
+                        @Argument("channel") String channel,
+                        GraphQLContext context) {
+
+                String username = SecurityContextHolder.getContext().getAuthentication().getName();
+                checkChatRateLimit(username, context);
+                UserEntity user = userRepository.findByUsername(username)
+                                .orElseThrow(() -> new RuntimeException("해당 사용자를 찾을 수 없습니다: " + username));
+
+                return chatServiceImpl.streamMessage(request, user.getId(), channel);
+        }
+
         @MutationMapping
         @PreAuthorize("hasRole('USER')")
         public Boolean endChatSession(@Argument("channel") String channel) {
@@ -88,4 +111,13 @@ public class ChatResolver {
                 chatServiceImpl.endSession(user.getId(), channel);
                 return true;
         }
+
+        /** 채팅(일반/스트리밍)은 같은 사용자 버킷을 공유한다 */
+        private void checkChatRateLimit(String username, GraphQLContext context) {
+                RateLimitDecision decision = rateLimiter.tryConsume(RateLimiter.CHAT, username);
+                RateLimitGraphQlInterceptor.attach(context, decision);
+                if (!decision.allowed()) {
+                        throw new RateLimitException(decision);
+                }
+        }
 }
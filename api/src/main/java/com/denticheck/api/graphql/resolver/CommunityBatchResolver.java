@@ -0,0 +1,70 @@
+package com.denticheck.api.graphql.resolver;
+
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.repository.CommunityCommentLikeRepository;
+import com.denticheck.api.domain.community.repository.CommunityPostLikeRepository;
+import com.denticheck.api.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Post/Comment의 사용자별 필드를 요청 단위로 모아 필드당 쿼리 1번으로 처리한다.
+ * (Comment.replyCount는 community_comments.reply_count 컬럼 값을 그대로 사용)
+ * 목록 조회, 단건 조회, 뮤테이션 응답 어디서 반환되든 같은 방식으로 채워진다.
+ * DTO는 @Data(값 비교)라서 Map 키로 쓰면 필드 변경 뒤 조회가 어긋나거나 다른 댓글이 합쳐질 수 있으므로,
+ * 결과는 ID로 계산해 요청 순서 그대로의 List로 반환한다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class CommunityBatchResolver {
+
+    private final CommunityPostLikeRepository communityPostLikeRepository;
+    private final CommunityCommentLikeRepository communityCommentLikeRepository;
+    private final UserRepository userRepository;
+
+    @BatchMapping(typeName = "Post", field = "isLiked")
+    public List<Boolean> postIsLiked(List<CommunityPostDto> posts) {
+        UUID userId = currentUserIdOrNull();
+        Set<UUID> likedIds = userId == null
+                ? Set.of()
+                : communityPostLikeRepository.findLikedPostIds(userId, ids(posts, CommunityPostDto::getId));
+        return byId(posts, CommunityPostDto::getId, likedIds::contains);
+    }
+
+    @BatchMapping(typeName = "Comment", field = "isLiked")
+    public List<Boolean> commentIsLiked(List<CommunityCommentDto> comments) {
+        UUID userId = currentUserIdOrNull();
+        Set<UUID> likedIds = userId == null
+                ? Set.of()
+                : communityCommentLikeRepository.findLikedCommentIds(userId, ids(comments, CommunityCommentDto::getId));
+        return byId(comments, CommunityCommentDto::getId, likedIds::contains);
+    }
+
+    private UUID currentUserIdOrNull() {
+        try {
+            String username = SecurityContextHolder.getContext().getAuthentication().getName();
+            if (username == null || username.isBlank() || "anonymousUser".equals(username)) return null;
+            return userRepository.findByUsername(username).map(u -> u.getId()).orElse(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static <T> Set<UUID> ids(List<T> items, Function<T, UUID> id) {
+        return items.stream().map(id).collect(Collectors.toSet());
+    }
+
+    /** BatchMapping 결과는 요청 키와 같은 순서의 List (DTO equals/hashCode에 의존하지 않음) */
+    private static <T, V> List<V> byId(List<T> items, Function<T, UUID> id, Function<UUID, V> value) {
+        return items.stream().map(item -> value.apply(id.apply(item))).toList();
+    }
+}
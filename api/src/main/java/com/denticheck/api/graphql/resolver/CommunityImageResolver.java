@@ -0,0 +1,42 @@
+package com.denticheck.api.graphql.resolver;
+
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.service.CommunityImageUploadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * Post.images / Comment.images(size): 요청 표시 너비에 맞는 리사이즈 변형 URL로 바꿔 반환.
+ * 변형은 업로드 후 비동기로 만들어지므로 아직 없으면 원본 URL을 그대로 준다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class CommunityImageResolver {
+
+    private final CommunityImageUploadService communityImageUploadService;
+
+    @SchemaMapping(typeName = "Post", field = "images")
+    public List<String> postImages(CommunityPostDto post, @Argument Integer size) {
+        return resize(post.getImages(), size);
+    }
+
+    @SchemaMapping(typeName = "Comment", field = "images")
+    public List<String> commentImages(CommunityCommentDto comment, @Argument Integer size) {
+        return resize(comment.getImages(), size);
+    }
+
+    private List<String> resize(List<String> images, Integer size) {
+        if (images == null) {
+            return List.of();
+        }
+        if (size == null) {
+            return images;
+        }
+        return images.stream().map(url -> communityImageUploadService.variantUrl(url, size)).toList();
+    }
+}
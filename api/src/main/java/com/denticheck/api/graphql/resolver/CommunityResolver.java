@@ -1,24 +1,25 @@
 package com.denticheck.api.graphql.resolver;
 
+import com.denticheck.api.common.pagination.KeysetCursor;
 import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityCommentThreadDto;
 import com.denticheck.api.domain.community.dto.CommunityPostDto;
 import com.denticheck.api.domain.community.dto.PostLikeResultDto;
 import com.denticheck.api.domain.community.entity.CommunityCommentEntity;
 import com.denticheck.api.domain.community.entity.CommunityCommentDentalEntity;
 import com.denticheck.api.domain.community.entity.CommunityCommentImageEntity;
 import com.denticheck.api.domain.community.entity.CommunityCommentProductEntity;
-import com.denticheck.api.domain.community.entity.CommunityCommentLikeEntity;
-import com.denticheck.api.domain.community.entity.CommunityPostLikeEntity;
 import com.denticheck.api.domain.community.entity.CommunityPostEntity;
 import com.denticheck.api.domain.community.repository.CommunityCommentDentalRepository;
-import com.denticheck.api.domain.community.repository.CommunityCommentLikeRepository;
 import com.denticheck.api.domain.community.repository.CommunityCommentProductRepository;
+import com.denticheck.api.domain.community.repository.CommunityCommentQueryRepository;
 import com.denticheck.api.domain.community.repository.CommunityCommentRepository;
-import com.denticheck.api.domain.community.repository.CommunityPostLikeRepository;
 import com.denticheck.api.domain.community.repository.CommunityPostRepository;
 import com.denticheck.api.domain.community.service.CommunityCommentService;
-import com.denticheck.api.domain.community.service.CommunityImageUploadService;
 import com.denticheck.api.domain.community.service.CommunityPostService;
+import com.denticheck.api.domain.community.service.impl.CommunityFeedCache;
+import com.denticheck.api.domain.community.service.impl.CommunityImageDeletionQueue;
+import com.denticheck.api.domain.community.service.impl.CommunityTrendingRanking;
 import com.denticheck.api.domain.admin.entity.PartnerProduct;
 import com.denticheck.api.domain.admin.repository.PartnerProductRepository;
 import com.denticheck.api.domain.dental.entity.DentalEntity;
@@ -44,7 +45,6 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -60,13 +60,14 @@ public class CommunityResolver {
 
     private final CommunityPostService communityPostService;
     private final CommunityCommentService communityCommentService;
-    private final CommunityPostLikeRepository communityPostLikeRepository;
     private final CommunityCommentRepository communityCommentRepository;
+    private final CommunityCommentQueryRepository communityCommentQueryRepository;
     private final CommunityCommentDentalRepository communityCommentDentalRepository;
     private final CommunityCommentProductRepository communityCommentProductRepository;
-    private final CommunityCommentLikeRepository communityCommentLikeRepository;
     private final CommunityPostRepository communityPostRepository;
-    private final CommunityImageUploadService communityImageUploadService;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityImageDeletionQueue communityImageDeletionQueue;
+    private final CommunityTrendingRanking communityTrendingRanking;
     private final UserRepository userRepository;
     private final DentalRepository dentalRepository;
     private final PartnerProductRepository partnerProductRepository;
@@ -84,21 +85,58 @@ public class CommunityResolver {
     public List<CommunityPostDto> posts(
             @Argument("limit") Integer limit,
             @Argument("offset") Integer offset,
+            @Argument("after") String after,
             @Argument("postType") String postType) {
-        List<CommunityPostDto> list = (limit != null || offset != null || postType != null)
-                ? communityPostService.findAll(limit != null ? limit : 10, offset != null ? offset : 0, postType)
-                : communityPostService.findAll();
+        int limitVal = limit != null ? limit : 10;
+        List<CommunityPostDto> list;
+        if (isOffsetRequest(offset, after)) {
+            list = communityPostService.findAll(limitVal, offset.intValue(), postType);
+        } else if (limit != null || after != null || postType != null) {
+            list = communityPostService.findAll(limitVal, after, postType);
+        } else {
+            list = communityPostService.findAll();
+        }
+        // isLiked는 CommunityBatchResolver에서 페이지 단위로 일괄 조회
         String currentAuthorName = getCurrentUserDisplayNameOrNull();
-        UUID currentUserId = getCurrentUserIdOrNull();
-        Set<UUID> likedPostIds = currentUserId != null
-                ? communityPostLikeRepository.findByUserId(currentUserId).stream()
-                        .map(CommunityPostLikeEntity::getPostId)
-                        .collect(Collectors.toSet())
-                : Collections.emptySet();
-        list.forEach(dto -> {
-            dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor()));
-            dto.setIsLiked(likedPostIds.contains(dto.getId()));
-        });
+        list.forEach(dto -> dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor())));
+        return list;
+    }
+
+    @QueryMapping
+    public List<CommunityPostDto> searchPosts(
+            @Argument("query") String query,
+            @Argument("limit") Integer limit,
+            @Argument("after") String after,
+            @Argument("postType") String postType,
+            @Argument("dentalId") String dentalIdStr,
+            @Argument("productId") String productIdStr) {
+        UUID dentalId = null;
+        Long productId = null;
+        try {
+            if (dentalIdStr != null && !dentalIdStr.isBlank()) dentalId = UUID.fromString(dentalIdStr.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 치과 ID입니다.");
+        }
+        try {
+            if (productIdStr != null && !productIdStr.isBlank()) productId = Long.parseLong(productIdStr.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 상품 ID입니다.");
+        }
+        List<CommunityPostDto> list = communityPostService.search(query, limit != null ? limit : 10, after, postType,
+                dentalId, productId);
+        String currentAuthorName = getCurrentUserDisplayNameOrNull();
+        list.forEach(dto -> dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor())));
+        return list;
+    }
+
+    @QueryMapping
+    public List<CommunityPostDto> trendingPosts(
+            @Argument("limit") Integer limit,
+            @Argument("after") String after,
+            @Argument("postType") String postType) {
+        List<CommunityPostDto> list = communityPostService.findTrending(limit != null ? limit : 10, after, postType);
+        String currentAuthorName = getCurrentUserDisplayNameOrNull();
+        list.forEach(dto -> dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor())));
         return list;
     }
 
@@ -106,19 +144,18 @@ public class CommunityResolver {
     @PreAuthorize("hasRole('USER')")
     public List<CommunityPostDto> postsLikedByMe(
             @Argument("limit") Integer limit,
-            @Argument("offset") Integer offset) {
+            @Argument("offset") Integer offset,
+            @Argument("after") String after) {
         UUID currentUserId = getCurrentUserIdOrNull();
         if (currentUserId == null) {
             return Collections.emptyList();
         }
         String currentAuthorName = getCurrentUserDisplayNameOrNull();
         int limitVal = limit != null && limit > 0 ? limit : 10;
-        int offsetVal = offset != null && offset >= 0 ? offset : 0;
-        List<CommunityPostDto> list = communityPostService.findLikedByUser(currentUserId, limitVal, offsetVal);
-        list.forEach(dto -> {
-            dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor()));
-            dto.setIsLiked(true);
-        });
+        List<CommunityPostDto> list = isOffsetRequest(offset, after)
+                ? communityPostService.findLikedByUser(currentUserId, limitVal, offset.intValue())
+                : communityPostService.findLikedByUser(currentUserId, limitVal, after);
+        list.forEach(dto -> dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor())));
         return list;
     }
 
@@ -126,24 +163,17 @@ public class CommunityResolver {
     @PreAuthorize("hasRole('USER')")
     public List<CommunityPostDto> postsByMe(
             @Argument("limit") Integer limit,
-            @Argument("offset") Integer offset) {
+            @Argument("offset") Integer offset,
+            @Argument("after") String after) {
         String currentAuthorName = getCurrentUserDisplayNameOrNull();
         if (currentAuthorName == null || currentAuthorName.isBlank()) {
             return Collections.emptyList();
         }
-        UUID currentUserId = getCurrentUserIdOrNull();
         int limitVal = limit != null && limit > 0 ? limit : 10;
-        int offsetVal = offset != null && offset >= 0 ? offset : 0;
-        List<CommunityPostDto> list = communityPostService.findByAuthorName(currentAuthorName, limitVal, offsetVal);
-        Set<UUID> likedPostIds = currentUserId != null
-                ? communityPostLikeRepository.findByUserId(currentUserId).stream()
-                        .map(CommunityPostLikeEntity::getPostId)
-                        .collect(Collectors.toSet())
-                : Collections.emptySet();
-        list.forEach(dto -> {
-            dto.setIsMine(true);
-            dto.setIsLiked(likedPostIds.contains(dto.getId()));
-        });
+        List<CommunityPostDto> list = isOffsetRequest(offset, after)
+                ? communityPostService.findByAuthorName(currentAuthorName, limitVal, offset.intValue())
+                : communityPostService.findByAuthorName(currentAuthorName, limitVal, after);
+        list.forEach(dto -> dto.setIsMine(true));
         return list;
     }
 
@@ -151,116 +181,100 @@ public class CommunityResolver {
     public List<CommunityCommentDto> comments(
             @Argument("postId") String postIdStr,
             @Argument("limit") Integer limit,
-            @Argument("offset") Integer offset) {
+            @Argument("offset") Integer offset,
+            @Argument("after") String after) {
         UUID postId;
         try {
             postId = UUID.fromString(postIdStr);
         } catch (IllegalArgumentException e) {
             return Collections.emptyList();
         }
-        int limitVal = limit != null && limit > 0 ? limit : 10;
-        int offsetVal = offset != null && offset >= 0 ? offset : 0;
-        Pageable pageable = PageRequest.of(offsetVal / limitVal, limitVal);
+        int limitVal = limit != null && limit > 0 ? Math.min(limit, 50) : 10;
         String currentAuthorName = getCurrentUserDisplayNameOrNull();
-        UUID currentUserId = getCurrentUserIdOrNull();
-        
-        // 먼저 페이징으로 댓글 ID만 조회 (최신순)
-        List<UUID> commentIds = communityCommentRepository.findIdsByPostIdOrderByCreatedAtDesc(postId, pageable);
+
+        // 먼저 페이징으로 댓글 ID만 조회 (최신순). offset은 구버전 클라이언트용
+        List<UUID> commentIds;
+        if (isOffsetRequest(offset, after)) {
+            CommunityPostService.requireLegacyOffset(offset);
+            // offset이 limit의 배수가 아니어도 어긋나지 않도록 앞쪽을 읽고 건너뛴다
+            List<UUID> ids = communityCommentRepository.findIdsByPostIdOrderByCreatedAtDesc(postId,
+                    PageRequest.of(0, offset + limitVal));
+            commentIds = offset >= ids.size() ? List.of() : ids.subList(offset, ids.size());
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            commentIds = cursor == null
+                    ? communityCommentRepository.findIdsByPostIdOrderByCreatedAtDesc(postId, PageRequest.of(0, limitVal))
+                    : communityCommentRepository.findIdsByPostIdBefore(postId, cursor.createdAt(), cursor.id(),
+                            PageRequest.of(0, limitVal));
+        }
         if (commentIds.isEmpty()) {
             return Collections.emptyList();
         }
         
-        // dentalLinks 포함해서 다시 조회 (게시글과 동일한 방식)
-        log.info("[댓글 조회] 조회할 댓글 ID 개수: {}", commentIds.size());
-        List<CommunityCommentEntity> entities = communityCommentRepository.findAllWithDentalsByIdIn(commentIds);
-        log.info("[댓글 조회] 조회된 엔티티 개수: {}", entities.size());
-        attachProductLinksToComments(entities);
-        
-        // IN 조회는 순서 보장이 없어서, id 순서대로 정렬 (createdAt 순서 유지)
-        java.util.Map<UUID, Integer> orderMap = new java.util.HashMap<>();
-        for (int i = 0; i < commentIds.size(); i++) {
-            orderMap.put(commentIds.get(i), i);
-        }
-        entities.sort(java.util.Comparator.comparingInt(e -> orderMap.getOrDefault(e.getId(), Integer.MAX_VALUE)));
-        
-        // 각 댓글의 dentalLinks 상태 로깅
-        for (CommunityCommentEntity e : entities) {
-            log.info("[댓글 조회] 댓글 ID: {}, dentalLinks 개수: {}, dentalLinks 상세: {}", 
-                    e.getId(),
-                    e.getDentalLinks() != null ? e.getDentalLinks().size() : 0,
-                    e.getDentalLinks() != null ? e.getDentalLinks().stream()
-                            .map(l -> l.getDentalId() + "(" + (l.getDental() != null ? l.getDental().getName() : "null") + ")")
-                            .collect(Collectors.joining(", ")) : "null");
-        }
-        Set<UUID> likedCommentIds = new HashSet<>();
-        if (currentUserId != null && !entities.isEmpty()) {
-            likedCommentIds = communityCommentLikeRepository.findByUserIdAndCommentIdIn(currentUserId, commentIds)
-                    .stream()
-                    .map(CommunityCommentLikeEntity::getCommentId)
-                    .collect(Collectors.toSet());
-        }
-        Set<UUID> finalLikedCommentIds = likedCommentIds;
-        java.util.Map<UUID, Integer> replyCountMap = new java.util.HashMap<>();
-        for (UUID id : commentIds) {
-            replyCountMap.put(id, (int) communityCommentRepository.countByParentComment_Id(id));
-        }
-        return entities.stream()
-                .map(e -> commentToDto(e, currentAuthorName, finalLikedCommentIds.contains(e.getId()),
-                        replyCountMap.getOrDefault(e.getId(), 0)))
-                .collect(Collectors.toList());
+        // isLiked/replyCount는 CommunityBatchResolver에서 일괄 조회
+        return withIsMine(communityCommentQueryRepository.findAllInOrder(commentIds), currentAuthorName);
     }
 
     @QueryMapping
-    public List<CommunityCommentDto> replies(@Argument("parentCommentId") String parentCommentIdStr) {
+    public List<CommunityCommentDto> replies(
+            @Argument("parentCommentId") String parentCommentIdStr,
+            @Argument("limit") Integer limit,
+            @Argument("after") String after) {
         UUID parentId;
         try {
             parentId = UUID.fromString(parentCommentIdStr);
         } catch (IllegalArgumentException e) {
             return Collections.emptyList();
         }
-        List<UUID> replyIds = communityCommentRepository.findIdsByParentComment_IdOrderByCreatedAtAsc(parentId);
+        // limit/after 없이 호출하면 기존처럼 전체 답글 (작성일 오름차순)
+        List<UUID> replyIds;
+        if (limit == null && after == null) {
+            replyIds = communityCommentRepository.findIdsByParentComment_IdOrderByCreatedAtAsc(parentId);
+        } else {
+            Pageable pageable = PageRequest.of(0, limit != null && limit > 0 ? Math.min(limit, 50) : 10);
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            replyIds = cursor == null
+                    ? communityCommentRepository.findIdsByParentComment_IdOrderByCreatedAtAsc(parentId, pageable)
+                    : communityCommentRepository.findIdsByParentComment_IdAfter(parentId, cursor.createdAt(),
+                            cursor.id(), pageable);
+        }
         if (replyIds.isEmpty()) {
             return Collections.emptyList();
         }
-        List<CommunityCommentEntity> entities = communityCommentRepository.findAllWithDentalsByIdIn(replyIds);
-        attachProductLinksToComments(entities);
-        java.util.Map<UUID, Integer> orderMap = new java.util.HashMap<>();
-        for (int i = 0; i < replyIds.size(); i++) {
-            orderMap.put(replyIds.get(i), i);
-        }
-        entities.sort(java.util.Comparator.comparingInt(e -> orderMap.getOrDefault(e.getId(), Integer.MAX_VALUE)));
-        String currentAuthorName = getCurrentUserDisplayNameOrNull();
-        UUID currentUserId = getCurrentUserIdOrNull();
-        Set<UUID> likedIds = Collections.emptySet();
-        if (currentUserId != null) {
-            likedIds = communityCommentLikeRepository.findByUserIdAndCommentIdIn(currentUserId, replyIds)
-                    .stream()
-                    .map(CommunityCommentLikeEntity::getCommentId)
-                    .collect(Collectors.toSet());
-        }
-        Set<UUID> finalLikedIds = likedIds;
-        return entities.stream()
-                .map(e -> commentToDto(e, currentAuthorName, finalLikedIds.contains(e.getId()), 0))
-                .collect(Collectors.toList());
+        return withIsMine(communityCommentQueryRepository.findAllInOrder(replyIds), getCurrentUserDisplayNameOrNull());
     }
 
-    /** 댓글 엔티티 목록에 productLinks(product 포함)를 로드해 붙임 (commentToDto에서 tags에 상품 포함용) */
-    private void attachProductLinksToComments(List<CommunityCommentEntity> entities) {
-        if (entities == null || entities.isEmpty()) return;
-        List<UUID> ids = entities.stream().map(CommunityCommentEntity::getId).toList();
-        List<CommunityCommentProductEntity> productLinksList = communityCommentProductRepository.findByCommentIdInWithProduct(ids);
-        java.util.Map<UUID, List<CommunityCommentProductEntity>> byCommentId = productLinksList.stream()
-                .collect(Collectors.groupingBy(CommunityCommentProductEntity::getCommentId));
-        for (CommunityCommentEntity c : entities) {
-            List<CommunityCommentProductEntity> links = byCommentId.getOrDefault(c.getId(), Collections.emptyList());
-            for (CommunityCommentProductEntity pl : links) {
-                pl.setComment(c);
-                c.getProductLinks().add(pl);
-            }
+    private static List<CommunityCommentDto> withIsMine(List<CommunityCommentDto> comments, String currentAuthorName) {
+        comments.forEach(c -> c.setIsMine(currentAuthorName != null && currentAuthorName.equals(c.getAuthor())));
+        return comments;
+    }
+
+    /** 댓글 스레드: 최상위 댓글 + 앞쪽 답글을 쿼리 한 번으로 (게시글 상세 첫 화면용) */
+    @QueryMapping
+    public List<CommunityCommentThreadDto> commentThreads(
+            @Argument("postId") String postIdStr,
+            @Argument("limit") Integer limit,
+            @Argument("after") String after,
+            @Argument("repliesPerThread") Integer repliesPerThread) {
+        UUID postId;
+        try {
+            postId = UUID.fromString(postIdStr);
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyList();
         }
+        int limitVal = limit != null && limit > 0 ? Math.min(limit, 50) : 10;
+        int repliesVal = repliesPerThread != null && repliesPerThread >= 0 ? Math.min(repliesPerThread, 10) : 3;
+        return communityCommentService.findThreads(postId, limitVal, after, repliesVal,
+                getCurrentUserDisplayNameOrNull());
+    }
+
+    /** after 커서 없이 offset을 넘긴 구버전 요청이면 offset 페이징 */
+    private static boolean isOffsetRequest(Integer offset, String after) {
+        return after == null && offset != null && offset > 0;
     }
 
-    private CommunityCommentDto commentToDto(CommunityCommentEntity e, String currentAuthorName, boolean isLiked, int replyCount) {
+    /** isLiked는 GraphQL 응답에서 CommunityBatchResolver 값으로 대체된다. replyCount는 reply_count 컬럼 값 */
+    private CommunityCommentDto commentToDto(CommunityCommentEntity e, String currentAuthorName, boolean isLiked) {
         String authorName = e.getAuthorName() != null ? e.getAuthorName() : "";
         boolean isMine = currentAuthorName != null && currentAuthorName.equals(authorName);
         String createdAt = e.getCreatedAt() != null
@@ -304,7 +318,8 @@ public class CommunityResolver {
                 .likes(e.getLikeCount() != null ? e.getLikeCount() : 0)
                 .isLiked(isLiked)
                 .isMine(isMine)
-                .replyCount(replyCount)
+                .replyCount(e.getReplyCount() != null ? e.getReplyCount() : 0)
+                .cursor(KeysetCursor.encode(e.getCreatedAt(), e.getId()))
                 .build();
     }
 
@@ -318,9 +333,7 @@ public class CommunityResolver {
         }
         return communityPostService.findById(postId).map(dto -> {
             String currentAuthorName = getCurrentUserDisplayNameOrNull();
-            UUID currentUserId = getCurrentUserIdOrNull();
             dto.setIsMine(currentAuthorName != null && currentAuthorName.equals(dto.getAuthor()));
-            dto.setIsLiked(currentUserId != null && communityPostLikeRepository.existsByUserIdAndPostId(currentUserId, postId));
             return dto;
         }).orElse(null);
     }
@@ -438,12 +451,6 @@ public class CommunityResolver {
             CommunityPostDto updated = communityPostService.updateIfAuthor(
                     postId, authorName, input.getContent(), input.getPostType(), dentalIds, productIds, imageUrls);
             updated.setIsMine(true);
-            UUID currentUserId = getCurrentUserIdOrNull();
-            if (currentUserId != null) {
-                boolean isLiked = communityPostLikeRepository.findByUserId(currentUserId).stream()
-                        .anyMatch(like -> like.getPostId().equals(postId));
-                updated.setIsLiked(isLiked);
-            }
             return updated;
         } catch (AccessDeniedException e) {
             throw e;
@@ -463,6 +470,7 @@ public class CommunityResolver {
 
     @MutationMapping
     @PreAuthorize("hasRole('USER')")
+    @Transactional
     public CommunityCommentDto createComment(@Argument("input") CreateCommentInput input) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         if (username == null || username.isBlank()) {
@@ -571,33 +579,17 @@ public class CommunityResolver {
                 comment.getProductLinks().add(link);
             }
         }
-        comment = communityCommentRepository.save(comment);
-        log.info("[댓글 작성] 댓글 저장 완료. ID: {}, dentalLinks 개수: {}", comment.getId(), comment.getDentalLinks() != null ? comment.getDentalLinks().size() : 0);
+        // 댓글/이미지/태그는 persist 시 cascade로 함께 등록되고, 커밋 시 한 번의 flush로 INSERT된다
         post.setCommentCount((post.getCommentCount() == null ? 0 : post.getCommentCount()) + 1);
-        communityPostRepository.save(post);
-        // dentalLinks(dental 포함) + productLinks(product 포함) 로드해서 응답에 tags가 나오게 함
-        comment = communityCommentRepository.findByIdWithDentals(comment.getId()).orElse(comment);
-        List<CommunityCommentProductEntity> productLinksList = communityCommentProductRepository.findByCommentIdInWithProduct(List.of(comment.getId()));
-        for (CommunityCommentProductEntity pl : productLinksList) {
-            pl.setComment(comment);
-            comment.getProductLinks().add(pl);
-        }
-        log.info("[댓글 작성] 조회 후 dentalLinks 개수: {}, dentalLinks: {}", 
-                comment.getDentalLinks() != null ? comment.getDentalLinks().size() : 0,
-                comment.getDentalLinks() != null ? comment.getDentalLinks().stream()
-                        .map(l -> l.getDentalId() + "(" + (l.getDental() != null ? l.getDental().getName() : "null") + ")")
-                        .collect(Collectors.joining(", ")) : "null");
-        CommunityCommentDto dto = commentToDto(comment, authorName, false, 0);
-        log.info("[댓글 작성] commentToDto 결과 - tags 개수: {}, tags: {}", 
-                dto.getTags() != null ? dto.getTags().size() : 0,
-                dto.getTags() != null ? dto.getTags().stream()
-                        .map(t -> t.getType() + ":" + t.getName())
-                        .collect(Collectors.joining(", ")) : "null");
-        return dto;
+        communityFeedCache.commentCountChanged(post.getId(), post.getCommentCount());
+        communityTrendingRanking.postChanged(post.getId());
+        // 링크에 dental/product를 이미 넣어 두었으므로 다시 조회하지 않는다
+        return commentToDto(comment, authorName, false);
     }
 
     @MutationMapping
     @PreAuthorize("hasRole('USER')")
+    @Transactional
     public boolean deleteComment(@Argument("id") String commentIdStr) {
         String authorName = getCurrentUserDisplayNameOrNull();
         if (authorName == null) {
@@ -620,12 +612,17 @@ public class CommunityResolver {
         CommunityPostEntity post = comment.getPost();
         int toDecrement = 1;
         if (comment.getParentComment() == null) {
-            toDecrement += (int) communityCommentRepository.countByParentComment_Id(comment.getId());
+            // 답글은 FK ON DELETE CASCADE로 함께 삭제된다
+            toDecrement += comment.getReplyCount() != null ? comment.getReplyCount() : 0;
+        } else {
+            communityCommentRepository.adjustReplyCount(comment.getParentComment().getId(), -1);
         }
         communityCommentRepository.delete(comment);
         post.setCommentCount(Math.max(0, (post.getCommentCount() == null ? 0 : post.getCommentCount()) - toDecrement));
         communityPostRepository.save(post);
-        imageUrls.forEach(communityImageUploadService::deleteByUrl);
+        communityFeedCache.commentCountChanged(post.getId(), post.getCommentCount());
+        communityTrendingRanking.postChanged(post.getId());
+        communityImageDeletionQueue.deleteAfterCommit(imageUrls);
         return true;
     }
 
@@ -651,7 +648,7 @@ public class CommunityResolver {
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("잘못된 부모 댓글 ID입니다.");
         }
-        CommunityCommentEntity parent = communityCommentRepository.findByIdWithDentals(parentId)
+        CommunityCommentEntity parent = communityCommentRepository.findById(parentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
         CommunityPostEntity post = parent.getPost();
         CommunityCommentEntity reply = CommunityCommentEntity.builder()
@@ -661,6 +658,8 @@ public class CommunityResolver {
                 .content(input.getContent().trim())
                 .likeCount(0)
                 .build();
+        // 네이티브 UPDATE는 실행 전에 쌓인 INSERT를 flush시키므로 답글을 persist하기 전에 반영한다
+        communityCommentRepository.adjustReplyCount(parent.getId(), 1);
         reply = communityCommentRepository.save(reply);
         if (input.getImageUrl() != null && !input.getImageUrl().isBlank()) {
             reply.getImages().add(CommunityCommentImageEntity.builder()
@@ -716,16 +715,10 @@ public class CommunityResolver {
                 reply.getProductLinks().add(link);
             }
         }
-        reply = communityCommentRepository.save(reply);
         post.setCommentCount((post.getCommentCount() == null ? 0 : post.getCommentCount()) + 1);
-        communityPostRepository.save(post);
-        reply = communityCommentRepository.findByIdWithDentals(reply.getId()).orElse(reply);
-        List<CommunityCommentProductEntity> replyProductLinks = communityCommentProductRepository.findByCommentIdInWithProduct(List.of(reply.getId()));
-        for (CommunityCommentProductEntity pl : replyProductLinks) {
-            pl.setComment(reply);
-            reply.getProductLinks().add(pl);
-        }
-        return commentToDto(reply, authorName, false, 0);
+        communityFeedCache.commentCountChanged(post.getId(), post.getCommentCount());
+        communityTrendingRanking.postChanged(post.getId());
+        return commentToDto(reply, authorName, false);
     }
 
     @MutationMapping
@@ -765,7 +758,7 @@ public class CommunityResolver {
                         .build());
             }
             comment = communityCommentRepository.save(comment);
-            oldUrls.forEach(communityImageUploadService::deleteByUrl);
+            communityImageDeletionQueue.deleteAfterCommit(oldUrls);
         } else {
             comment = communityCommentRepository.save(comment);
         }
@@ -862,10 +855,7 @@ public class CommunityResolver {
             pl.setComment(comment);
             comment.getProductLinks().add(pl);
         }
-        UUID currentUserId = getCurrentUserIdOrNull();
-        boolean isLiked = currentUserId != null && communityCommentLikeRepository.existsByUserIdAndCommentId(currentUserId, comment.getId());
-        int replyCount = (int) communityCommentRepository.countByParentComment_Id(comment.getId());
-        return commentToDto(comment, authorName, isLiked, replyCount);
+        return commentToDto(comment, authorName, false);
     }
 
     @MutationMapping
@@ -882,9 +872,9 @@ public class CommunityResolver {
             throw new IllegalArgumentException("잘못된 댓글 ID입니다.");
         }
         var result = communityCommentService.toggleCommentLike(userId, commentId);
-        CommunityCommentEntity c = result.comment();
-        int replyCount = (int) communityCommentRepository.countByParentComment_Id(c.getId());
-        return commentToDto(c, getCurrentUserDisplayNameOrNull(), result.isLiked(), replyCount);
+        CommunityCommentDto dto = commentToDto(result.comment(), getCurrentUserDisplayNameOrNull(), result.isLiked());
+        dto.setLikes(result.likeCount());
+        return dto;
     }
 
     @MutationMapping
@@ -1,12 +1,14 @@
 package com.denticheck.api.graphql.resolver;
 
+import com.denticheck.api.domain.dental.dto.DentalRatingStats;
 import com.denticheck.api.domain.dental.entity.DentalEntity;
+import com.denticheck.api.domain.dental.entity.DentalReviewEntity;
 import com.denticheck.api.domain.dental.repository.DentalRepository;
 import com.denticheck.api.domain.dental.service.DentalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
-import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,8 +17,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Controller
 @RequiredArgsConstructor
@@ -74,39 +81,58 @@ public class DentalResolver {
         private int totalElements;
     }
 
-    @SchemaMapping(typeName = "Dental", field = "reviews")
-    public List<com.denticheck.api.domain.dental.entity.DentalReviewEntity> reviews(DentalEntity dental) {
-        return dentalService.getReviews(dental.getId());
+    // Dental 필드는 @BatchMapping으로 결과 전체의 치과 ID를 모아 필드당 쿼리 1번으로 처리한다 (N+1 방지)
+
+    @BatchMapping(typeName = "Dental", field = "reviews")
+    public Map<DentalEntity, List<DentalReviewEntity>> reviews(List<DentalEntity> dentals) {
+        Map<UUID, List<DentalReviewEntity>> byDentalId = dentalService.getReviewsByDentalIds(idsOf(dentals));
+        return mapByDental(dentals, d -> byDentalId.getOrDefault(d.getId(), List.of()));
     }
 
-    @SchemaMapping(typeName = "Dental", field = "ratingAvg")
-    public Double ratingAvg(DentalEntity dental) {
-        List<com.denticheck.api.domain.dental.entity.DentalReviewEntity> reviews = dentalService
-                .getReviews(dental.getId());
-        if (reviews == null || reviews.isEmpty())
-            return 0.0;
-        double sum = reviews.stream().mapToInt(r -> r.getRating().intValue()).sum();
-        return Math.round(sum / reviews.size() * 10.0) / 10.0;
+    @BatchMapping(typeName = "Dental", field = "ratingAvg")
+    public Map<DentalEntity, Double> ratingAvg(List<DentalEntity> dentals) {
+        Map<UUID, DentalRatingStats> stats = dentalService.getRatingStats(idsOf(dentals));
+        return mapByDental(dentals, d -> {
+            DentalRatingStats s = stats.get(d.getId());
+            return s != null ? s.roundedAverage() : 0.0;
+        });
     }
 
-    @SchemaMapping(typeName = "Dental", field = "ratingCount")
-    public Integer ratingCount(DentalEntity dental) {
-        List<com.denticheck.api.domain.dental.entity.DentalReviewEntity> reviews = dentalService
-                .getReviews(dental.getId());
-        return reviews != null ? reviews.size() : 0;
+    @BatchMapping(typeName = "Dental", field = "ratingCount")
+    public Map<DentalEntity, Integer> ratingCount(List<DentalEntity> dentals) {
+        Map<UUID, DentalRatingStats> stats = dentalService.getRatingStats(idsOf(dentals));
+        return mapByDental(dentals, d -> {
+            DentalRatingStats s = stats.get(d.getId());
+            return s != null ? s.countAsInt() : 0;
+        });
     }
 
-    @SchemaMapping(typeName = "Dental", field = "isLiked")
-    public Boolean isLiked(DentalEntity dental) {
+    @BatchMapping(typeName = "Dental", field = "isLiked")
+    public Map<DentalEntity, Boolean> isLiked(List<DentalEntity> dentals) {
+        Set<UUID> likedIds;
         try {
             String username = SecurityContextHolder.getContext().getAuthentication().getName();
-            if (username == null || username.equals("anonymousUser")) {
-                return false;
-            }
-            return dentalService.isLiked(username, dental.getId());
+            likedIds = username == null || username.equals("anonymousUser")
+                    ? Set.of()
+                    : dentalService.findLikedDentalIds(username, idsOf(dentals));
         } catch (Exception e) {
-            return false;
+            likedIds = Set.of();
         }
+        Set<UUID> finalLikedIds = likedIds;
+        return mapByDental(dentals, d -> finalLikedIds.contains(d.getId()));
+    }
+
+    private static Set<UUID> idsOf(List<DentalEntity> dentals) {
+        Set<UUID> ids = new HashSet<>();
+        dentals.forEach(d -> ids.add(d.getId()));
+        return ids;
+    }
+
+    /** BatchMapping 결과는 요청 키(엔티티 인스턴스)별로 반환해야 한다 */
+    private static <V> Map<DentalEntity, V> mapByDental(List<DentalEntity> dentals, Function<DentalEntity, V> value) {
+        Map<DentalEntity, V> result = new LinkedHashMap<>();
+        dentals.forEach(d -> result.put(d, value.apply(d)));
+        return result;
     }
 
     @MutationMapping
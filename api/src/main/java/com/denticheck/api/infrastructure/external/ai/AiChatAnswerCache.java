@@ -0,0 +1,195 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 자주 묻는 질문의 챗봇 답변 캐시 (askChat/streamChat 앞단).
+ * 키는 지식 베이스 버전 + 언어 + 정규화된 질문(ChatQuestionNormalizer)이며, TTL과 최대 개수(LRU)로 제한한다.
+ * 버전은 AI 서비스 /health의 knowledgeVersion(AiEndpointPool 헬스체크)에서 오므로, ingest.py로 다시 적재하면
+ * 모든 노드가 다음 헬스체크 주기에 새 키를 쓰고 이전 버전 항목은 비운다.
+ * invalidateAll()(관리자 mutation invalidateChatAnswerCache)은 요청을 받은 노드만 즉시 비운다.
+ *
+ * <p>메트릭: ai.chat.answer.cache{result=hit|miss}, ai.chat.answer.cache.evictions{cause=size|expired|invalidated},
+ * ai.chat.answer.cache.size
+ */
+@Slf4j
+@Component
+public class AiChatAnswerCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Supplier<String> knowledgeVersion;
+    private final LinkedHashMap<String, CachedAnswer> entries;
+    // entries를 채운 지식 베이스 버전 (entries 잠금 안에서만 접근)
+    private String entriesVersion;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidatedEvictions;
+
+    @Autowired
+    public AiChatAnswerCache(
+            @Value("${ai.chat.cache.enabled:true}") boolean enabled,
+            @Value("${ai.chat.cache.max-entries:1000}") int maxEntries,
+            @Value("${ai.chat.cache.ttl:6h}") Duration ttl,
+            MeterRegistry meterRegistry,
+            AiEndpointPool aiEndpointPool) {
+        this(enabled, maxEntries, ttl, meterRegistry, System::currentTimeMillis, aiEndpointPool::knowledgeVersion);
+    }
+
+    AiChatAnswerCache(boolean enabled, int maxEntries, Duration ttl, MeterRegistry meterRegistry, LongSupplier clock,
+            Supplier<String> knowledgeVersion) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("ai.chat.cache.max-entries는 1 이상이어야 합니다.");
+        }
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttl.toMillis();
+        this.clock = clock;
+        this.knowledgeVersion = knowledgeVersion;
+        // accessOrder=true: 조회할 때마다 최근 사용으로 이동 → 가장 오래 안 쓴 항목부터 제거
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAnswer> eldest) {
+                if (size() > AiChatAnswerCache.this.maxEntries) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = Counter.builder("ai.chat.answer.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("ai.chat.answer.cache").tag("result", "miss").register(meterRegistry);
+        this.sizeEvictions = evictionCounter(meterRegistry, "size");
+        this.expiredEvictions = evictionCounter(meterRegistry, "expired");
+        this.invalidatedEvictions = evictionCounter(meterRegistry, "invalidated");
+        Gauge.builder("ai.chat.answer.cache.size", this, AiChatAnswerCache::size).register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("ai.chat.answer.cache.evictions").tag("cause", cause).register(meterRegistry);
+    }
+
+    public Optional<String> get(String question, String language) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String version = knowledgeVersion.get();
+        String key = key(version, question, language);
+        synchronized (entries) {
+            dropOtherVersion(version);
+            CachedAnswer cached = entries.get(key);
+            if (cached != null && cached.expiresAtMs() <= clock.getAsLong()) {
+                entries.remove(key);
+                expiredEvictions.increment();
+                cached = null;
+            }
+            if (cached == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(cached.answer());
+        }
+    }
+
+    /** 빈 답변(생성 실패)은 캐시하지 않는다 */
+    public void put(String question, String language, String answer) {
+        if (!enabled || answer == null || answer.isBlank()) {
+            return;
+        }
+        String version = knowledgeVersion.get();
+        String key = key(version, question, language);
+        if (key.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            dropOtherVersion(version);
+            entries.put(key, new CachedAnswer(answer, clock.getAsLong() + ttlMs));
+        }
+    }
+
+    /** 지식 베이스 버전이 바뀌면 이전 버전 항목은 다시 조회될 일이 없으므로 비운다 (entries 잠금 안에서 호출) */
+    private void dropOtherVersion(String version) {
+        if (Objects.equals(version, entriesVersion)) {
+            return;
+        }
+        int removed = entries.size();
+        entries.clear();
+        entriesVersion = version;
+        if (removed > 0) {
+            invalidatedEvictions.increment(removed);
+            log.info("지식 베이스 버전 변경({})으로 챗봇 답변 캐시 {}건을 비웠습니다.", version, removed);
+        }
+    }
+
+    /** 전체 무효화. 제거된 항목 수를 반환한다 */
+    public int invalidateAll() {
+        int removed;
+        synchronized (entries) {
+            removed = entries.size();
+            entries.clear();
+        }
+        invalidatedEvictions.increment(removed);
+        log.info("챗봇 답변 캐시를 비웠습니다. 제거: {}건", removed);
+        return removed;
+    }
+
+    /** 만료 항목 정리 (조회 시에도 제거되지만, 다시 묻지 않는 질문이 메모리에 남지 않도록) */
+    @Scheduled(fixedDelayString = "${ai.chat.cache.purge-interval-ms:600000}")
+    public int purgeExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<CachedAnswer> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().expiresAtMs() <= now) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        expiredEvictions.increment(removed);
+        return removed;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static String key(String version, String question, String language) {
+        String normalized = ChatQuestionNormalizer.normalize(question);
+        if (normalized.isEmpty()) {
+            return "";
+        }
+        return (version == null ? "" : version) + ':'
+                + (language == null ? "" : language.toLowerCase(Locale.ROOT)) + ':' + normalized;
+    }
+
+    private record CachedAnswer(String answer, long expiresAtMs) {
+    }
+}
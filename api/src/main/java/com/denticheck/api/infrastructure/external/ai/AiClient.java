@@ -3,9 +3,21 @@ package com.denticheck.api.infrastructure.external.ai;
 import com.denticheck.api.infrastructure.external.ai.dto.AiChatAskRequest;
 import com.denticheck.api.infrastructure.external.ai.dto.AiQualityRequest;
 import com.denticheck.api.infrastructure.external.ai.dto.AiQualityResponse;
+import reactor.core.publisher.Flux;
 
 public interface AiClient {
     AiQualityResponse checkQuality(AiQualityRequest request);
 
     String askChat(AiChatAskRequest request);
+
+    /**
+     * 답변을 생성되는 조각 단위로 스트리밍한다. 구독 취소 시 AI 서버 요청도 끊는다.
+     */
+    Flux<String> streamChat(AiChatAskRequest request);
+
+    /**
+     * 기동 워밍업: 실제 호출에 쓰는 클라이언트로 각 인스턴스에 연결을 미리 열어 둔다.
+     */
+    default void warmUpConnections() {
+    }
 }
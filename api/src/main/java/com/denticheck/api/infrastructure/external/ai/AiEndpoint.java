@@ -0,0 +1,78 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 서비스 인스턴스 1개의 라우팅 상태.
+ * 진행 중 요청 수(inFlight), 연속 실패 수, 퇴출(ejection) 만료 시각, 복귀 시각(slow-start 기준)을 보관한다.
+ */
+@Getter
+class AiEndpoint {
+
+    private final String baseUrl;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    /** 연속 퇴출 횟수 (퇴출 시간 증가용, 성공 시 0으로 초기화) */
+    private volatile int ejectionCount;
+    /** 이 시각(ms) 전까지는 라우팅 대상에서 제외 */
+    private volatile long ejectedUntil;
+    /** 마지막 헬스체크 결과 */
+    private volatile boolean healthy = true;
+    /** 헬스체크로 복귀한 시각(ms). slow-start 가중치 계산 기준 */
+    private volatile long recoveredAt;
+
+    AiEndpoint(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    boolean isAvailable(long now) {
+        return healthy && now >= ejectedUntil;
+    }
+
+    /**
+     * slow-start 가중치 (0.1 ~ 1.0). 퇴출 만료/헬스체크 복귀 직후에는 낮은 가중치로 시작해
+     * slowStartMs 동안 선형으로 1.0까지 올라간다.
+     */
+    double weight(long now, long slowStartMs) {
+        long warmupStart = Math.max(recoveredAt, ejectedUntil);
+        if (slowStartMs <= 0 || warmupStart <= 0 || now >= warmupStart + slowStartMs) {
+            return 1.0;
+        }
+        double ratio = (double) (now - warmupStart) / slowStartMs;
+        return Math.max(0.1, Math.min(1.0, ratio));
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+        ejectionCount = 0;
+    }
+
+    /** @return 이번 실패로 퇴출되었으면 true */
+    boolean recordFailure(long now, int failureThreshold, long baseEjectionMs) {
+        if (consecutiveFailures.incrementAndGet() < failureThreshold || now < ejectedUntil) {
+            return false;
+        }
+        eject(now, baseEjectionMs);
+        return true;
+    }
+
+    void eject(long now, long baseEjectionMs) {
+        int count = Math.min(++ejectionCount, 5);
+        ejectedUntil = now + baseEjectionMs * count;
+        consecutiveFailures.set(0);
+    }
+
+    void markHealthy(long now) {
+        if (!healthy) {
+            recoveredAt = now;
+        }
+        healthy = true;
+    }
+
+    void markUnhealthy() {
+        healthy = false;
+    }
+}
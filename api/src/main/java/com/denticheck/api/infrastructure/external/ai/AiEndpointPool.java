@@ -0,0 +1,278 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 여러 AI 서비스 인스턴스에 대한 클라이언트 측 로드밸런서.
+ * <ul>
+ * <li>진행 중 요청 수가 가장 적은 인스턴스로 라우팅 (least outstanding requests)</li>
+ * <li>연속 실패(I/O 오류, 5xx) 시 일정 시간 라우팅 대상에서 제외 (passive ejection)</li>
+ * <li>주기적으로 /health 호출해 상태 확인 (active health check)</li>
+ * <li>복귀한 인스턴스는 낮은 가중치에서 시작해 점진적으로 트래픽을 받음 (slow-start)</li>
+ * </ul>
+ * ai.client.urls가 비어 있으면 ai.client.url 단일 인스턴스로 동작한다.
+ */
+@Slf4j
+@Component
+public class AiEndpointPool {
+
+    private final List<AiEndpoint> endpoints;
+    private final RestClient healthClient;
+    private final int failureThreshold;
+    private final long ejectionMs;
+    private final long slowStartMs;
+    private final LongSupplier clock;
+    private final AtomicInteger cursor = new AtomicInteger();
+    // AI 서비스 /health가 알려 주는 지식 베이스 버전 (ingest.py 재적재 시 바뀜). 답변 캐시 키에 쓴다
+    private volatile String knowledgeVersion;
+
+    @Autowired
+    public AiEndpointPool(
+            @Value("${ai.client.url}") String url,
+            @Value("${ai.client.urls:}") String urls,
+            @Value("${ai.client.balancer.failure-threshold:3}") int failureThreshold,
+            @Value("${ai.client.balancer.ejection-time:30s}") Duration ejectionTime,
+            @Value("${ai.client.balancer.slow-start:30s}") Duration slowStart,
+            @Value("${ai.client.balancer.health-timeout:2s}") Duration healthTimeout) {
+        this(parseUrls(url, urls), failureThreshold, ejectionTime, slowStart, healthTimeout,
+                System::currentTimeMillis);
+    }
+
+    AiEndpointPool(
+            List<String> baseUrls,
+            int failureThreshold,
+            Duration ejectionTime,
+            Duration slowStart,
+            Duration healthTimeout,
+            LongSupplier clock) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("AI 서비스 URL이 설정되지 않았습니다. (ai.client.url / ai.client.urls)");
+        }
+        this.endpoints = baseUrls.stream().map(AiEndpoint::new).toList();
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.ejectionMs = ejectionTime.toMillis();
+        this.slowStartMs = slowStart.toMillis();
+        this.clock = clock;
+
+        SimpleClientHttpRequestFactory rf = new SimpleClientHttpRequestFactory();
+        rf.setConnectTimeout((int) healthTimeout.toMillis());
+        rf.setReadTimeout((int) healthTimeout.toMillis());
+        this.healthClient = RestClient.builder().requestFactory(rf).build();
+
+        log.info("AI 엔드포인트 {}개로 로드밸런싱합니다: {}", endpoints.size(), baseUrls);
+    }
+
+    /**
+     * 가장 한가한 인스턴스를 골라 call(baseUrl)을 실행한다.
+     * 호출 결과에 따라 해당 인스턴스의 실패 카운트/퇴출 상태를 갱신한다.
+     */
+    public <T> T execute(Function<String, T> call) {
+        try (Lease lease = lease()) {
+            try {
+                return call.apply(lease.baseUrl());
+            } catch (RuntimeException e) {
+                lease.fail(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 스트리밍처럼 호출 구간이 메서드 하나로 끝나지 않는 경우 사용.
+     * close()/release() 전까지 진행 중 요청으로 집계되며, 실패 시 fail()로 알려야 한다.
+     */
+    public Lease lease() {
+        AiEndpoint endpoint = choose();
+        endpoint.getInFlight().incrementAndGet();
+        return new Lease(endpoint);
+    }
+
+    public final class Lease implements AutoCloseable {
+
+        private final AiEndpoint endpoint;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean failed;
+
+        private Lease(AiEndpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String baseUrl() {
+            return endpoint.getBaseUrl();
+        }
+
+        /** I/O 오류, 5xx만 인스턴스 장애로 집계한다. */
+        public void fail(Throwable e) {
+            failed = true;
+            if (isEndpointFailure(e) && endpoint.recordFailure(clock.getAsLong(), failureThreshold, ejectionMs)) {
+                log.warn("AI 엔드포인트를 일시 제외합니다: {} (연속 실패 {}회)", endpoint.getBaseUrl(), failureThreshold);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            endpoint.getInFlight().decrementAndGet();
+            if (!failed) {
+                endpoint.recordSuccess();
+            }
+        }
+
+        /** 클라이언트가 취소한 경우: 성공/실패 어느 쪽으로도 집계하지 않고 진행 중 요청에서만 뺀다. */
+        public void release() {
+            if (closed.compareAndSet(false, true)) {
+                endpoint.getInFlight().decrementAndGet();
+            }
+        }
+    }
+
+    /** 워밍업 등에서 사용하는 현재 엔드포인트 주소 목록 */
+    public List<String> baseUrls() {
+        return endpoints.stream().map(AiEndpoint::getBaseUrl).toList();
+    }
+
+    /** 모든 인스턴스의 /health를 호출해 상태를 갱신한다. */
+    @Scheduled(fixedDelayString = "${ai.client.balancer.health-interval-ms:5000}",
+            initialDelayString = "${ai.client.balancer.health-interval-ms:5000}")
+    public void checkHealth() {
+        for (AiEndpoint endpoint : endpoints) {
+            boolean ok;
+            try {
+                Map<?, ?> health = healthClient.get()
+                        .uri(endpoint.getBaseUrl() + "/health")
+                        .retrieve()
+                        .body(Map.class);
+                ok = true;
+                updateKnowledgeVersion(health != null ? health.get("knowledgeVersion") : null);
+            } catch (Exception e) {
+                ok = false;
+            }
+
+            if (ok) {
+                if (!endpoint.isHealthy()) {
+                    log.info("AI 엔드포인트 헬스체크 복구: {}", endpoint.getBaseUrl());
+                }
+                endpoint.markHealthy(clock.getAsLong());
+            } else if (endpoint.isHealthy()) {
+                log.warn("AI 엔드포인트 헬스체크 실패: {}", endpoint.getBaseUrl());
+                endpoint.markUnhealthy();
+            }
+        }
+    }
+
+    private void updateKnowledgeVersion(Object reported) {
+        if (reported == null) {
+            return;
+        }
+        String version = reported.toString();
+        if (!version.equals(knowledgeVersion)) {
+            log.info("AI 지식 베이스 버전: {} -> {}", knowledgeVersion, version);
+            knowledgeVersion = version;
+        }
+    }
+
+    /** 헬스체크로 마지막에 확인한 지식 베이스 버전. 아직 모르면 null */
+    public String knowledgeVersion() {
+        return knowledgeVersion;
+    }
+
+    /**
+     * 모든 인스턴스가 퇴출/헬스체크 실패 상태인지 여부.
+     * execute/lease는 이 상태에서도 가장 빨리 복귀할 인스턴스로 시도하므로(패닉 모드), 대체 응답이 있는 호출자는 먼저 확인해 바로 대체한다.
+     */
+    public boolean isCircuitOpen() {
+        long now = clock.getAsLong();
+        for (AiEndpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 인스턴스별 상태 스냅샷 (관측/테스트용) */
+    public List<EndpointStatus> status() {
+        long now = clock.getAsLong();
+        return endpoints.stream()
+                .map(e -> new EndpointStatus(e.getBaseUrl(), e.getInFlight().get(), e.isAvailable(now),
+                        e.weight(now, slowStartMs)))
+                .toList();
+    }
+
+    AiEndpoint choose() {
+        long now = clock.getAsLong();
+        int size = endpoints.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+
+        AiEndpoint best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            AiEndpoint candidate = endpoints.get((start + i) % size);
+            if (!candidate.isAvailable(now)) {
+                continue;
+            }
+            double score = (candidate.getInFlight().get() + 1) / candidate.weight(now, slowStartMs);
+            if (score < bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+
+        // 전부 제외된 상태: 완전 차단보다는 가장 먼저 복귀할 인스턴스로 보낸다 (panic mode)
+        AiEndpoint fallback = endpoints.get(start);
+        for (AiEndpoint candidate : endpoints) {
+            if (candidate.isHealthy() && !fallback.isHealthy()) {
+                fallback = candidate;
+            } else if (candidate.isHealthy() == fallback.isHealthy()
+                    && candidate.getEjectedUntil() < fallback.getEjectedUntil()) {
+                fallback = candidate;
+            }
+        }
+        return fallback;
+    }
+
+    private static boolean isEndpointFailure(Throwable e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    private static List<String> parseUrls(String url, String urls) {
+        List<String> out = new ArrayList<>();
+        if (urls != null && !urls.isBlank()) {
+            Arrays.stream(urls.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .distinct()
+                    .forEach(out::add);
+        }
+        if (out.isEmpty() && url != null && !url.isBlank()) {
+            out.add(url.trim());
+        }
+        return out;
+    }
+
+    public record EndpointStatus(String baseUrl, int inFlight, boolean available, double weight) {
+    }
+}
@@ -5,46 +5,260 @@ import com.denticheck.api.infrastructure.external.ai.dto.AiChatAskResponse;
 // import com.denticheck.api.infrastructure.external.ai.dto.AiChatAskResponse;
 import com.denticheck.api.infrastructure.external.ai.dto.AiQualityRequest;
 import com.denticheck.api.infrastructure.external.ai.dto.AiQualityResponse;
+import com.denticheck.api.infrastructure.external.ai.dto.AiChatStreamChunk;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 @Component
 @Slf4j
 public class AiHttpClient implements AiClient {
 
+    private static final Duration STREAM_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration STREAM_FIRST_BYTE_TIMEOUT = Duration.ofSeconds(180);
+    // 응답 헤더 이후 델타 사이 최대 대기. HttpRequest.timeout은 헤더 수신까지만 적용된다
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(60);
+
     private final RestClient restClient;
+    private final AiEndpointPool aiEndpointPool;
+    private final ObjectMapper objectMapper;
+    private final AiChatAnswerCache answerCache;
+    // 스트리밍 전용: 응답 스트림을 닫으면 연결이 끊겨 AI 서버에서 생성이 중단된다
+    private final HttpClient streamHttpClient;
 
-    public AiHttpClient(@Value("${ai.client.url}") String aiUrl, RestClient.Builder builder) {
-        this.restClient = builder.baseUrl(aiUrl).build();
+    public AiHttpClient(RestClient.Builder builder, AiEndpointPool aiEndpointPool, ObjectMapper objectMapper,
+            AiChatAnswerCache answerCache) {
+        // 공유 Builder 빈을 변경하지 않도록 baseUrl 없이 생성하고, 호출마다 풀에서 인스턴스를 고른다
+        this.restClient = builder.build();
+        this.aiEndpointPool = aiEndpointPool;
+        this.objectMapper = objectMapper;
+        this.answerCache = answerCache;
+        this.streamHttpClient = HttpClient.newBuilder()
+                .connectTimeout(STREAM_CONNECT_TIMEOUT)
+                .build();
     }
 
     @Override
     public AiQualityResponse checkQuality(AiQualityRequest request) {
         log.debug("checkQuality() 실행");
         log.info("AI 서비스의 checkQuality를 호출합니다. storageKey: {}", request.getStorageKey());
-        return restClient.post()
-                .uri("/v1/quality")
+        return aiEndpointPool.execute(base -> restClient.post()
+                .uri(base + "/v1/quality")
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(request)
                 .retrieve()
-                .body(AiQualityResponse.class);
+                .body(AiQualityResponse.class));
     }
 
     @Override
     public String askChat(AiChatAskRequest request) {
         log.debug("askChat() 실행");
-        ResponseEntity<AiChatAskResponse> entity = restClient.post()
-                .uri("/v1/chat/ask")
+        Optional<String> cached = answerCache.get(request.getContent(), request.getLanguage());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        if (aiEndpointPool.isCircuitOpen()) {
+            // 채팅은 호출자가 로컬 지식 베이스로 대체하므로 복구 대기 중인 인스턴스를 시도하지 않는다
+            throw new ResourceAccessException("AI 서비스 차단 상태 (모든 인스턴스 사용 불가)");
+        }
+
+        ResponseEntity<AiChatAskResponse> entity = aiEndpointPool.execute(base -> restClient.post()
+                .uri(base + "/v1/chat/ask")
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON)
                 .body(request)
                 .retrieve()
-                .toEntity(AiChatAskResponse.class);
+                .toEntity(AiChatAskResponse.class));
+
+        String answer = entity.getBody() != null ? entity.getBody().getAnswer() : null;
+        answerCache.put(request.getContent(), request.getLanguage(), answer);
+        return answer;
+    }
+
+    @Override
+    public Flux<String> streamChat(AiChatAskRequest request) {
+        log.debug("streamChat() 실행");
+        Optional<String> cached = answerCache.get(request.getContent(), request.getLanguage());
+        if (cached.isPresent()) {
+            return Flux.just(cached.get());
+        }
+        if (aiEndpointPool.isCircuitOpen()) {
+            return Flux.error(new ResourceAccessException("AI 서비스 차단 상태 (모든 인스턴스 사용 불가)"));
+        }
+
+        // 끝까지 정상 수신한 답변만 캐시 (취소/오류로 잘린 답변은 제외)
+        StringBuilder answer = new StringBuilder();
+        return openChatStream(request)
+                .doOnNext(answer::append)
+                .doOnComplete(() -> answerCache.put(request.getContent(), request.getLanguage(), answer.toString()));
+    }
+
+    /**
+     * 인스턴스마다 /health를 RestClient와 스트리밍 HttpClient로 한 번씩 호출해 각 클라이언트의 커넥션 풀에 연결을 만든다.
+     * (AiEndpointPool 헬스체크는 별도 클라이언트를 쓰므로 트래픽용 연결은 열리지 않는다)
+     */
+    @Override
+    public void warmUpConnections() {
+        List<String> failed = new ArrayList<>();
+        for (String base : aiEndpointPool.baseUrls()) {
+            try {
+                restClient.get().uri(base + "/health").retrieve().toBodilessEntity();
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/health"))
+                        .timeout(STREAM_CONNECT_TIMEOUT)
+                        .GET()
+                        .build();
+                streamHttpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("AI 커넥션 워밍업 중단", e);
+            } catch (Exception e) {
+                log.warn("AI 커넥션 워밍업 실패: {}", base, e);
+                failed.add(base);
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new ResourceAccessException("AI 커넥션 워밍업 실패: " + failed);
+        }
+    }
+
+    /**
+     * lease는 구독마다 하나. 결과 집계는 타임아웃 연산자 아래의 doFinally에서 한다:
+     * 정상 완료는 성공, 오류(멈춤 타임아웃 포함)는 fail() 후 close, 클라이언트 취소는 release()로 집계하지 않는다.
+     * (타임아웃도 업스트림을 취소하므로 create 안에서는 취소와 멈춤을 구분할 수 없다)
+     */
+    private Flux<String> openChatStream(AiChatAskRequest request) {
+        return Flux.defer(() -> {
+            AiEndpointPool.Lease lease = aiEndpointPool.lease();
+            return chatStream(request, lease)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        // 멈춘 인스턴스는 장애로 집계해야 퇴출된다
+                        ResourceAccessException error = new ResourceAccessException(
+                                "AI 스트리밍 응답이 " + STREAM_IDLE_TIMEOUT.toSeconds() + "초 이상 멈췄습니다.");
+                        lease.fail(error);
+                        return error;
+                    })
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            lease.release();
+                        } else {
+                            lease.close();
+                        }
+                    });
+        });
+    }
+
+    private Flux<String> chatStream(AiChatAskRequest request, AiEndpointPool.Lease lease) {
+        return Flux.<String>create(sink -> {
+            AtomicReference<Stream<String>> body = new AtomicReference<>();
+            // 정상 종료/오류/구독 취소 모두 여기서 연결을 닫는다 (취소 시 AI 서버로 전파)
+            sink.onDispose(() -> {
+                Stream<String> lines = body.getAndSet(null);
+                if (lines != null) {
+                    lines.close();
+                }
+            });
+
+            try {
+                HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(lease.baseUrl() + "/v1/chat/ask/stream"))
+                        .timeout(STREAM_FIRST_BYTE_TIMEOUT)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.ACCEPT, "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                        .build();
+                HttpResponse<Stream<String>> response = streamHttpClient.send(httpRequest,
+                        HttpResponse.BodyHandlers.ofLines());
+                body.set(response.body());
+
+                int status = response.statusCode();
+                if (status >= 400) {
+                    RuntimeException error = status >= 500
+                            ? new HttpServerErrorException(HttpStatusCode.valueOf(status))
+                            : new HttpClientErrorException(HttpStatusCode.valueOf(status));
+                    lease.fail(error);
+                    sink.error(error);
+                    return;
+                }
 
-        return entity.getBody() != null ? entity.getBody().getAnswer() : null;
+                Iterator<String> lines = response.body().iterator();
+                boolean done = false;
+                while (!sink.isCancelled() && lines.hasNext()) {
+                    String line = lines.next();
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AiChatStreamChunk chunk = objectMapper.readValue(line, AiChatStreamChunk.class);
+                    if (chunk.getError() != null) {
+                        RuntimeException error = new HttpServerErrorException(HttpStatusCode.valueOf(502),
+                                "AI 스트리밍 오류: " + chunk.getError());
+                        lease.fail(error);
+                        sink.error(error);
+                        return;
+                    }
+                    if (chunk.getDelta() != null && !chunk.getDelta().isEmpty()) {
+                        sink.next(chunk.getDelta());
+                    }
+                    if (chunk.isDone()) {
+                        done = true;
+                        break;
+                    }
+                }
+                if (sink.isCancelled()) {
+                    return;
+                }
+                if (!done) {
+                    // done 없이 본문이 끝나면 (AI 워커 종료, 프록시 끊김) 잘린 답변이므로 완료로 취급하지 않는다
+                    RuntimeException error = new ResourceAccessException("AI 스트리밍이 완료 신호 없이 종료되었습니다.");
+                    lease.fail(error);
+                    sink.error(error);
+                    return;
+                }
+                sink.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 종료/취소로 인한 중단: 인스턴스 장애는 아니지만 성공으로 집계되지 않도록 표시
+                lease.fail(e);
+                sink.error(e);
+            } catch (Exception e) {
+                if (sink.isCancelled()) {
+                    // 구독 취소로 스트림을 닫으면서 발생한 예외
+                    return;
+                }
+                RuntimeException error = e instanceof IOException || e instanceof UncheckedIOException
+                        ? new ResourceAccessException("AI 스트리밍 연결 오류: " + e.getMessage())
+                        : new IllegalStateException("AI 스트리밍 응답 처리 오류", e);
+                lease.fail(error);
+                sink.error(error);
+            }
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                // 업스트림이 멈추면 취소 → onDispose에서 본문/lease를 닫아 블로킹된 스레드를 풀어 준다
+                .timeout(Mono.delay(STREAM_FIRST_BYTE_TIMEOUT), delta -> Mono.delay(STREAM_IDLE_TIMEOUT));
     }
 }
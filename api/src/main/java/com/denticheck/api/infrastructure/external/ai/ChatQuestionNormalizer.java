@@ -0,0 +1,44 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import com.denticheck.api.common.util.KoreanText;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 챗봇 답변 캐시 키용 질문 정규화.
+ * "스케일링은 얼마나 자주 해야 하나요?" 와 "스케일링 얼마나  자주 해야 하나요" 가 같은 키가 되도록
+ * 유니코드 정규화(NFKC) → 소문자 → 구두점/기호 제거 → 공백 압축 → 한국어 조사 제거(어간 2글자 이상) 순으로 처리한다.
+ */
+final class ChatQuestionNormalizer {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // 1글자 어간까지 자르면 "치과"와 "치"처럼 다른 질문이 같은 키(같은 답변)가 된다
+    private static final int MIN_STEM = 2;
+
+    private ChatQuestionNormalizer() {
+    }
+
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        text = PUNCTUATION.matcher(text).replaceAll(" ");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+        if (text.isEmpty()) {
+            return text;
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (String token : text.split(" ")) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(KoreanText.stripParticle(token, MIN_STEM));
+        }
+        return sb.toString();
+    }
+}
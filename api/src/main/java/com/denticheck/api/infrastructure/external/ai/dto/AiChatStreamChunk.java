@@ -0,0 +1,21 @@
+package com.denticheck.api.infrastructure.external.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * /v1/chat/ask/stream 응답의 한 줄(NDJSON)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class AiChatStreamChunk {
+    private String delta;
+    private boolean done;
+    private String error;
+}
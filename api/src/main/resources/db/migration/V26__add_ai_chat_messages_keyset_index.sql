@@ -0,0 +1,2 @@
+-- 채팅 이력 키셋 페이지네이션 (session_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC)
+CREATE INDEX idx_ai_chat_messages_session_id_created_at_id ON ai_chat_messages (session_id, created_at, id);
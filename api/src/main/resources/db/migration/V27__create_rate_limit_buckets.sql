@@ -0,0 +1,8 @@
+-- 다중 노드 요청 제한용 공유 토큰 버킷 (rate-limit.store=jdbc 일 때만 사용)
+-- tat_ms: 다음 요청의 이론상 도착 시각(epoch ms). 현재 시각보다 과거면 버킷이 가득 찬 상태
+CREATE TABLE rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tat_ms BIGINT NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_buckets_tat_ms ON rate_limit_buckets (tat_ms);
@@ -0,0 +1,55 @@
+-- ai_chat_messages 월별 범위 파티셔닝 (created_at)
+-- 파티션 키가 PK에 포함되어야 하므로 PK는 (id, created_at)
+-- 이후 월 파티션 생성/보관 기간이 지난 파티션 아카이브는 ChatMessagePartitionScheduler가 담당한다
+
+-- 1. 기존 테이블을 옆으로 치우고 이름이 겹치는 제약/인덱스 이름 변경
+ALTER TABLE ai_chat_messages RENAME TO ai_chat_messages_legacy;
+ALTER TABLE ai_chat_messages_legacy RENAME CONSTRAINT pk_ai_chat_messages TO pk_ai_chat_messages_legacy;
+ALTER TABLE ai_chat_messages_legacy RENAME CONSTRAINT fk_ai_chat_messages_session TO fk_ai_chat_messages_legacy_session;
+ALTER INDEX idx_ai_chat_messages_session_id_created_at_id RENAME TO idx_ai_chat_messages_legacy_session_id_created_at_id;
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE ai_chat_messages (
+    id UUID NOT NULL,
+    session_id UUID NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    content TEXT NOT NULL,
+    citation JSONB,
+    language VARCHAR(10) NOT NULL DEFAULT 'ko',
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    message_type VARCHAR(20) NOT NULL DEFAULT 'TEXT',
+    payload JSONB,
+    CONSTRAINT pk_ai_chat_messages PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_ai_chat_messages_session FOREIGN KEY (session_id) REFERENCES chat_sessions (id)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_ai_chat_messages_session_id_created_at_id ON ai_chat_messages (session_id, created_at, id);
+
+-- 3. 기존 데이터의 가장 오래된 달부터 3개월 뒤까지 월 파티션 생성
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := (date_trunc('month', NOW()) + INTERVAL '3 months')::date;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at)), date_trunc('month', NOW()))::date
+      INTO month_start
+      FROM ai_chat_messages_legacy;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE ai_chat_messages_p%s PARTITION OF ai_chat_messages FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYYMM'), month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 범위 밖(파티션 생성 지연 등) 데이터 보호용. 정상 운영 시에는 비어 있어야 한다
+CREATE TABLE ai_chat_messages_default PARTITION OF ai_chat_messages DEFAULT;
+
+-- 4. 데이터 이전 후 기존 테이블 삭제
+INSERT INTO ai_chat_messages (id, session_id, role, content, citation, language, created_at, updated_at, message_type, payload)
+SELECT id, session_id, role, content, citation, language, created_at, updated_at, message_type, payload
+  FROM ai_chat_messages_legacy;
+
+DROP TABLE ai_chat_messages_legacy;
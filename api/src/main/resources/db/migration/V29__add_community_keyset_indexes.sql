@@ -0,0 +1,11 @@
+-- 커뮤니티 게시글/댓글 키셋 페이지네이션((created_at, id) 커서)용 복합 인덱스
+CREATE INDEX idx_community_posts_created_at_id ON community_posts (created_at DESC, id DESC);
+CREATE INDEX idx_community_posts_post_type_created_at_id ON community_posts (post_type, created_at DESC, id DESC);
+CREATE INDEX idx_community_posts_author_name_created_at_id ON community_posts (author_name, created_at DESC, id DESC);
+
+-- 최상위 댓글 (게시글별 최신순)
+CREATE INDEX idx_community_comments_post_id_created_at_id ON community_comments (post_id, created_at DESC, id DESC)
+    WHERE parent_comment_id IS NULL;
+-- 답글 (부모 댓글별 오름차순). 기존 단일 컬럼 인덱스를 대체
+CREATE INDEX idx_community_comments_parent_id_created_at_id ON community_comments (parent_comment_id, created_at, id);
+DROP INDEX IF EXISTS idx_community_comments_parent_id;
@@ -0,0 +1,4 @@
+-- isLiked 일괄 조회(user_id = ? AND comment_id IN (...))는 uq_community_comment_likes_user_comment (user_id, comment_id)
+-- 인덱스만으로 처리되므로 user_id 단일 인덱스는 쓰기 비용만 늘린다.
+-- 게시글 좋아요는 uq_community_post_likes_user_post (user_id, post_id)가 같은 역할을 한다.
+DROP INDEX IF EXISTS idx_community_comment_likes_user_id;
@@ -0,0 +1,12 @@
+-- 댓글별 답글 수를 비정규화 컬럼으로 유지한다 (답글 작성/삭제 시 애플리케이션에서 원자적으로 증감).
+ALTER TABLE community_comments
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 백필
+UPDATE community_comments c
+   SET reply_count = r.cnt
+  FROM (SELECT parent_comment_id, COUNT(*) AS cnt
+          FROM community_comments
+         WHERE parent_comment_id IS NOT NULL
+         GROUP BY parent_comment_id) r
+ WHERE c.id = r.parent_comment_id;
@@ -0,0 +1,14 @@
+-- 커뮤니티 검색 (CommunityPostSearchRepository)
+-- search_vector: 공백/기호 기준 토큰 (한국어 형태소 분석기 없이 'simple' 사용, 조사는 접두어 검색 '단어:*'로 처리)
+-- content 트라이그램 인덱스: 3자 이상 부분 문자열 검색(ILIKE '%...%')용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE community_posts
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+CREATE INDEX idx_community_posts_search_vector ON community_posts USING GIN (search_vector);
+CREATE INDEX idx_community_posts_content_trgm ON community_posts USING GIN (content gin_trgm_ops);
+
+ALTER TABLE community_comments
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+CREATE INDEX idx_community_comments_search_vector ON community_comments USING GIN (search_vector);
+CREATE INDEX idx_community_comments_content_trgm ON community_comments USING GIN (content gin_trgm_ops);
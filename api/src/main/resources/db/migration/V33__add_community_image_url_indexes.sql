@@ -0,0 +1,4 @@
+-- 내용 주소 기반 이미지 저장: 파일 삭제 전 참조 수 확인 (image_url LIKE '%/ab/cd/<sha256>.jpg')
+-- 접미사 LIKE는 B-tree를 쓸 수 없으므로 트라이그램 인덱스 사용 (pg_trgm은 V32에서 생성)
+CREATE INDEX idx_community_post_images_url_trgm ON community_post_images USING GIN (image_url gin_trgm_ops);
+CREATE INDEX idx_community_comment_images_url_trgm ON community_comment_images USING GIN (image_url gin_trgm_ops);
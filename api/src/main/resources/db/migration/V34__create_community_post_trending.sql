@@ -0,0 +1,12 @@
+-- 인기 게시글(trendingPosts) 순위 테이블. CommunityTrendingRanking이 갱신한다.
+-- score = log10(max(좋아요 + 2 * 댓글, 1)) + 작성 시각(epoch 초) / decay-seconds
+-- 최근 window-days 안에 작성된 게시글만 유지한다.
+CREATE TABLE community_post_trending (
+    post_id    UUID PRIMARY KEY REFERENCES community_posts (id) ON DELETE CASCADE,
+    post_type  VARCHAR(20),
+    score      DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_community_post_trending_score ON community_post_trending (score DESC, post_id DESC);
+CREATE INDEX idx_community_post_trending_type_score ON community_post_trending (post_type, score DESC, post_id DESC);
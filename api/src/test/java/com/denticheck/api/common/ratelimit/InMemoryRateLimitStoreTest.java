@@ -0,0 +1,81 @@
+package com.denticheck.api.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(now::get);
+
+    @Test
+    @DisplayName("버킷 크기만큼 연속 허용하고 이후에는 거절한다")
+    void allowsBurstUpToCapacityThenRejects() {
+        for (int i = 0; i < 5; i++) {
+            RateLimitDecision decision = store.tryConsume("chat:user1", 5, 60_000);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(4 - i);
+        }
+
+        RateLimitDecision rejected = store.tryConsume("chat:user1", 5, 60_000);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isEqualTo(12_000);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(12);
+
+        // 다른 사용자/작업은 별도 버킷
+        assertThat(store.tryConsume("chat:user2", 5, 60_000).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 충전되고 가득 찬 버킷은 정리된다")
+    void refillsOverTimeAndEvictsFullBuckets() {
+        for (int i = 0; i < 5; i++) {
+            store.tryConsume("chat:user1", 5, 60_000);
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertThat(store.tryConsume("chat:user1", 5, 60_000).allowed()).isTrue();
+        assertThat(store.tryConsume("chat:user1", 5, 60_000).allowed()).isFalse();
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        store.evictIdle();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 버킷 크기를 넘겨 허용하지 않는다")
+    void neverAllowsMoreThanCapacityUnderConcurrency() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (store.tryConsume("ai-check:user1", 50, 60_000).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(allowed.get()).isEqualTo(50);
+    }
+}
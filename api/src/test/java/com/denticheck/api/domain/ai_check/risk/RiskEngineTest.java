@@ -0,0 +1,116 @@
+package com.denticheck.api.domain.ai_check.risk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskEngineTest {
+
+    private final RiskEngine riskEngine = new RiskEngine(
+            RiskEngine.load(new ClassPathResource("risk/risk-rules-v1.json"), new ObjectMapper()));
+
+    record Det(String label, double confidence) {
+    }
+
+    private RiskAssessment assess(Det... detections) {
+        return riskEngine.assess(List.of(detections), Det::label, Det::confidence);
+    }
+
+    @Test
+    @DisplayName("별칭을 정규화 라벨로 변환한다")
+    void mapsAliasesToCanonicalLabels() {
+        assertThat(riskEngine.normalizeLabel("Cavity")).isEqualTo("caries");
+        assertThat(riskEngine.normalizeLabel(" plaque ")).isEqualTo("tartar");
+        assertThat(riskEngine.normalizeLabel("oral cancer")).isEqualTo("oral_cancer");
+        assertThat(riskEngine.normalizeLabel("unknown")).isEqualTo("normal");
+        assertThat(riskEngine.normalizeLabel(null)).isEqualTo("normal");
+    }
+
+    @Test
+    @DisplayName("구강병변 신뢰도 기준으로 위험도를 판정한다")
+    void levelFollowsOralLesionConfidence() {
+        assertThat(assess(new Det("lesion", 0.6)).level().level()).isEqualTo("RED");
+        assertThat(assess(new Det("lesion", 0.4)).level().level()).isEqualTo("GREEN");
+        assertThat(assess(new Det("lesion", 0.4), new Det("calculus", 0.2)).level().level()).isEqualTo("YELLOW");
+        assertThat(assess().level().level()).isEqualTo("GREEN");
+    }
+
+    @Test
+    @DisplayName("소견은 우선순위대로 최대 3개이며 정상은 다른 소견이 있으면 제외한다")
+    void findingsFollowPriorityUpToThreeWithoutNormal() {
+        RiskAssessment assessment = assess(
+                new Det("normal", 0.9),
+                new Det("tartar", 0.3),
+                new Det("caries", 0.8),
+                new Det("caries", 0.5),
+                new Det("ulcer", 0.55));
+
+        assertThat(assessment.findingCount()).isEqualTo(3);
+        assertThat(assessment.finding(0).label()).isEqualTo("oral_cancer");
+        assertThat(assessment.finding(0).severity()).isEqualTo("High");
+        assertThat(assessment.finding(1).label()).isEqualTo("caries");
+        assertThat(assessment.finding(1).severity()).isEqualTo("Moderate");
+        assertThat(assessment.findingDetectionCount(1)).isEqualTo(2);
+        assertThat(assessment.findingBestDetection(1)).isEqualTo(2);
+        assertThat(assessment.finding(2).label()).isEqualTo("tartar");
+        assertThat(assessment.finding(2).severity()).isEqualTo("Low");
+    }
+
+    @Test
+    @DisplayName("정상만 있으면 기본 소견을 반환하고 결과 객체는 재사용된다")
+    void normalOnlyReturnsSharedDefaultFinding() {
+        RiskAssessment first = assess(new Det("normal", 0.9));
+        RiskAssessment second = assess();
+
+        assertThat(first.isNoFinding()).isTrue();
+        assertThat(second.isNoFinding()).isTrue();
+        assertThat(first.finding(0)).isSameAs(second.finding(0));
+        assertThat(first.level()).isSameAs(second.level());
+    }
+
+    @Test
+    @DisplayName("라벨 없는 검출은 기본적으로 정상으로 세고 skipUnlabeled면 제외한다")
+    void unlabeledCountsAsNormalUnlessSkipped() {
+        List<Det> detections = Arrays.asList(new Det(null, 0.9), new Det("caries", 0.4));
+
+        RiskAssessment counted = riskEngine.assess(detections, Det::label, Det::confidence);
+        assertThat(counted.hasDefaultLabel()).isTrue();
+
+        RiskAssessment skipped = riskEngine.assess(detections, Det::label, Det::confidence, true);
+        assertThat(skipped.hasDefaultLabel()).isFalse();
+        assertThat(skipped.findingCount()).isEqualTo(1);
+        assertThat(skipped.finding(0).label()).isEqualTo("caries");
+
+        RiskAssessment onlyUnlabeled = riskEngine.assess(List.of(new Det(null, 0.9)), Det::label, Det::confidence, true);
+        assertThat(onlyUnlabeled.isNoFinding()).isTrue();
+        assertThat(onlyUnlabeled.hasDefaultLabel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정상만 있는 경우와 검출이 없는 경우를 구분한다")
+    void distinguishesNormalOnlyFromNoDetections() {
+        RiskAssessment onlyNormal = assess(new Det("normal", 0.9));
+        RiskAssessment empty = assess();
+
+        assertThat(onlyNormal.isNoFinding()).isTrue();
+        assertThat(onlyNormal.hasDefaultLabel()).isTrue();
+        assertThat(onlyNormal.finding(0).title()).isEqualTo("Normal");
+        assertThat(empty.isNoFinding()).isTrue();
+        assertThat(empty.hasDefaultLabel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("프롬프트 규칙은 테이블에서 생성된다")
+    void promptRulesAreGeneratedFromTable() {
+        assertThat(riskEngine.promptRules())
+                .contains("- If oral_cancer confidence >= 0.5 then RED.")
+                .contains("- If caries exists then YELLOW.")
+                .endsWith("- Otherwise GREEN.");
+    }
+}
@@ -0,0 +1,60 @@
+package com.denticheck.api.domain.chatbot.knowledge;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KnowledgeIndexTest {
+
+    private final KnowledgeIndex index = KnowledgeIndex.build(List.of(
+            new KnowledgeDocument("스케일링은 얼마나 자주 받아야 하나요?",
+                    "스케일링은 보통 6개월에서 1년마다 받는 것이 좋습니다.\n치석이 많은 경우 더 자주 받을 수 있습니다.",
+                    "FAQ", "https://example.com/1"),
+            new KnowledgeDocument("잇몸 출혈",
+                    "잇몸에서 피가 나는 것은 치은염의 초기 증상일 수 있습니다.",
+                    "DiseaseInfo", "https://example.com/2"),
+            new KnowledgeDocument("잇몸 출혈",
+                    "잇몸에서 피가 나는 것은 치은염의 초기 증상일 수 있습니다.",
+                    "DiseaseInfo", "https://example.com/2-duplicate"),
+            new KnowledgeDocument("임플란트 관리",
+                    "임플란트 주위는 치간칫솔로 깨끗하게 관리해야 합니다.",
+                    "CommonSense", "https://example.com/3")));
+
+    @Test
+    @DisplayName("조사와 띄어쓰기가 달라도 관련 문서를 찾는다")
+    void findsDocumentsDespiteParticlesAndSpacing() {
+        List<KnowledgeHit> hits = index.search("잇몸에서 피가 나요", 3, 0.5);
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).document().url()).isEqualTo("https://example.com/2");
+        // 중복 수집된 원문은 한 번만 색인된다
+        assertThat(hits).extracting(hit -> hit.document().url()).doesNotContain("https://example.com/2-duplicate");
+        assertThat(index.documentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("점수순으로 문서당 한 문단만 반환한다")
+    void returnsBestParagraphPerDocumentByScore() {
+        List<KnowledgeHit> hits = index.search("스케일링 자주", 3, 0.5);
+
+        assertThat(hits).extracting(hit -> hit.document().url()).containsExactly("https://example.com/1");
+        assertThat(hits.get(0).snippet()).contains("6개월");
+    }
+
+    @Test
+    @DisplayName("색인에 없는 단어나 낮은 점수는 결과가 없다")
+    void noResultsForUnknownWordsOrLowScores() {
+        assertThat(index.search("orthodontics", 3, 0.5)).isEmpty();
+        assertThat(index.search("임플란트", 3, 100.0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 어절은 어간과 음절 bigram으로 토큰화한다")
+    void tokenizesKoreanWordsIntoStemAndBigrams() {
+        assertThat(KnowledgeTokenizer.tokenize("스케일링은 3D-CT"))
+                .containsExactly("스케일링", "스케", "케일", "일링", "3d", "ct");
+    }
+}
@@ -0,0 +1,170 @@
+package com.denticheck.api.domain.chatbot.service;
+
+import com.denticheck.api.domain.chatbot.entity.ChatSessionEntity;
+import com.denticheck.api.domain.chatbot.repository.AiChatMessageRepository;
+import com.denticheck.api.domain.chatbot.repository.ChatSessionRepository;
+import com.denticheck.api.domain.user.entity.UserEntity;
+import com.denticheck.api.domain.user.repository.UserRepository;
+import com.denticheck.api.infrastructure.external.ai.AiClient;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AI 응답이 느린 상황에서 채팅 요청이 DB 커넥션 풀을 점유하지 않는지 확인하는 부하 테스트.
+ * 실제 요청 경로(/graphql sendChatMessage, OSIV 활성)로 호출해 hibernate connection.handling_mode
+ * (트랜잭션 종료 시 커넥션 반납)가 적용되는지 본다. OSIV만 있고 이 설정이 없으면 요청마다 커넥션을 잡고 있어
+ * 풀 크기(4)를 넘는 동시 채팅(16)은 AI 대기 상태에 들어가지 못한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "spring.jpa.open-in-view=true",
+        "rate-limit.enabled=false",
+        "warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+class ChatServiceSlowAiLoadTest {
+
+    private static final int CONCURRENT_CHATS = 16;
+    private static final String CHANNEL = "load_test";
+    private static final String SEND_MUTATION = """
+            {"query": "mutation($channel: String!, $request: ChatAppRequest!) { sendChatMessage(channel: $channel, request: $request) { sessionId assistantContent } }",
+             "variables": {"channel": "%s", "request": {"content": "question %d"}}}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatSessionRepository chatSessionRepository;
+
+    @Autowired
+    private AiChatMessageRepository aiChatMessageRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private AiClient aiClient;
+
+    private UserEntity user;
+
+    @AfterEach
+    void cleanUp() {
+        if (user == null) {
+            return;
+        }
+        chatSessionRepository.findByUserIdAndChannelAndEndedAtIsNull(user.getId(), CHANNEL).ifPresent(session -> {
+            aiChatMessageRepository.deleteAll(aiChatMessageRepository.findAllBySessionIdOrderByCreatedAtAsc(session.getId()));
+            chatSessionRepository.delete(session);
+        });
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("느린 AI 호출 중에는 DB 커넥션을 점유하지 않는다")
+    void slowAiDoesNotExhaustPool() throws Exception {
+        user = userRepository.save(UserEntity.builder()
+                .username("chat_load_" + UUID.randomUUID())
+                .nickname("Load Test")
+                .email("load@example.com")
+                .build());
+        ChatSessionEntity session = chatService.startSession(user.getId(), CHANNEL);
+
+        CountDownLatch allInAi = new CountDownLatch(CONCURRENT_CHATS);
+        CountDownLatch releaseAi = new CountDownLatch(1);
+        given(aiClient.askChat(any())).willAnswer(invocation -> {
+            allInAi.countDown();
+            releaseAi.await(30, TimeUnit.SECONDS);
+            return "ok";
+        });
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        AtomicInteger maxActiveWhileWaiting = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CHATS);
+        try {
+            List<Future<MvcResult>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CHATS; i++) {
+                String body = SEND_MUTATION.formatted(CHANNEL, i);
+                futures.add(executor.submit(() -> mockMvc.perform(post("/graphql")
+                                .with(user(user.getUsername()).roles("USER"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn()));
+            }
+
+            // 풀 크기보다 많은 요청이 동시에 AI 대기 상태에 들어갈 수 있어야 한다
+            assertThat(allInAi.await(15, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 20; i++) {
+                maxActiveWhileWaiting.accumulateAndGet(hikari.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                Thread.sleep(10);
+            }
+
+            // AI 대기 중에도 다른 요청의 쿼리는 바로 커넥션을 얻는다
+            long start = System.nanoTime();
+            chatSessionRepository.findById(session.getId());
+            long probeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            releaseAi.countDown();
+            for (Future<MvcResult> future : futures) {
+                MvcResult result = future.get(15, TimeUnit.SECONDS);
+                // GraphQL HTTP 핸들러는 비동기(ServerResponse.async)로 응답할 수 있다
+                if (result.getRequest().isAsyncStarted()) {
+                    result = mockMvc.perform(asyncDispatch(result)).andReturn();
+                }
+                status().isOk().match(result);
+                jsonPath("$.errors").doesNotExist().match(result);
+                jsonPath("$.data.sendChatMessage.sessionId").value(session.getId().toString()).match(result);
+                jsonPath("$.data.sendChatMessage.assistantContent").value("ok").match(result);
+            }
+
+            assertThat(maxActiveWhileWaiting.get()).isZero();
+            assertThat(probeMs).isLessThan(1_000);
+        } finally {
+            releaseAi.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(chatService.getChatHistory(session.getId())).hasSize(CONCURRENT_CHATS * 2);
+        ChatSessionEntity reloaded = chatSessionRepository.findById(session.getId()).orElseThrow();
+        assertThat(reloaded.getLastMessagePreview()).isEqualTo("ok");
+        assertThat(reloaded.getLastMessageAt()).isNotNull();
+    }
+}
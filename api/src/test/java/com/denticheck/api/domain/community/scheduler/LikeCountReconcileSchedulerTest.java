@@ -0,0 +1,129 @@
+package com.denticheck.api.domain.community.scheduler;
+
+import com.denticheck.api.domain.community.service.impl.CommunityLikeCounter;
+import com.denticheck.api.domain.user.entity.UserEntity;
+import com.denticheck.api.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 버퍼 모드에서 flush와 정합성 점검이 겹칠 때 좋아요 수가 이중 반영되지 않는지 확인한다.
+ * 트랜잭션을 커밋해야 다른 스레드에서 보이므로 @Transactional 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest(properties = {
+        "community.like-buffer.enabled=true",
+        "community.like-buffer.flush-interval-ms=3600000",
+        "warmup.enabled=false"
+})
+class LikeCountReconcileSchedulerTest {
+
+    @Autowired
+    private LikeCountReconcileScheduler likeCountReconcileScheduler;
+
+    @Autowired
+    private CommunityLikeCounter communityLikeCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UUID postId;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(UserEntity.builder()
+                .username("reconcile-" + UUID.randomUUID())
+                .nickname("reconcile")
+                .email("reconcile@example.com")
+                .build());
+        postId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO community_posts (id, author_name, content, like_count, created_at) "
+                + "VALUES (?, 'writer', '본문', 0, now())", postId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM community_posts WHERE id = ?", postId);
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("점검이 행을 잠근 사이 flush가 버퍼를 비워도 점검은 그 게시글을 건너뛰어 좋아요가 한 번만 반영된다")
+    void reconcileSkipsPostWhoseDeltaIsBeingFlushed() throws Exception {
+        // 좋아요 행은 커밋됐고 like_count 반영은 버퍼에 남을 상황 (INSERT의 FK 확인은 잠금과 충돌하므로 먼저 넣는다)
+        jdbcTemplate.update("INSERT INTO community_post_likes (user_id, post_id) VALUES (?, ?)", user.getId(), postId);
+
+        try (Connection holder = dataSource.getConnection()) {
+            holder.setAutoCommit(false);
+            try (PreparedStatement lock = holder.prepareStatement(
+                    "SELECT id FROM community_posts WHERE id = ? FOR UPDATE")) {
+                lock.setObject(1, postId);
+                lock.executeQuery().close();
+            }
+
+            // 1) 점검이 먼저 게시글 행 잠금을 기다린다 (점검 시작 시의 flush는 비어 있음)
+            int waitingBefore = lockWaiters();
+            CompletableFuture<Void> reconcile = CompletableFuture.runAsync(likeCountReconcileScheduler::reconcile);
+            assertThat(waitUntil(() -> lockWaiters() > waitingBefore)).isTrue();
+
+            // 2) 그 뒤 증감분이 버퍼에 들어가고, flush가 버퍼를 비운 채 같은 행의 UPDATE에서 기다린다
+            communityLikeCounter.applyPostDelta(postId, 1);
+            CompletableFuture<Void> flush = CompletableFuture.runAsync(communityLikeCounter::flush);
+            assertThat(waitUntil(() -> lockWaiters() > waitingBefore + 1)).isTrue();
+            assertThat(communityLikeCounter.pendingPostIds()).contains(postId);
+
+            // 3) 잠금을 풀면 점검이 먼저 잠그고 세지만(실제 1) flush 중인 게시글이므로 건너뛰고, 이어서 flush가 +1
+            holder.rollback();
+            reconcile.get(10, TimeUnit.SECONDS);
+            flush.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM community_posts WHERE id = ?",
+                Integer.class, postId)).isEqualTo(1);
+        assertThat(communityLikeCounter.pendingPostIds()).doesNotContain(postId);
+
+        // 다음 점검에서는 건너뛰지 않고 그대로 맞는 값으로 유지된다
+        likeCountReconcileScheduler.reconcile();
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM community_posts WHERE id = ?",
+                Integer.class, postId)).isEqualTo(1);
+    }
+
+    private int lockWaiters() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                 WHERE datname = current_database() AND wait_event_type = 'Lock'
+                """, Integer.class);
+    }
+
+    private static boolean waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
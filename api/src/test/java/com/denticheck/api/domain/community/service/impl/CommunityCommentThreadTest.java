@@ -0,0 +1,156 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.dto.CommunityCommentDto;
+import com.denticheck.api.domain.community.dto.CommunityCommentThreadDto;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.service.CommunityCommentService;
+import com.denticheck.api.domain.dental.entity.DentalEntity;
+import com.denticheck.api.domain.dental.repository.DentalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 스레드 조회 (CommunityCommentThreadRepository SQL 한 번).
+ * 최상위 댓글 최신순 + 스레드마다 답글 오름차순 K개, 커서로 다음 페이지, 이미지/태그 배열 매핑을 확인한다.
+ */
+@SpringBootTest
+@Transactional
+class CommunityCommentThreadTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private CommunityCommentService communityCommentService;
+
+    @Autowired
+    private DentalRepository dentalRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID postId;
+    private UUID oldest;
+    private UUID middle;
+    private UUID newest;
+    private List<UUID> newestReplies;
+    private DentalEntity dental;
+    private long productId;
+
+    @BeforeEach
+    void setUp() {
+        postId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO community_posts (id, author_name, content, created_at) VALUES (?, ?, ?, ?)",
+                postId, "writer", "본문", Timestamp.valueOf(BASE));
+
+        oldest = comment(null, "a", 1);
+        middle = comment(null, "b", 2);
+        newest = comment(null, "tester", 3);
+        // 답글은 작성 순서와 다르게 넣어도 created_at 오름차순으로 나와야 한다
+        UUID third = comment(newest, "r3", 13);
+        UUID first = comment(newest, "r1", 11);
+        UUID second = comment(newest, "r2", 12);
+        newestReplies = List.of(first, second, third);
+        comment(middle, "r", 21);
+        jdbcTemplate.update("UPDATE community_comments SET reply_count = 3 WHERE id = ?", newest);
+        jdbcTemplate.update("UPDATE community_comments SET reply_count = 1 WHERE id = ?", middle);
+
+        dental = dentalRepository.saveAndFlush(DentalEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Thread Dental")
+                .address("address")
+                .source("source")
+                .sourceKey("thread-" + UUID.randomUUID())
+                .lat(BigDecimal.valueOf(37.5))
+                .lng(BigDecimal.valueOf(127.0))
+                .build());
+        productId = jdbcTemplate.queryForObject(
+                "INSERT INTO partner_products (category, name, price) VALUES ('기타', 'Thread Product', 1000) RETURNING id",
+                Long.class);
+        jdbcTemplate.update("INSERT INTO community_comment_images (id, comment_id, image_url, sort_order) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), newest, "/uploads/community/second.jpg", 1);
+        jdbcTemplate.update("INSERT INTO community_comment_images (id, comment_id, image_url, sort_order) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), newest, "/uploads/community/first.jpg", 0);
+        jdbcTemplate.update("INSERT INTO community_comment_dentals (comment_id, dental_id) VALUES (?, ?)", newest, dental.getId());
+        jdbcTemplate.update("INSERT INTO community_comment_products (comment_id, product_id) VALUES (?, ?)", newest, productId);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글은 최신순이고 답글은 오름차순으로 K개까지 자른다")
+    void threadsAreNewestFirstWithOldestRepliesCappedAtK() {
+        List<CommunityCommentThreadDto> threads = communityCommentService.findThreads(postId, 10, null, 2, "tester");
+
+        assertThat(threads).extracting(t -> t.getComment().getId()).containsExactly(newest, middle, oldest);
+
+        CommunityCommentThreadDto first = threads.get(0);
+        assertThat(first.getReplies()).extracting(CommunityCommentDto::getId)
+                .containsExactlyElementsOf(newestReplies.subList(0, 2));
+        assertThat(first.getHasMoreReplies()).isTrue();
+        assertThat(first.getComment().getIsMine()).isTrue();
+
+        assertThat(threads.get(1).getReplies()).hasSize(1);
+        assertThat(threads.get(1).getHasMoreReplies()).isFalse();
+        assertThat(threads.get(2).getReplies()).isEmpty();
+        assertThat(threads.get(2).getHasMoreReplies()).isFalse();
+    }
+
+    @Test
+    @DisplayName("K가 답글 수보다 크면 전부 나오고 더보기가 없다")
+    void allRepliesWithoutMoreWhenKExceedsReplyCount() {
+        CommunityCommentThreadDto first = communityCommentService.findThreads(postId, 1, null, 5, null).get(0);
+
+        assertThat(first.getReplies()).extracting(CommunityCommentDto::getId).containsExactlyElementsOf(newestReplies);
+        assertThat(first.getHasMoreReplies()).isFalse();
+        assertThat(first.getComment().getIsMine()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 읽는다")
+    void cursorContinuesToNextPage() {
+        List<CommunityCommentThreadDto> page1 = communityCommentService.findThreads(postId, 2, null, 2, null);
+        assertThat(page1).extracting(t -> t.getComment().getId()).containsExactly(newest, middle);
+
+        String cursor = page1.get(1).getComment().getCursor();
+        List<CommunityCommentThreadDto> page2 = communityCommentService.findThreads(postId, 2, cursor, 2, null);
+
+        assertThat(page2).extracting(t -> t.getComment().getId()).containsExactly(oldest);
+        // 답글은 최상위 댓글 페이지에 섞이지 않는다
+        assertThat(page2.get(0).getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지와 병원/상품 태그를 배열로 함께 읽는다")
+    void readsImagesAndTagsFromArrays() {
+        CommunityCommentDto comment = communityCommentService.findThreads(postId, 1, null, 0, null).get(0).getComment();
+
+        assertThat(comment.getImages()).containsExactly("/uploads/community/first.jpg", "/uploads/community/second.jpg");
+        assertThat(comment.getTags()).containsExactly(
+                new CommunityPostDto.PostTagDto("hospital", "Thread Dental", dental.getId().toString()),
+                new CommunityPostDto.PostTagDto("product", "Thread Product", String.valueOf(productId)));
+
+        CommunityCommentDto untagged = communityCommentService.findThreads(postId, 3, null, 0, null).get(2).getComment();
+        assertThat(untagged.getImages()).isEmpty();
+        assertThat(untagged.getTags()).isEmpty();
+    }
+
+    private UUID comment(UUID parentId, String author, int minutes) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO community_comments (id, post_id, parent_comment_id, author_name, content, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, id, postId, parentId, author, author + " 댓글", Timestamp.valueOf(BASE.plusMinutes(minutes)));
+        return id;
+    }
+}
@@ -0,0 +1,107 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommunityFeedCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CommunityFeedCache cache(int maxPosts) {
+        return new CommunityFeedCache(true, maxPosts, Duration.ofSeconds(60), meterRegistry, now::get);
+    }
+
+    private Supplier<List<CommunityPostDto>> loader(List<CommunityPostDto> posts) {
+        return () -> {
+            loads.incrementAndGet();
+            return posts;
+        };
+    }
+
+    private static List<CommunityPostDto> posts(int count) {
+        List<CommunityPostDto> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(CommunityPostDto.builder().id(UUID.randomUUID()).likes(0).comments(0).build());
+        }
+        return posts;
+    }
+
+    @Test
+    @DisplayName("첫 조회에서 앞부분을 채우고 이후 페이지는 캐시에서 응답한다")
+    void firstReadFillsHeadAndLaterPagesHitCache() {
+        CommunityFeedCache cache = cache(6);
+        List<CommunityPostDto> head = posts(6);
+
+        assertThat(cache.getPage(null, 0, 3, loader(head)).orElseThrow()).hasSize(3);
+        assertThat(cache.getPage(null, 3, 3, loader(head)).orElseThrow())
+                .extracting("id").containsExactly(head.get(3).getId(), head.get(4).getId(), head.get(5).getId());
+        assertThat(cache.getPageAfter(null, head.get(1).getId(), 3).orElseThrow()).hasSize(3);
+        // 범위 밖 요청은 DB로 보낸다
+        assertThat(cache.getPage(null, 6, 3, loader(head))).isEmpty();
+        assertThat(cache.getPageAfter(null, head.get(4).getId(), 3)).isEmpty();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("community.feed.cache").tag("result", "hit").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답은 복사본이라 사용자별 필드를 채워도 캐시에 남지 않는다")
+    void responsesAreCopiesSoUserFieldsDoNotLeak() {
+        CommunityFeedCache cache = cache(10);
+        cache.getPage("product", 0, 5, loader(posts(3))).orElseThrow().forEach(dto -> dto.setIsMine(true));
+
+        assertThat(cache.getPage("product", 0, 5, loader(List.of())).orElseThrow())
+                .extracting("isMine").containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("카운트와 삭제는 패치하고 작성은 해당 피드만 무효화한다")
+    void patchesCountsAndDeletesAndInvalidatesOnCreate() {
+        CommunityFeedCache cache = cache(10);
+        List<CommunityPostDto> head = posts(3);
+        cache.getPage(null, 0, 10, loader(head));
+        cache.getPage("hospital", 0, 10, loader(posts(2)));
+
+        cache.likeCountChanged(head.get(0).getId(), 7);
+        cache.commentCountChanged(head.get(0).getId(), 2);
+        cache.postDeleted(head.get(1).getId());
+        List<CommunityPostDto> page = cache.getPage(null, 0, 10, loader(List.of())).orElseThrow();
+        assertThat(page).extracting("id").containsExactly(head.get(0).getId(), head.get(2).getId());
+        assertThat(page.get(0).getLikes()).isEqualTo(7);
+        assertThat(page.get(0).getComments()).isEqualTo(2);
+        assertThat(head.get(0).getLikes()).isZero();
+
+        cache.postCreated("product");
+        assertThat(cache.getPage("hospital", 0, 10, loader(List.of())).orElseThrow()).hasSize(2);
+        assertThat(cache.getPage(null, 0, 10, loader(List.of())).orElseThrow()).isEmpty();
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 읽는다")
+    void reloadsAfterTtl() {
+        CommunityFeedCache cache = cache(10);
+        cache.getPage(null, 0, 5, loader(posts(2)));
+        now.addAndGet(60_000);
+
+        cache.getPage(null, 0, 5, loader(posts(2)));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("community.feed.cache.invalidations").tag("cause", "expired").counter().count())
+                .isEqualTo(1);
+    }
+}
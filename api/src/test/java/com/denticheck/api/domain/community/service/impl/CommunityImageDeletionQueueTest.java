@@ -0,0 +1,56 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.service.CommunityImageUploadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CommunityImageDeletionQueueTest {
+
+    private final AtomicLong now = new AtomicLong(10_000);
+    private final CommunityImageUploadService uploadService = mock(CommunityImageUploadService.class);
+    private final CommunityImageDeletionQueue queue =
+            new CommunityImageDeletionQueue(uploadService, 100, 3, new SimpleMeterRegistry(), now::get);
+
+    @Test
+    @DisplayName("flush 때 예약된 URL을 삭제하고 빈 URL은 건너뛴다")
+    void deletesQueuedUrlsOnFlush() {
+        given(uploadService.deleteByUrl("a")).willReturn(true);
+        given(uploadService.deleteByUrl("b")).willReturn(true);
+
+        queue.deleteAfterCommit(List.of("a", "b", " "));
+        queue.flush();
+
+        verify(uploadService).deleteByUrl("a");
+        verify(uploadService).deleteByUrl("b");
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제 실패는 간격을 늘려 재시도하고 최대 횟수 뒤 포기한다")
+    void failedDeletionIsRetriedWithBackoffThenDropped() {
+        given(uploadService.deleteByUrl("a")).willReturn(false);
+        queue.enqueue(List.of("a"));
+
+        queue.flush(); // 1회 실패 → 1초 뒤 재시도
+        queue.flush();
+        verify(uploadService, times(1)).deleteByUrl("a");
+        assertThat(queue.pendingCount()).isEqualTo(1);
+
+        now.addAndGet(1_000);
+        queue.flush(); // 2회 실패 → 2초 뒤 재시도
+        now.addAndGet(2_000);
+        queue.flush(); // 3회 실패 → 포기
+        verify(uploadService, times(3)).deleteByUrl("a");
+        assertThat(queue.pendingCount()).isZero();
+    }
+}
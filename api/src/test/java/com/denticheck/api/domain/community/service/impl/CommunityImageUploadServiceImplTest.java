@@ -0,0 +1,112 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.repository.CommunityCommentImageRepository;
+import com.denticheck.api.domain.community.repository.CommunityPostImageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class CommunityImageUploadServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    private final CommunityPostImageRepository postImageRepository = mock(CommunityPostImageRepository.class);
+    private final CommunityCommentImageRepository commentImageRepository = mock(CommunityCommentImageRepository.class);
+    private CommunityImageUploadServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CommunityImageUploadServiceImpl(mock(CommunityImageVariantGenerator.class),
+                postImageRepository, commentImageRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "localDir", dir.toString());
+        ReflectionTestUtils.setField(service, "baseUrl", "http://localhost:8080/uploads/community");
+    }
+
+    private static MockMultipartFile image(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "image/jpeg", content);
+    }
+
+    private long storedFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 내용은 해시 경로에 한 번만 저장된다")
+    void sameContentIsStoredOnceUnderHashPath() throws Exception {
+        byte[] content = "same image bytes".getBytes();
+
+        String first = service.uploadImage(image("a.jpeg", content));
+        String second = service.uploadImage(image("b.JPG", content));
+        String other = service.uploadImage(image("c.jpg", "other image bytes".getBytes()));
+
+        assertThat(first).isEqualTo(second).matches(".*/uploads/community/[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}\\.jpg");
+        assertThat(other).isNotEqualTo(first);
+        assertThat(storedFiles()).isEqualTo(2); // 임시 파일도 남지 않음
+    }
+
+    @Test
+    @DisplayName("참조 중이거나 최근 업로드된 파일은 삭제하지 않는다")
+    void deleteKeepsFileWhileReferencedOrRecentlyUploaded() throws Exception {
+        String url = service.uploadImage(image("a.png", "shared".getBytes()));
+        String relative = url.substring(url.indexOf("/uploads/community/") + "/uploads/community/".length());
+        Path path = dir.resolve(relative);
+
+        given(postImageRepository.countByImageUrlEndingWith(anyString())).willReturn(1L);
+        service.deleteByUrl(url);
+        assertThat(path).exists();
+
+        given(postImageRepository.countByImageUrlEndingWith(anyString())).willReturn(0L);
+        service.deleteByUrl(url);
+        assertThat(path).exists(); // 삭제 유예 시간 내
+
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+        service.deleteByUrl(url);
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("툼스톤으로 옮기는 사이 참조가 생기면 파일을 되돌린다")
+    void deleteRestoresFileReferencedWhileMovingToTombstone() throws Exception {
+        String url = service.uploadImage(image("a.png", "racing".getBytes()));
+        String relative = url.substring(url.indexOf("/uploads/community/") + "/uploads/community/".length());
+        Path path = dir.resolve(relative);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        // 첫 확인 때는 참조가 없다가 툼스톤으로 옮긴 뒤 다시 확인할 때 참조가 생긴 경우
+        given(postImageRepository.countByImageUrlEndingWith(anyString())).willReturn(0L, 1L);
+        service.deleteByUrl(url);
+
+        assertThat(path).exists();
+        assertThat(storedFiles()).isEqualTo(1); // 툼스톤이 남지 않음
+    }
+
+    @Test
+    @DisplayName("구버전 UUID 파일은 툼스톤 없이 바로 삭제한다")
+    void legacyUuidFileIsDeletedDirectly() throws Exception {
+        Path legacy = Files.writeString(dir.resolve("3f2b8c1e-0000-4000-8000-000000000000.jpg"), "legacy");
+
+        service.deleteByUrl("http://localhost:8080/uploads/community/" + legacy.getFileName());
+        service.deleteByUrl("http://localhost:8080/uploads/community/../secret.jpg");
+
+        assertThat(legacy).doesNotExist();
+    }
+}
@@ -0,0 +1,86 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.common.querycount.SqlStatementCounter;
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.service.CommunityPostService;
+import com.denticheck.api.domain.dental.entity.DentalEntity;
+import com.denticheck.api.domain.dental.repository.DentalRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 작성 시 실행되는 SQL 문 수.
+ * 치과 존재 확인 SELECT 1 + 게시글 INSERT 1 + 치과 태그 INSERT 배치 1 + 이미지 INSERT 배치 1 = 4,
+ * 태그/이미지 개수와 무관해야 한다.
+ */
+@SpringBootTest
+@Transactional
+class CommunityPostCreateStatementCountTest {
+
+    @Autowired
+    private CommunityPostService communityPostService;
+
+    @Autowired
+    private DentalRepository dentalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<UUID> dentalIds;
+
+    @BeforeEach
+    void setUp() {
+        List<DentalEntity> dentals = dentalRepository.saveAll(List.of(dental("a"), dental("b"), dental("c")));
+        entityManager.flush();
+        entityManager.clear();
+        dentalIds = dentals.stream().map(DentalEntity::getId).toList();
+    }
+
+    @Test
+    @DisplayName("태그와 이미지가 하나씩이면 SQL 4번")
+    void fourStatementsForOneTagAndImage() {
+        assertThat(statementsForCreate(dentalIds.subList(0, 1), List.of("/uploads/community/a.jpg"))).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("태그와 이미지가 여러 개여도 배치로 묶여 SQL 4번")
+    void fourStatementsForManyTagsAndImages() {
+        List<String> images = List.of("/uploads/community/a.jpg", "/uploads/community/b.jpg",
+                "/uploads/community/c.jpg", "/uploads/community/d.jpg");
+        assertThat(statementsForCreate(dentalIds, images)).isEqualTo(4);
+    }
+
+    private int statementsForCreate(List<UUID> dentals, List<String> images) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            CommunityPostDto created = communityPostService.create("tester", "내용", null, dentals, null, images);
+            // 테스트 트랜잭션은 커밋되지 않으므로 커밋 시점의 flush를 직접 실행한다
+            entityManager.flush();
+            assertThat(created.getTags()).hasSize(dentals.size());
+            assertThat(created.getImages()).hasSize(images.size());
+            return scope.count();
+        }
+    }
+
+    private static DentalEntity dental(String key) {
+        return DentalEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Statement Count Dental " + key)
+                .address("address")
+                .source("source")
+                .sourceKey("statement-count-" + key + "-" + UUID.randomUUID())
+                .lat(BigDecimal.valueOf(37.5))
+                .lng(BigDecimal.valueOf(127.0))
+                .build();
+    }
+}
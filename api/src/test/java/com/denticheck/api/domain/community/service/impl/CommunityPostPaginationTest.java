@@ -0,0 +1,109 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.dto.CommunityPostDto;
+import com.denticheck.api.domain.community.service.CommunityPostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 목록의 after 커서 페이징과 구버전 offset 페이징.
+ * 다른 데이터와 섞이지 않도록 테스트마다 고유한 작성자 이름으로 조회한다 (작성자 목록은 피드 캐시를 거치지 않음).
+ */
+@SpringBootTest
+@Transactional
+class CommunityPostPaginationTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private CommunityPostService communityPostService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String author;
+    private List<UUID> newestFirst;
+
+    @BeforeEach
+    void setUp() {
+        author = "page-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int minutes = 1; minutes <= 7; minutes++) {
+            post(minutes);
+        }
+        // 같은 시각의 게시글이 있어도 (created_at, id) 커서라 빠지거나 겹치지 않아야 한다
+        post(4);
+        // 동점 내 순서는 Postgres uuid 정렬을 따르므로 기대 순서도 DB에서 읽는다
+        newestFirst = jdbcTemplate.queryForList(
+                "SELECT id FROM community_posts WHERE author_name = ? ORDER BY created_at DESC, id DESC",
+                UUID.class, author);
+    }
+
+    @Test
+    @DisplayName("after 커서로 끝까지 읽으면 최신순으로 빠짐없이 한 번씩 나온다")
+    void cursorPagesCoverAllPostsInOrder() {
+        List<UUID> paged = new ArrayList<>();
+        String after = null;
+        for (int i = 0; i < newestFirst.size(); i++) {
+            List<CommunityPostDto> page = communityPostService.findByAuthorName(author, 3, after);
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(dto -> paged.add(dto.getId()));
+            after = page.get(page.size() - 1).getCursor();
+        }
+
+        assertThat(paged).containsExactlyElementsOf(newestFirst);
+    }
+
+    @Test
+    @DisplayName("offset이 limit의 배수가 아니어도 커서 페이징과 같은 위치부터 읽는다")
+    void offsetPageMatchesCursorPosition() {
+        List<CommunityPostDto> page = communityPostService.findByAuthorName(author, 3, 2);
+
+        assertThat(page).extracting(CommunityPostDto::getId).containsExactlyElementsOf(newestFirst.subList(2, 5));
+
+        String after = communityPostService.findByAuthorName(author, 2, null).get(1).getCursor();
+        assertThat(communityPostService.findByAuthorName(author, 3, after))
+                .extracting(CommunityPostDto::getId).containsExactlyElementsOf(newestFirst.subList(2, 5));
+    }
+
+    @Test
+    @DisplayName("게시글 수를 넘는 offset은 빈 목록이다")
+    void offsetPastLastPostIsEmpty() {
+        assertThat(communityPostService.findByAuthorName(author, 3, 20)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허용 범위를 넘는 offset은 빈 목록 대신 after 커서를 쓰라는 오류를 낸다")
+    void offsetBeyondLimitIsRejected() {
+        int tooFar = CommunityPostService.MAX_LEGACY_OFFSET + 1;
+
+        assertThat(communityPostService.findByAuthorName(author, 3, CommunityPostService.MAX_LEGACY_OFFSET)).isEmpty();
+        assertThatThrownBy(() -> communityPostService.findByAuthorName(author, 3, tooFar))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("after");
+        assertThatThrownBy(() -> communityPostService.findAll(3, tooFar, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> communityPostService.findLikedByUser(UUID.randomUUID(), 3, tooFar))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void post(int minutes) {
+        jdbcTemplate.update("INSERT INTO community_posts (id, author_name, content, created_at) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), author, "본문", Timestamp.valueOf(BASE.plusMinutes(minutes)));
+    }
+}
@@ -0,0 +1,131 @@
+package com.denticheck.api.domain.community.service.impl;
+
+import com.denticheck.api.domain.community.repository.CommunityTrendingRepository;
+import com.denticheck.api.domain.community.repository.CommunityTrendingRepository.RankedPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 인기 게시글 순위 (V34 community_post_trending).
+ * 점수 식, (score, id) 커서 페이지, window-days가 지난 게시글 제외를 확인한다.
+ * 다른 데이터와 섞이지 않도록 테스트마다 고유한 post_type으로 조회한다.
+ */
+@SpringBootTest
+@Transactional
+class CommunityTrendingRankingTest {
+
+    private static final double DECAY_SECONDS = 45000;
+
+    @Autowired
+    private CommunityTrendingRepository communityTrendingRepository;
+
+    @Autowired
+    private CommunityTrendingRanking communityTrendingRanking;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String postType;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        postType = "t-" + UUID.randomUUID().toString().substring(0, 8);
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("점수는 반응의 log10과 작성 시각 감쇠의 합이다")
+    void scoreIsLogReactionsPlusAgeDecay() {
+        UUID tenReactions = post(8, 1, now);
+        UUID noReaction = post(0, 0, now);
+        // 반응이 10배면 decay-seconds만큼 먼저 쓴 글과 같은 점수
+        UUID hundredEarlier = post(100, 0, now.minusSeconds((long) DECAY_SECONDS));
+        communityTrendingRepository.upsert(List.of(tenReactions, noReaction, hundredEarlier),
+                now.minusDays(7), DECAY_SECONDS);
+
+        double age = now.toEpochSecond(ZoneOffset.UTC) / DECAY_SECONDS;
+        List<RankedPost> ranked = communityTrendingRepository.findTop(postType, null, null, 10);
+
+        assertThat(ranked).hasSize(3);
+        assertThat(score(ranked, tenReactions)).isCloseTo(1 + age, within(1e-6));
+        assertThat(score(ranked, noReaction)).isCloseTo(age, within(1e-6));
+        assertThat(score(ranked, hundredEarlier)).isCloseTo(score(ranked, tenReactions), within(1e-6));
+        assertThat(ranked.get(2).postId()).isEqualTo(noReaction);
+    }
+
+    @Test
+    @DisplayName("같은 점수가 있어도 커서로 빠짐없이 이어진다")
+    void cursorCoversTiedScoresWithoutGaps() {
+        List<UUID> ids = List.of(post(3, 0, now), post(3, 0, now), post(3, 0, now), post(9, 0, now), post(0, 0, now));
+        communityTrendingRepository.upsert(ids, now.minusDays(7), DECAY_SECONDS);
+        List<RankedPost> all = communityTrendingRepository.findTop(postType, null, null, 10);
+
+        List<RankedPost> paged = new ArrayList<>();
+        RankedPost last = null;
+        for (int i = 0; i < ids.size(); i++) {
+            List<RankedPost> page = communityTrendingRepository.findTop(postType,
+                    last != null ? last.score() : null, last != null ? last.postId() : null, 2);
+            if (page.isEmpty()) {
+                break;
+            }
+            paged.addAll(page);
+            last = page.get(page.size() - 1);
+        }
+
+        // 동점 내 순서는 Postgres uuid 정렬(바이트 순)을 따르므로 점수 순서와 커서 연속성만 확인한다
+        assertThat(all).isSortedAccordingTo(Comparator.comparingDouble(RankedPost::score).reversed());
+        assertThat(paged).containsExactlyElementsOf(all);
+        assertThat(paged).extracting(RankedPost::postId).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("window-days가 지난 게시글은 순위에서 빠진다")
+    void postsOlderThanWindowDaysAreDropped() {
+        UUID recent = post(1, 0, now.minusDays(1));
+        UUID old = post(50, 0, now.minusDays(10));
+        communityTrendingRepository.upsert(List.of(recent, old), now.minusDays(30), DECAY_SECONDS);
+        assertThat(communityTrendingRepository.findTop(postType, null, null, 10))
+                .extracting(RankedPost::postId).containsExactlyInAnyOrder(recent, old);
+
+        // 기본 window-days(7)로 전체 재계산 + 제외
+        communityTrendingRanking.refreshAll();
+
+        assertThat(communityTrendingRepository.findTop(postType, null, null, 10))
+                .extracting(RankedPost::postId).containsExactly(recent);
+        // 기간 밖 게시글은 개별 갱신으로도 다시 들어오지 않는다
+        communityTrendingRepository.upsert(List.of(old), now.minusDays(7), DECAY_SECONDS);
+        assertThat(communityTrendingRepository.findTop(postType, null, null, 10))
+                .extracting(RankedPost::postId).containsExactly(recent);
+    }
+
+    private UUID post(int likes, int comments, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO community_posts (id, author_name, content, post_type, like_count, comment_count, created_at)
+                VALUES (?, 'writer', '본문', ?, ?, ?, ?)
+                """, id, postType, likes, comments, Timestamp.valueOf(createdAt));
+        return id;
+    }
+
+    private static double score(List<RankedPost> ranked, UUID postId) {
+        return ranked.stream().filter(r -> r.postId().equals(postId)).findFirst().orElseThrow().score();
+    }
+}
@@ -0,0 +1,118 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import com.denticheck.api.common.util.KoreanText;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiChatAnswerCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final AtomicReference<String> knowledgeVersion = new AtomicReference<>("v1");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AiChatAnswerCache cache(int maxEntries) {
+        return new AiChatAnswerCache(true, maxEntries, Duration.ofMinutes(10), meterRegistry, now::get,
+                knowledgeVersion::get);
+    }
+
+    @Test
+    @DisplayName("조사, 구두점, 공백, 전각 문자가 달라도 같은 키가 된다")
+    void sameKeyDespiteParticlesPunctuationSpacesAndFullWidth() {
+        assertThat(ChatQuestionNormalizer.normalize("스케일링은 얼마나 자주 해야 하나요?"))
+                .isEqualTo(ChatQuestionNormalizer.normalize("  스케일링  얼마나 자주 해야 하나요"));
+        assertThat(ChatQuestionNormalizer.normalize("잇몸에서 피가 나는데 심각한가요？"))
+                .isEqualTo(ChatQuestionNormalizer.normalize("잇몸 피가 나는데 심각한가요"));
+        assertThat(ChatQuestionNormalizer.normalize("How often should I get SCALING?"))
+                .isEqualTo("how often should i get scaling");
+        assertThat(KoreanText.stripParticle("이")).isEqualTo("이");
+    }
+
+    @Test
+    @DisplayName("조사를 떼면 1글자만 남는 어절은 그대로 두어 다른 질문이 같은 키가 되지 않는다")
+    void particleStrippingDoesNotCollapseDifferentQuestions() {
+        assertThat(ChatQuestionNormalizer.normalize("치과 추천")).isNotEqualTo(ChatQuestionNormalizer.normalize("치 추천"));
+        assertThat(ChatQuestionNormalizer.normalize("이가 아파요")).isNotEqualTo(ChatQuestionNormalizer.normalize("이 아파요"));
+        assertThat(ChatQuestionNormalizer.normalize("피가 나요")).isNotEqualTo(ChatQuestionNormalizer.normalize("피 나요"));
+        assertThat(ChatQuestionNormalizer.normalize("치아가 시려요")).isEqualTo(ChatQuestionNormalizer.normalize("치아 시려요"));
+
+        AiChatAnswerCache cache = cache(10);
+        cache.put("치과 추천", "ko", "치과 답변");
+        assertThat(cache.get("치 추천", "ko")).isEmpty();
+        assertThat(cache.get("치과 추천", "ko")).contains("치과 답변");
+    }
+
+    @Test
+    @DisplayName("지식 베이스 버전이 바뀌면 이전 답변을 돌려주지 않고 비운다")
+    void knowledgeVersionChangeDropsOldAnswers() {
+        AiChatAnswerCache cache = cache(10);
+        cache.put("q1", "en", "old");
+
+        knowledgeVersion.set("v2");
+        assertThat(cache.get("q1", "en")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("ai.chat.answer.cache.evictions").tag("cause", "invalidated").counter().count())
+                .isEqualTo(1);
+
+        cache.put("q1", "en", "new");
+        assertThat(cache.get("q1", "en")).contains("new");
+    }
+
+    @Test
+    @DisplayName("정규화된 질문으로 조회하고 언어별로 구분한다")
+    void looksUpByNormalizedQuestionPerLanguage() {
+        AiChatAnswerCache cache = cache(10);
+        cache.put("Is bleeding gums serious?", "en", "answer");
+
+        assertThat(cache.get("is bleeding gums serious", "en")).contains("answer");
+        assertThat(cache.get("is bleeding gums serious", "ko")).isEmpty();
+        assertThat(meterRegistry.get("ai.chat.answer.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.chat.answer.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 만료되고 빈 답변은 저장하지 않는다")
+    void expiresAfterTtlAndSkipsBlankAnswers() {
+        AiChatAnswerCache cache = cache(10);
+        cache.put("q1", "en", "a1");
+        cache.put("q2", "en", " ");
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertThat(cache.get("q1", "en")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("ai.chat.answer.cache.evictions").tag("cause", "expired").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+    void evictsLeastRecentlyUsedWhenFull() {
+        AiChatAnswerCache cache = cache(2);
+        cache.put("q1", "en", "a1");
+        cache.put("q2", "en", "a2");
+        cache.get("q1", "en");
+        cache.put("q3", "en", "a3");
+
+        assertThat(cache.get("q1", "en")).contains("a1");
+        assertThat(cache.get("q2", "en")).isEmpty();
+        assertThat(cache.get("q3", "en")).contains("a3");
+    }
+
+    @Test
+    @DisplayName("전체 무효화")
+    void invalidateAllClearsEntries() {
+        AiChatAnswerCache cache = cache(10);
+        cache.put("q1", "en", "a1");
+        cache.put("q2", "en", "a2");
+
+        assertThat(cache.invalidateAll()).isEqualTo(2);
+        assertThat(cache.get("q1", "en")).isEmpty();
+        assertThat(meterRegistry.get("ai.chat.answer.cache.size").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,269 @@
+package com.denticheck.api.infrastructure.external.ai;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AiEndpointPool 라우팅/퇴출/헬스체크 검증 (JDK HttpServer 스텁 인스턴스 사용)
+ */
+class AiEndpointPoolTest {
+
+    private final List<StubAi> stubs = new ArrayList<>();
+    private final RestClient restClient = RestClient.create();
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @AfterEach
+    void tearDown() {
+        stubs.forEach(s -> s.server.stop(0));
+    }
+
+    @Test
+    @DisplayName("진행 중 요청이 적은 인스턴스로 라우팅한다")
+    void routesToInstanceWithFewestInFlight() throws Exception {
+        StubAi a = startStub("a");
+        StubAi b = startStub("b");
+        AiEndpointPool pool = pool(a, b);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = executor.submit(() -> pool.execute(base -> get(base + "/slow")));
+            // 어느 한쪽에서 느린 요청이 처리 중일 때까지 대기
+            assertThat(waitUntil(() -> a.slowInProgress.get() + b.slowInProgress.get() == 1)).isTrue();
+            StubAi busy = a.slowInProgress.get() == 1 ? a : b;
+            StubAi idle = busy == a ? b : a;
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(pool.execute(base -> get(base + "/fast"))).isEqualTo(idle.name);
+            }
+            assertThat(busy.fastHits.get()).isZero();
+
+            busy.release.countDown();
+            assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(busy.name);
+        } finally {
+            a.release.countDown();
+            b.release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 5xx 발생 시 인스턴스를 제외한다")
+    void ejectsInstanceAfterConsecutive5xx() throws Exception {
+        StubAi a = startStub("a");
+        StubAi b = startStub("b");
+        b.failing.set(true);
+        AiEndpointPool pool = pool(a, b);
+
+        int ok = 0;
+        for (int i = 0; i < 12; i++) {
+            try {
+                pool.execute(base -> get(base + "/fast"));
+                ok++;
+            } catch (HttpServerErrorException e) {
+                // 실패 인스턴스로 라우팅된 요청
+            }
+        }
+
+        // 임계치(3회)에 도달한 뒤로는 b로 요청이 가지 않는다
+        assertThat(b.fastHits.get()).isEqualTo(3);
+        assertThat(ok).isEqualTo(9);
+        assertThat(pool.status())
+                .filteredOn(s -> s.baseUrl().equals(b.baseUrl()))
+                .singleElement()
+                .satisfies(s -> assertThat(s.available()).isFalse());
+
+        // 퇴출 시간이 지나면 다시 라우팅 대상에 포함된다
+        clock.addAndGet(Duration.ofSeconds(31).toMillis());
+        b.failing.set(false);
+        assertThat(pool.status()).allSatisfy(s -> assertThat(s.available()).isTrue());
+    }
+
+    @Test
+    @DisplayName("헬스체크 복구 후 slow start로 가중치가 올라간다")
+    void weightRampsUpWithSlowStartAfterRecovery() throws Exception {
+        StubAi a = startStub("a");
+        StubAi b = startStub("b");
+        AiEndpointPool pool = pool(a, b);
+
+        b.failing.set(true);
+        pool.checkHealth();
+        assertThat(statusOf(pool, b).available()).isFalse();
+        for (int i = 0; i < 4; i++) {
+            assertThat(pool.execute(base -> get(base + "/fast"))).isEqualTo("a");
+        }
+
+        b.failing.set(false);
+        clock.addAndGet(1_000L);
+        pool.checkHealth();
+        assertThat(statusOf(pool, b).available()).isTrue();
+        assertThat(statusOf(pool, b).weight()).isLessThan(1.0);
+
+        clock.addAndGet(Duration.ofSeconds(30).toMillis());
+        assertThat(statusOf(pool, b).weight()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전체 인스턴스 장애 시에도 요청을 보낸다")
+    void stillRoutesWhenAllInstancesAreDown() {
+        StubAi a = startStub("a");
+        a.failing.set(true);
+        AiEndpointPool pool = pool(a);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> pool.execute(base -> get(base + "/fast")))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(a.fastHits.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("멈춘 스트림(타임아웃)은 실패로 집계되어 연속되면 인스턴스를 제외한다")
+    void stalledStreamCountsAsFailureAndEjects() {
+        StubAi a = startStub("a");
+        AiEndpointPool pool = pool(a);
+
+        // AiHttpClient가 멈춤 타임아웃에서 하는 것과 같이 fail() 후 close()
+        for (int i = 0; i < 3; i++) {
+            AiEndpointPool.Lease lease = pool.lease();
+            lease.fail(new ResourceAccessException("AI 스트리밍 응답이 60초 이상 멈췄습니다."));
+            lease.close();
+        }
+
+        assertThat(statusOf(pool, a).available()).isFalse();
+        assertThat(statusOf(pool, a).inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 취소한 스트림은 성공으로 집계되지 않아 연속 실패가 초기화되지 않는다")
+    void cancelledStreamIsNeitherSuccessNorFailure() {
+        StubAi a = startStub("a");
+        AiEndpointPool pool = pool(a);
+
+        for (int i = 0; i < 2; i++) {
+            AiEndpointPool.Lease lease = pool.lease();
+            lease.fail(new ResourceAccessException("stalled"));
+            lease.close();
+        }
+        for (int i = 0; i < 5; i++) {
+            AiEndpointPool.Lease cancelled = pool.lease();
+            cancelled.release();
+            cancelled.close(); // release 뒤 close는 무시
+        }
+        assertThat(statusOf(pool, a).available()).isTrue();
+        assertThat(statusOf(pool, a).inFlight()).isZero();
+
+        AiEndpointPool.Lease lease = pool.lease();
+        lease.fail(new ResourceAccessException("stalled"));
+        lease.close();
+        assertThat(statusOf(pool, a).available()).isFalse();
+    }
+
+    private AiEndpointPool pool(StubAi... instances) {
+        List<String> urls = new ArrayList<>();
+        for (StubAi s : instances) {
+            urls.add(s.baseUrl());
+        }
+        return new AiEndpointPool(urls, 3, Duration.ofSeconds(30), Duration.ofSeconds(30),
+                Duration.ofSeconds(1), clock::get);
+    }
+
+    private String get(String url) {
+        return restClient.get().uri(url).retrieve().body(String.class);
+    }
+
+    private AiEndpointPool.EndpointStatus statusOf(AiEndpointPool pool, StubAi stub) {
+        return pool.status().stream()
+                .filter(s -> s.baseUrl().equals(stub.baseUrl()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static boolean waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private StubAi startStub(String name) {
+        try {
+            StubAi stub = new StubAi(name);
+            stubs.add(stub);
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** /health, /fast, /slow 를 제공하는 스텁 AI 인스턴스 */
+    private static class StubAi {
+        final String name;
+        final HttpServer server;
+        final AtomicBoolean failing = new AtomicBoolean();
+        final AtomicInteger fastHits = new AtomicInteger();
+        final AtomicInteger slowInProgress = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        StubAi(String name) throws IOException {
+            this.name = name;
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            this.server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/health", ex -> respond(ex, failing.get() ? 503 : 200, "{\"status\":\"ok\"}"));
+            server.createContext("/fast", ex -> {
+                fastHits.incrementAndGet();
+                respond(ex, failing.get() ? 500 : 200, name);
+            });
+            server.createContext("/slow", ex -> {
+                slowInProgress.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(ex, 200, name);
+            });
+            server.start();
+        }
+
+        String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private static void respond(com.sun.net.httpserver.HttpExchange ex, int status, String body)
+                throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(bytes);
+            }
+        }
+    }
+}
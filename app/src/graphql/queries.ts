@@ -45,8 +45,8 @@ export const SEARCH_DENTALS = gql`
 
 
 export const GET_POSTS = gql`
-  query GetPosts($limit: Int, $offset: Int, $postType: String) {
-    posts(limit: $limit, offset: $offset, postType: $postType) {
+  query GetPosts($limit: Int, $after: String, $postType: String) {
+    posts(limit: $limit, after: $after, postType: $postType) {
       id
       author
       authorInitial
@@ -63,13 +63,14 @@ export const GET_POSTS = gql`
       postType
       isMine
       isLiked
+      cursor
     }
   }
 `;
 
 export const GET_POSTS_LIKED_BY_ME = gql`
-  query GetPostsLikedByMe($limit: Int, $offset: Int) {
-    postsLikedByMe(limit: $limit, offset: $offset) {
+  query GetPostsLikedByMe($limit: Int, $after: String) {
+    postsLikedByMe(limit: $limit, after: $after) {
       id
       author
       authorInitial
@@ -86,13 +87,14 @@ export const GET_POSTS_LIKED_BY_ME = gql`
       postType
       isMine
       isLiked
+      cursor
     }
   }
 `;
 
 export const GET_POSTS_BY_ME = gql`
-  query GetPostsByMe($limit: Int, $offset: Int) {
-    postsByMe(limit: $limit, offset: $offset) {
+  query GetPostsByMe($limit: Int, $after: String) {
+    postsByMe(limit: $limit, after: $after) {
       id
       author
       authorInitial
@@ -109,6 +111,7 @@ export const GET_POSTS_BY_ME = gql`
       postType
       isMine
       isLiked
+      cursor
     }
   }
 `;
@@ -137,8 +140,8 @@ export const GET_POST = gql`
 `;
 
 export const GET_COMMENTS = gql`
-  query GetComments($postId: ID!, $limit: Int, $offset: Int) {
-    comments(postId: $postId, limit: $limit, offset: $offset) {
+  query GetComments($postId: ID!, $limit: Int, $after: String) {
+    comments(postId: $postId, limit: $limit, after: $after) {
       id
       author
       content
@@ -153,6 +156,7 @@ export const GET_COMMENTS = gql`
       isLiked
       isMine
       replyCount
+      cursor
     }
   }
 `;
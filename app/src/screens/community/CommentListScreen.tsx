@@ -75,6 +75,7 @@ export default function CommentListScreen() {
     isLiked: boolean;
     isMine: boolean;
     replyCount?: number;
+    cursor?: string | null;
   };
 
   const {
@@ -90,6 +91,7 @@ export default function CommentListScreen() {
     parseItems: (data) => data.comments,
     baseVariables: { postId: postId ?? '' },
     getItemId: (item) => item.id,
+    getCursor: (item) => item.cursor,
     resetKey: postId,
   });
 
@@ -82,6 +82,7 @@ export default function CommunityScreen() {
     postType: string | null;
     isMine: boolean;
     isLiked: boolean;
+    cursor?: string | null;
   };
 
   const {
@@ -105,6 +106,7 @@ export default function CommunityScreen() {
           ? (data.postsLikedByMe ?? [])
           : data.posts,
     getItemId: (item) => item.id,
+    getCursor: (item) => item.cursor,
     baseVariables: isSpecialView
       ? {}
       : { postType: selectedTab === "all" ? null : selectedTab },
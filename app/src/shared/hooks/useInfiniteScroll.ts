@@ -15,6 +15,11 @@ export type UseInfiniteScrollOptions<TData, TItem> = {
   getItemId?: (item: TItem) => string;
   /** If this value changes, the list is reset and the first page is queried again (e.g. filter tab selectedTab) */
   resetKey?: unknown;
+  /**
+   * Keyset cursor of an item. If provided, the next page is requested with $after (cursor of the last item)
+   * instead of $offset, so items inserted meanwhile do not shift pages.
+   */
+  getCursor?: (item: TItem) => string | null | undefined;
 };
 
 export type UseInfiniteScrollResult<TItem> = {
@@ -28,8 +33,8 @@ export type UseInfiniteScrollResult<TItem> = {
 };
 
 /**
- * Infinite scroll hook based on limit/offset.
- * Query must accept $limit, $offset variables.
+ * Infinite scroll hook based on limit/offset or limit/after (keyset cursor).
+ * Query must accept $limit and $offset (or $after when getCursor is given) variables.
  */
 export function useInfiniteScroll<TData, TItem>({
   query,
@@ -38,6 +43,7 @@ export function useInfiniteScroll<TData, TItem>({
   baseVariables = {},
   getItemId,
   resetKey,
+  getCursor,
 }: UseInfiniteScrollOptions<TData, TItem>): UseInfiniteScrollResult<TItem> {
   const [items, setItems] = useState<TItem[]>([]);
   const [hasMore, setHasMore] = useState(true);
@@ -46,7 +52,9 @@ export function useInfiniteScroll<TData, TItem>({
   parseItemsRef.current = parseItems;
 
   const { data, loading, error, refetch: refetchQuery } = useQuery<TData>(query, {
-    variables: { ...baseVariables, limit: pageSize, offset: 0 },
+    variables: getCursor
+      ? { ...baseVariables, limit: pageSize }
+      : { ...baseVariables, limit: pageSize, offset: 0 },
     notifyOnNetworkStatusChange: true,
     fetchPolicy: "cache-and-network", // Draw immediately with cache, update with latest data in background
   });
@@ -75,9 +83,11 @@ export function useInfiniteScroll<TData, TItem>({
 
   const loadMore = () => {
     if (loadingMore || !hasMore || items.length === 0) return;
-    const offset = items.length;
+    const pageVariables = getCursor
+      ? { after: getCursor(items[items.length - 1]) }
+      : { offset: items.length };
     fetchMore({
-      variables: { ...baseVariables, limit: pageSize, offset },
+      variables: { ...baseVariables, limit: pageSize, ...pageVariables },
     }).then((result) => {
       const payload = result.data;
       if (payload == null) return;